@@ -63,7 +63,9 @@ locals {
   app_environment_base = [
     { name = "SPRING_PROFILES_ACTIVE", value = var.environment == "prod" ? "production" : var.environment },
     { name = "AWS_REGION", value = var.aws_region },
-    { name = "RESERVATION_TTL_MINUTES", value = tostring(var.reservation_ttl_minutes) },
+    { name = "RESERVATION_TIMEOUT_MINUTES", value = tostring(var.reservation_ttl_minutes) },
+    { name = "ORDER_ADMISSION_TOKENS_PER_SECOND", value = tostring(var.order_admission_tokens_per_second) },
+    { name = "ORDER_ADMISSION_BURST", value = tostring(var.order_admission_burst) },
   ]
 
   # DynamoDB table mappings
@@ -72,14 +74,22 @@ locals {
     { name = "DYNAMODB_TABLE_TICKETS", value = module.dynamodb.tickets_table_name },
     { name = "DYNAMODB_TABLE_ORDERS", value = module.dynamodb.orders_table_name },
     { name = "DYNAMODB_TABLE_INVENTORY", value = module.dynamodb.inventory_table_name },
+    { name = "DYNAMODB_TABLE_IDEMPOTENCY", value = module.dynamodb.idempotency_table_name },
+    { name = "DYNAMODB_TABLE_EVENT_PROVISIONING", value = module.dynamodb.event_provisioning_table_name },
   ]
 
   # SQS queue mappings
   app_environment_sqs = [
     { name = "SQS_ORDER_QUEUE_URL", value = module.sqs.purchase_queue_url },
+    { name = "SQS_HIGH_PRIORITY_QUEUE_URL", value = module.sqs.priority_queue_url },
     { name = "SQS_RESERVATION_EXPIRY_QUEUE_URL", value = module.sqs.reservation_expiry_queue_url },
   ]
 
+  # Secretos propios del root module, se suman a los del módulo secrets
+  app_secrets = concat(module.secrets.secret_env_map, [
+    { name = "ORDER_WAITING_ROOM_SIGNING_KEY", valueFrom = aws_secretsmanager_secret.waiting_room_signing_key.arn },
+  ])
+
   # Combine all environment variables
   app_environment = concat(
     local.app_environment_base,
@@ -113,7 +123,7 @@ module "iam" {
   aws_region      = var.aws_region
   sqs_queue_arns  = module.sqs.queue_arns
   dynamodb_table_arns = module.dynamodb.table_arns
-  secret_arns     = module.secrets.secret_arns
+  secret_arns     = concat(module.secrets.secret_arns, [aws_secretsmanager_secret.waiting_room_signing_key.arn])
 }
 
 module "dynamodb" {
@@ -154,6 +164,22 @@ module "alb" {
   allowed_cidr_blocks = var.alb_allowed_cidr_blocks
 }
 
+# Llave HMAC compartida por todas las tareas para firmar los tokens de la sala de espera
+resource "random_password" "waiting_room_signing_key" {
+  length  = 64
+  special = false
+}
+
+resource "aws_secretsmanager_secret" "waiting_room_signing_key" {
+  name_prefix = "${var.project_name}-${var.environment}-waiting-room-key-"
+  description = "HMAC key for order waiting room tokens"
+}
+
+resource "aws_secretsmanager_secret_version" "waiting_room_signing_key" {
+  secret_id     = aws_secretsmanager_secret.waiting_room_signing_key.id
+  secret_string = random_password.waiting_room_signing_key.result
+}
+
 module "ecs" {
   source = "./modules/ecs"
 
@@ -172,7 +198,7 @@ module "ecs" {
   app_environment = local.app_environment
 
   # Secrets from Secrets Manager (injected as env vars)
-  app_secrets = module.secrets.secret_env_map
+  app_secrets = local.app_secrets
 
   cpu              = var.ecs_task_cpu
   memory           = var.ecs_task_memory
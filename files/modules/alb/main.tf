@@ -172,11 +172,11 @@ resource "aws_lb_target_group" "app" {
   # Deregistration delay para graceful shutdown
   deregistration_delay = 30
 
-  # Stickiness para sesiones (opcional)
+  # Stickiness: la sala de espera de /orders vive en cada tarea, el cliente debe volver a la misma
   stickiness {
     type            = "lb_cookie"
-    cookie_duration = 86400  # 1 día
-    enabled         = false   # Deshabilitado para stateless apps
+    cookie_duration = var.stickiness_duration_seconds
+    enabled         = true
   }
 
   tags = merge(local.common_tags, {
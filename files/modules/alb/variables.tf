@@ -29,3 +29,9 @@ variable "allowed_cidr_blocks" {
   type        = list(string)
   default     = ["0.0.0.0/0"]
 }
+
+variable "stickiness_duration_seconds" {
+  description = "Duration of the ALB stickiness cookie, should cover the waiting room token TTL"
+  type        = number
+  default     = 900
+}
@@ -434,3 +434,113 @@ resource "aws_appautoscaling_policy" "inventory_write" {
     target_value = 70.0
   }
 }
+
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# IDEMPOTENCY TABLE - Órdenes ya procesadas por el consumer
+# TTL sobre expiresAt (epoch seconds) para que los registros caduquen solos
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+resource "aws_dynamodb_table" "idempotency" {
+  name           = "${var.project_name}-${var.environment}-idempotency"
+  billing_mode   = "PROVISIONED"
+  read_capacity  = 25
+  write_capacity = 25
+  hash_key       = "idempotencyKey"
+
+  attribute {
+    name = "idempotencyKey"
+    type = "S"
+  }
+
+  ttl {
+    attribute_name = "expiresAt"
+    enabled        = true
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+
+  point_in_time_recovery {
+    enabled = var.enable_pitr
+  }
+
+  tags = merge(local.common_tags, {
+    Name = "${var.project_name}-${var.environment}-idempotency"
+  })
+}
+
+# Auto-scaling para idempotency (una lectura y una escritura por orden)
+resource "aws_appautoscaling_target" "idempotency_read" {
+  max_capacity       = 100
+  min_capacity       = 10
+  resource_id        = "table/${aws_dynamodb_table.idempotency.name}"
+  scalable_dimension = "dynamodb:table:ReadCapacityUnits"
+  service_namespace  = "dynamodb"
+}
+
+resource "aws_appautoscaling_policy" "idempotency_read" {
+  name               = "${var.project_name}-${var.environment}-idempotency-read-scaling"
+  policy_type        = "TargetTrackingScaling"
+  resource_id        = aws_appautoscaling_target.idempotency_read.resource_id
+  scalable_dimension = aws_appautoscaling_target.idempotency_read.scalable_dimension
+  service_namespace  = aws_appautoscaling_target.idempotency_read.service_namespace
+
+  target_tracking_scaling_policy_configuration {
+    predefined_metric_specification {
+      predefined_metric_type = "DynamoDBReadCapacityUtilization"
+    }
+    target_value = 70.0
+  }
+}
+
+resource "aws_appautoscaling_target" "idempotency_write" {
+  max_capacity       = 100
+  min_capacity       = 10
+  resource_id        = "table/${aws_dynamodb_table.idempotency.name}"
+  scalable_dimension = "dynamodb:table:WriteCapacityUnits"
+  service_namespace  = "dynamodb"
+}
+
+resource "aws_appautoscaling_policy" "idempotency_write" {
+  name               = "${var.project_name}-${var.environment}-idempotency-write-scaling"
+  policy_type        = "TargetTrackingScaling"
+  resource_id        = aws_appautoscaling_target.idempotency_write.resource_id
+  scalable_dimension = aws_appautoscaling_target.idempotency_write.scalable_dimension
+  service_namespace  = aws_appautoscaling_target.idempotency_write.service_namespace
+
+  target_tracking_scaling_policy_configuration {
+    predefined_metric_specification {
+      predefined_metric_type = "DynamoDBWriteCapacityUtilization"
+    }
+    target_value = 70.0
+  }
+}
+
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# EVENT PROVISIONING TABLE - Progreso del aprovisionamiento de tickets
+# Una fila por evento, tráfico bajo (solo al crear eventos y al reanudar)
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+resource "aws_dynamodb_table" "event_provisioning" {
+  name           = "${var.project_name}-${var.environment}-event-provisioning"
+  billing_mode   = "PROVISIONED"
+  read_capacity  = 5
+  write_capacity = 5
+  hash_key       = "eventId"
+
+  attribute {
+    name = "eventId"
+    type = "S"
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+
+  point_in_time_recovery {
+    enabled = var.enable_pitr
+  }
+
+  tags = merge(local.common_tags, {
+    Name = "${var.project_name}-${var.environment}-event-provisioning"
+  })
+}
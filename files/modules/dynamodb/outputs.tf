@@ -38,12 +38,34 @@ output "inventory_table_arn" {
   value       = aws_dynamodb_table.inventory.arn
 }
 
+output "idempotency_table_name" {
+  description = "Idempotency table name"
+  value       = aws_dynamodb_table.idempotency.name
+}
+
+output "idempotency_table_arn" {
+  description = "Idempotency table ARN"
+  value       = aws_dynamodb_table.idempotency.arn
+}
+
+output "event_provisioning_table_name" {
+  description = "Event provisioning table name"
+  value       = aws_dynamodb_table.event_provisioning.name
+}
+
+output "event_provisioning_table_arn" {
+  description = "Event provisioning table ARN"
+  value       = aws_dynamodb_table.event_provisioning.arn
+}
+
 output "table_arns" {
   description = "List of all table ARNs"
   value = [
     aws_dynamodb_table.events.arn,
     aws_dynamodb_table.tickets.arn,
     aws_dynamodb_table.orders.arn,
-    aws_dynamodb_table.inventory.arn
+    aws_dynamodb_table.inventory.arn,
+    aws_dynamodb_table.idempotency.arn,
+    aws_dynamodb_table.event_provisioning.arn
   ]
 }
@@ -73,6 +73,34 @@ resource "aws_sqs_queue" "order_processing" {
   })
 }
 
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# HIGH PRIORITY QUEUE - Órdenes cuya reserva está por expirar
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+resource "aws_sqs_queue" "order_processing_priority" {
+  name                       = "${var.project_name}-${var.environment}-order-processing-priority.fifo"
+  fifo_queue                 = true
+  content_based_deduplication = true
+  
+  # Mismos timeouts que la cola principal; el consumer la sondea con mayor peso
+  message_retention_seconds  = var.message_retention_seconds
+  visibility_timeout_seconds = var.visibility_timeout
+  receive_wait_time_seconds  = 20
+
+  # Encryption at rest
+  sqs_managed_sse_enabled = true
+
+  # Comparte la DLQ de order processing
+  redrive_policy = jsonencode({
+    deadLetterTargetArn = aws_sqs_queue.order_processing_dlq.arn
+    maxReceiveCount     = var.max_receive_count
+  })
+
+  tags = merge(local.common_tags, {
+    Name = "${var.project_name}-${var.environment}-order-processing-priority"
+    Type = "priority-queue"
+  })
+}
+
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
 # RESERVATION EXPIRY QUEUE - Cleanup de reservaciones expiradas
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
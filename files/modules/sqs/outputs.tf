@@ -13,6 +13,16 @@ output "purchase_queue_name" {
   value       = aws_sqs_queue.order_processing.name
 }
 
+output "priority_queue_url" {
+  description = "High priority order processing queue URL"
+  value       = aws_sqs_queue.order_processing_priority.url
+}
+
+output "priority_queue_arn" {
+  description = "High priority order processing queue ARN"
+  value       = aws_sqs_queue.order_processing_priority.arn
+}
+
 output "purchase_dlq_url" {
   description = "Order processing DLQ URL"
   value       = aws_sqs_queue.order_processing_dlq.url
@@ -37,6 +47,7 @@ output "queue_arns" {
   description = "List of all queue ARNs"
   value = [
     aws_sqs_queue.order_processing.arn,
+    aws_sqs_queue.order_processing_priority.arn,
     aws_sqs_queue.order_processing_dlq.arn,
     aws_sqs_queue.reservation_expiry.arn,
     aws_sqs_queue.reservation_expiry_dlq.arn
@@ -35,6 +35,11 @@ variable "vpc_cidr" {
   description = "CIDR block for the VPC"
   type        = string
   default     = "10.0.0.0/16"
+
+  validation {
+    condition     = tonumber(split("/", var.vpc_cidr)[1]) >= 16
+    error_message = "VPC CIDR must be /16 or smaller: ID generator node IDs are derived from the low 16 bits of the private IP."
+  }
 }
 
 variable "availability_zones" {
@@ -163,6 +168,18 @@ variable "reservation_ttl_minutes" {
   default     = 10
 }
 
+variable "order_admission_tokens_per_second" {
+  description = "Orders admitted per second per event by EACH ECS task (cluster rate = value x running tasks)"
+  type        = number
+  default     = 40
+}
+
+variable "order_admission_burst" {
+  description = "Admission burst per event for each ECS task"
+  type        = number
+  default     = 80
+}
+
 variable "app_additional_env_vars" {
   description = "Additional environment variables for the application"
   type = list(object({
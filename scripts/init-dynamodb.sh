@@ -141,6 +141,51 @@ aws dynamodb create-table \
 
 echo "✅ Table 'orders' ready!"
 
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# Create Idempotency Table
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+echo "📊 Creating 'idempotency' table..."
+
+aws dynamodb create-table \
+  --table-name idempotency \
+  --attribute-definitions \
+    AttributeName=idempotencyKey,AttributeType=S \
+  --key-schema \
+    AttributeName=idempotencyKey,KeyType=HASH \
+  --provisioned-throughput \
+    ReadCapacityUnits=10,WriteCapacityUnits=10 \
+  --endpoint-url $DYNAMODB_ENDPOINT \
+  --region $AWS_REGION \
+  2>/dev/null || echo "⚠️  Table 'idempotency' already exists"
+
+aws dynamodb update-time-to-live \
+  --table-name idempotency \
+  --time-to-live-specification "Enabled=true, AttributeName=expiresAt" \
+  --endpoint-url $DYNAMODB_ENDPOINT \
+  --region $AWS_REGION \
+  >/dev/null 2>&1 || echo "⚠️  TTL already enabled on 'idempotency'"
+
+echo "✅ Table 'idempotency' ready!"
+
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# Create Event Provisioning Table
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+echo "📊 Creating 'event-provisioning' table..."
+
+aws dynamodb create-table \
+  --table-name event-provisioning \
+  --attribute-definitions \
+    AttributeName=eventId,AttributeType=S \
+  --key-schema \
+    AttributeName=eventId,KeyType=HASH \
+  --provisioned-throughput \
+    ReadCapacityUnits=5,WriteCapacityUnits=5 \
+  --endpoint-url $DYNAMODB_ENDPOINT \
+  --region $AWS_REGION \
+  2>/dev/null || echo "⚠️  Table 'event-provisioning' already exists"
+
+echo "✅ Table 'event-provisioning' ready!"
+
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
 # List all tables
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
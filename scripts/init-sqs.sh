@@ -108,6 +108,38 @@ aws sqs set-queue-attributes \
 
 echo "✅ DLQ policy configured"
 
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+# Create High Priority Queue with DLQ configuration - FIFO
+# ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
+echo "📬 Creating High Priority Queue FIFO (order-processing-priority.fifo)..."
+
+PRIORITY_QUEUE_URL=$(aws sqs create-queue \
+  --queue-name order-processing-priority.fifo \
+  --attributes FifoQueue=true,ContentBasedDeduplication=true,MessageRetentionPeriod=345600,VisibilityTimeout=30,ReceiveMessageWaitTimeSeconds=20 \
+  --endpoint-url $SQS_ENDPOINT \
+  --region $AWS_REGION \
+  --output text \
+  --query 'QueueUrl' 2>&1 || \
+  aws sqs get-queue-url \
+    --queue-name order-processing-priority.fifo \
+    --endpoint-url $SQS_ENDPOINT \
+    --region $AWS_REGION \
+    --output text \
+    --query 'QueueUrl')
+
+if [ -z "$PRIORITY_QUEUE_URL" ]; then
+  echo "❌ Failed to create or get High Priority Queue URL"
+  exit 1
+fi
+
+aws sqs set-queue-attributes \
+  --queue-url "$PRIORITY_QUEUE_URL" \
+  --attributes "{\"RedrivePolicy\":\"{\\\"deadLetterTargetArn\\\":\\\"${DLQ_ARN}\\\",\\\"maxReceiveCount\\\":\\\"3\\\"}\"}" \
+  --endpoint-url $SQS_ENDPOINT \
+  --region $AWS_REGION
+
+echo "✅ High Priority Queue FIFO created: $PRIORITY_QUEUE_URL"
+
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
 # Display Queue Configuration
 # ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
@@ -133,4 +165,5 @@ echo "🎉 SQS initialization completed successfully!"
 echo ""
 echo "Queue URLs:"
 echo "  Main Queue: $MAIN_QUEUE_URL"
+echo "  Priority:   $PRIORITY_QUEUE_URL"
 echo "  DLQ:        $DLQ_URL"
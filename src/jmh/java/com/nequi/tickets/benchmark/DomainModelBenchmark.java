@@ -0,0 +1,49 @@
+package com.nequi.tickets.benchmark;
+
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class DomainModelBenchmark {
+    
+    private Event event;
+    private Event reservedEvent;
+    private Ticket ticket;
+    private List<String> ticketIds;
+    
+    @Setup
+    public void setUp() {
+        event = Event.create("event-1", "Concert", LocalDateTime.now().plusDays(30), "Bogota", 50_000);
+        reservedEvent = event.reserveTickets(4);
+        ticket = Ticket.createAvailableTicket("ticket-1", "event-1");
+        ticketIds = List.of("ticket-1", "ticket-2", "ticket-3", "ticket-4");
+    }
+    
+    @Benchmark
+    public Event eventReserveTickets() {
+        return event.reserveTickets(4);
+    }
+    
+    @Benchmark
+    public Event eventConfirmSale() {
+        return reservedEvent.confirmSale(4);
+    }
+    
+    @Benchmark
+    public Ticket ticketReserve() {
+        return ticket.reserveTicket("customer-1", "order-1", 10);
+    }
+    
+    @Benchmark
+    public Order orderCreatePending() {
+        return Order.createPending("order-1", "event-1", "customer-1", ticketIds);
+    }
+}
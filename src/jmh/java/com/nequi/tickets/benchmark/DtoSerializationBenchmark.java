@@ -0,0 +1,83 @@
+package com.nequi.tickets.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nequi.tickets.config.JacksonConfig;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.infrastructure.dto.DtoMapper;
+import com.nequi.tickets.infrastructure.dto.EventResponse;
+import com.nequi.tickets.infrastructure.dto.OrderResponse;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.OrderEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+    
+    private Event event;
+    private Order order;
+    private EventEntity eventEntity;
+    private OrderEntity orderEntity;
+    private OrderResponse orderResponse;
+    private EventResponse eventResponse;
+    private ObjectWriter orderWriter;
+    private ObjectWriter eventWriter;
+    
+    @Setup
+    public void setUp() {
+        event = Event.create("event-1", "Concert", LocalDateTime.now().plusDays(30), "Bogota", 50_000);
+        order = Order.createPending("order-1", "event-1", "customer-1",
+            List.of("ticket-1", "ticket-2", "ticket-3", "ticket-4"));
+        eventEntity = EntityMapper.toEventEntity(event);
+        orderEntity = EntityMapper.toOrderEntity(order);
+        orderResponse = DtoMapper.toOrderResponse(order);
+        eventResponse = DtoMapper.toEventResponse(event);
+        
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        orderWriter = jacksonConfig.objectMapper().writerFor(OrderResponse.class);
+        eventWriter = jacksonConfig.objectMapper().writerFor(EventResponse.class);
+    }
+    
+    @Benchmark
+    public OrderResponse toOrderResponse() {
+        return DtoMapper.toOrderResponse(order);
+    }
+    
+    @Benchmark
+    public EventEntity eventToEntity() {
+        return EntityMapper.toEventEntity(event);
+    }
+    
+    @Benchmark
+    public Event eventFromEntity() {
+        return EntityMapper.toEvent(eventEntity);
+    }
+    
+    @Benchmark
+    public OrderEntity orderToEntity() {
+        return EntityMapper.toOrderEntity(order);
+    }
+    
+    @Benchmark
+    public Order orderFromEntity() {
+        return EntityMapper.toOrder(orderEntity);
+    }
+    
+    @Benchmark
+    public byte[] serializeOrderResponse() throws JsonProcessingException {
+        return orderWriter.writeValueAsBytes(orderResponse);
+    }
+    
+    @Benchmark
+    public byte[] serializeEventResponse() throws JsonProcessingException {
+        return eventWriter.writeValueAsBytes(eventResponse);
+    }
+}
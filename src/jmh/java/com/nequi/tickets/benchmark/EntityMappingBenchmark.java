@@ -0,0 +1,69 @@
+package com.nequi.tickets.benchmark;
+
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityTableSchemas;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.ItemMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+    
+    private TableSchema<TicketEntity> beanSchema;
+    private TableSchema<TicketEntity> staticSchema;
+    private Ticket ticket;
+    private TicketEntity entity;
+    private Map<String, AttributeValue> item;
+    
+    @Setup
+    public void setUp() {
+        beanSchema = TableSchema.fromBean(TicketEntity.class);
+        staticSchema = EntityTableSchemas.TICKET;
+        ticket = Ticket.createAvailableTicket("ticket-1", "event-1").reserveTicket("customer-1", "order-1", 10);
+        entity = EntityMapper.toTicketEntity(ticket);
+        item = staticSchema.itemToMap(entity, true);
+    }
+    
+    @Benchmark
+    public Map<String, AttributeValue> beanSchemaWrite() {
+        return beanSchema.itemToMap(EntityMapper.toTicketEntity(ticket), true);
+    }
+    
+    @Benchmark
+    public Map<String, AttributeValue> staticSchemaWrite() {
+        return staticSchema.itemToMap(EntityMapper.toTicketEntity(ticket), true);
+    }
+    
+    @Benchmark
+    public Ticket beanSchemaRead() {
+        return EntityMapper.toTicket(beanSchema.mapToItem(item));
+    }
+    
+    @Benchmark
+    public Ticket staticSchemaRead() {
+        return EntityMapper.toTicket(staticSchema.mapToItem(item));
+    }
+    
+    @Benchmark
+    public Map<String, AttributeValue> itemMapperWrite() {
+        return ItemMapper.toTicketItem(ticket);
+    }
+    
+    @Benchmark
+    public Ticket itemMapperRead() {
+        return ItemMapper.toTicket(item);
+    }
+    
+    @Benchmark
+    public TableSchema<TicketEntity> beanSchemaCreation() {
+        return TableSchema.fromBean(TicketEntity.class);
+    }
+}
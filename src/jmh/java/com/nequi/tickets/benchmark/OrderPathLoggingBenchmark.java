@@ -0,0 +1,160 @@
+package com.nequi.tickets.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.infrastructure.id.UuidIdGenerator;
+import com.nequi.tickets.infrastructure.messaging.AdaptiveOrderDispatcher;
+import com.nequi.tickets.infrastructure.messaging.OrderIdempotencyGuard;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryEventRepository;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryIdempotencyRepository;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryOrderRepository;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryTicketRepository;
+import com.nequi.tickets.usecase.CreateOrderUseCase;
+import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import com.nequi.tickets.usecase.ReserveTicketsUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(time = 1)
+@Measurement(time = 1)
+public class OrderPathLoggingBenchmark {
+    
+    public enum LoggingMode {
+        SYNC,
+        ASYNC
+    }
+    
+    @Param({"SYNC", "ASYNC"})
+    public LoggingMode mode;
+    
+    @Param({"INFO", "DEBUG"})
+    public String level;
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private LoggerContext loggerContext;
+    private Path logFile;
+    private InMemoryEventRepository eventRepository;
+    private InMemoryTicketRepository ticketRepository;
+    private CreateOrderUseCase createOrderUseCase;
+    
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("order-path-logging", ".log");
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (mode == LoggingMode.ASYNC) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(819);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        
+        Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        loggerContext.getLogger("com.nequi.tickets").setLevel(Level.toLevel(level));
+    }
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void setUpRepositories() {
+        eventRepository = new InMemoryEventRepository();
+        ticketRepository = new InMemoryTicketRepository();
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        BusinessProperties businessProperties = new BusinessProperties();
+        ReserveTicketsUseCase reserveTicketsUseCase = new ReserveTicketsUseCase(eventRepository, ticketRepository, businessProperties);
+        ProcessOrderUseCase processOrderUseCase = new ProcessOrderUseCase(orderRepository, ticketRepository, eventRepository,
+            businessProperties, new OrderLatencyMetrics(new SimpleMeterRegistry()));
+        OrderIdempotencyGuard idempotencyGuard = new OrderIdempotencyGuard(new InMemoryIdempotencyRepository(), 10_000, 24);
+        AdaptiveOrderDispatcher orderDispatcher = new AdaptiveOrderDispatcher(new AcceptingMessageQueue(),
+            processOrderUseCase, idempotencyGuard, true, Integer.MAX_VALUE, 60);
+        createOrderUseCase = new CreateOrderUseCase(eventRepository, orderRepository, ticketRepository,
+            reserveTicketsUseCase, orderDispatcher, new UuidIdGenerator());
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+        Files.deleteIfExists(logFile);
+    }
+    
+    @Benchmark
+    public Order orderPath() {
+        String eventId = "event-" + sequence.incrementAndGet();
+        return eventRepository.save(Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Bogota", 1))
+            .then(ticketRepository.save(Ticket.createAvailableTicket("ticket-" + eventId, eventId)))
+            .then(Mono.defer(() -> createOrderUseCase.execute(eventId, "customer-" + eventId, 1)))
+            .block();
+    }
+    
+    private static final class AcceptingMessageQueue implements MessageQueueService {
+        
+        @Override
+        public Mono<Void> sendOrderForProcessing(String orderId) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Mono<Void> sendOrderForProcessing(String orderId, int delaySeconds) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Mono<Void> sendOrderForProcessing(Order order) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Mono<Void> sendOrderForProcessing(Order order, int delaySeconds) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nequi.tickets.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class EventTally {
+    
+    private final String eventId;
+    private final int capacity;
+    private final LongAdder acceptedOrders = new LongAdder();
+    private final LongAdder acceptedTickets = new LongAdder();
+    private final LongAdder confirmedTickets = new LongAdder();
+    private final LongAdder failedTickets = new LongAdder();
+    private final LongAdder soldOutRejections = new LongAdder();
+    private final LongAdder waitingRoomResponses = new LongAdder();
+    private final LongAdder unresolvedOrders = new LongAdder();
+    
+    public EventTally(String eventId, int capacity) {
+        this.eventId = eventId;
+        this.capacity = capacity;
+    }
+    
+    public String eventId() {
+        return eventId;
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    public void accepted(int tickets) {
+        acceptedOrders.increment();
+        acceptedTickets.add(tickets);
+    }
+    
+    public void confirmed(int tickets) {
+        confirmedTickets.add(tickets);
+    }
+    
+    public void failed(int tickets) {
+        failedTickets.add(tickets);
+    }
+    
+    public void soldOut() {
+        soldOutRejections.increment();
+    }
+    
+    public void queued() {
+        waitingRoomResponses.increment();
+    }
+    
+    public void unresolved() {
+        unresolvedOrders.increment();
+    }
+    
+    public long acceptedOrders() {
+        return acceptedOrders.sum();
+    }
+    
+    public long acceptedTickets() {
+        return acceptedTickets.sum();
+    }
+    
+    public long confirmedTickets() {
+        return confirmedTickets.sum();
+    }
+    
+    public long failedTickets() {
+        return failedTickets.sum();
+    }
+    
+    public long soldOutRejections() {
+        return soldOutRejections.sum();
+    }
+    
+    public long unresolvedOrders() {
+        return unresolvedOrders.sum();
+    }
+    
+    public long waitingRoomResponses() {
+        return waitingRoomResponses.sum();
+    }
+}
@@ -0,0 +1,306 @@
+package com.nequi.tickets.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.tickets.config.JacksonConfig;
+import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.infrastructure.dto.AvailabilityResponse;
+import com.nequi.tickets.infrastructure.dto.CreateEventRequest;
+import com.nequi.tickets.infrastructure.dto.CreateOrderRequest;
+import com.nequi.tickets.infrastructure.dto.EventResponse;
+import com.nequi.tickets.infrastructure.dto.OrderResponse;
+import com.nequi.tickets.infrastructure.dto.ProvisioningResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+public class FlashSaleLoadTest {
+    
+    static final String CREATE_EVENT = "create-event";
+    static final String CREATE_ORDER = "create-order";
+    static final String WAITING_ROOM = "waiting-room";
+    static final String ORDER_STATUS = "order-status";
+    static final String CONFIRM_ORDER = "confirm-order";
+    static final String ORDER_FLOW = "order-flow";
+    static final String WAITING_ROOM_TOKEN_HEADER = "X-Waiting-Room-Token";
+    
+    private final LoadTestSettings settings;
+    private final WebClient client;
+    private final ObjectMapper objectMapper;
+    private final ConnectionProvider connectionProvider;
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    
+    public FlashSaleLoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+        this.objectMapper = new JacksonConfig().objectMapper();
+        this.connectionProvider = ConnectionProvider.builder("load-test")
+            .maxConnections(settings.concurrency())
+            .pendingAcquireMaxCount(-1)
+            .build();
+        this.client = WebClient.builder()
+            .baseUrl(settings.baseUrl())
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+            .build();
+    }
+    
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        FlashSaleLoadTest loadTest = new FlashSaleLoadTest(settings);
+        boolean passed;
+        try {
+            passed = loadTest.run(System.out);
+        } finally {
+            loadTest.connectionProvider.dispose();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+    
+    public boolean run(PrintStream out) {
+        out.println("Flash sale load test " + runId + " against " + settings.baseUrl());
+        out.println(settings);
+    
+        List<EventTally> events = Flux.range(0, settings.events())
+            .flatMap(this::createEvent, 4)
+            .collectSortedList((left, right) -> left.eventId().compareTo(right.eventId()))
+            .block();
+        out.printf("Provisioned %d events with %d tickets each, hot event: %s%n",
+            events.size(), settings.capacityPerEvent(), events.get(0).eventId());
+    
+        long started = System.nanoTime();
+        Flux.range(0, settings.orders())
+            .buffer(settings.burstSize())
+            .concatMap(burst -> Flux.fromIterable(burst)
+                .flatMap(index -> placeOrder(index, events), settings.concurrency())
+                .then(Mono.delay(settings.burstPause())))
+            .blockLast();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+    
+        out.println();
+        long accepted = events.stream().mapToLong(EventTally::acceptedOrders).sum();
+        out.printf("Run finished in %.1fs, reservations accepted: %d (%.1f/s)%n",
+            elapsed.toMillis() / 1000.0, accepted, accepted / Math.max(elapsed.toNanos() / 1e9, 1e-9));
+        latencies.print(out, elapsed);
+    
+        out.println();
+        return Flux.fromIterable(events)
+            .concatMap(tally -> verify(tally, out))
+            .all(Boolean::booleanValue)
+            .block();
+    }
+    
+    private Mono<EventTally> createEvent(int index) {
+        CreateEventRequest request = new CreateEventRequest(
+            "Flash sale " + runId + " #" + index,
+            LocalDateTime.now().plusDays(30),
+            "Load test arena",
+            settings.capacityPerEvent());
+    
+        return timed(CREATE_EVENT, post("/events", request, EventResponse.class))
+            .flatMap(event -> awaitProvisioned(event.eventId())
+                .thenReturn(new EventTally(event.eventId(), settings.capacityPerEvent())));
+    }
+    
+    private Mono<ProvisioningResponse> awaitProvisioned(String eventId) {
+        return Mono.defer(() -> get("/events/" + eventId + "/provisioning", ProvisioningResponse.class))
+            .<ProvisioningResponse>handle((provisioning, sink) -> {
+                if (provisioning.status() == ProvisioningStatus.FAILED) {
+                    sink.error(new IllegalStateException("Provisioning failed for event " + eventId
+                        + ": " + provisioning.failureReason()));
+                } else if (provisioning.status() == ProvisioningStatus.COMPLETED) {
+                    sink.next(provisioning);
+                }
+            })
+            .repeatWhenEmpty(attempts -> attempts.delayElements(settings.pollInterval()))
+            .timeout(settings.provisioningTimeout());
+    }
+    
+    private Mono<Void> placeOrder(int index, List<EventTally> events) {
+        SplittableRandom random = new SplittableRandom(settings.seed() + index);
+        EventTally event = pickEvent(random, events);
+        int tickets = 1 + random.nextInt(settings.maxTicketsPerOrder());
+        CreateOrderRequest request = new CreateOrderRequest(
+            event.eventId(), "customer-" + runId + "-" + index, tickets);
+        long started = System.nanoTime();
+    
+        return submitOrder(request, event, null)
+            .timeout(settings.pollTimeout())
+            .onErrorResume(TimeoutException.class, error -> {
+                event.unresolved();
+                return Mono.empty();
+            })
+            .onErrorResume(WebClientResponseException.Conflict.class, error -> {
+                event.soldOut();
+                return Mono.empty();
+            })
+            .flatMap(created -> {
+                event.accepted(tickets);
+                return awaitProcessed(created.orderId())
+                    .flatMap(order -> settings.confirm() && order.status() == OrderStatus.PROCESSING
+                        ? timed(CONFIRM_ORDER, post("/orders/" + order.orderId() + "/confirm", null, OrderResponse.class))
+                        : Mono.just(order))
+                    .doOnNext(order -> {
+                        if (order.status() == OrderStatus.CONFIRMED) {
+                            event.confirmed(tickets);
+                        } else if (order.status() == OrderStatus.FAILED || order.status() == OrderStatus.CANCELLED) {
+                            event.failed(tickets);
+                        } else {
+                            event.unresolved();
+                        }
+                        latencies.record(ORDER_FLOW, started);
+                    })
+                    .onErrorResume(error -> {
+                        event.unresolved();
+                        return Mono.empty();
+                    });
+            })
+            .onErrorResume(error -> Mono.empty())
+            .then();
+    }
+    
+    private Mono<OrderResponse> submitOrder(CreateOrderRequest request, EventTally event, String waitingRoomToken) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return post("/orders", request, waitingRoomToken, OrderResponse.class)
+                .doOnSuccess(order -> latencies.record(CREATE_ORDER, started))
+                .doOnError(error -> {
+                    if (!(error instanceof WebClientResponseException.TooManyRequests)) {
+                        latencies.failure(CREATE_ORDER);
+                    }
+                })
+                .onErrorResume(WebClientResponseException.TooManyRequests.class, queued -> {
+                    latencies.record(WAITING_ROOM, started);
+                    event.queued();
+                    String token = queued.getHeaders().getFirst(WAITING_ROOM_TOKEN_HEADER);
+                    return Mono.delay(retryAfter(queued))
+                        .then(submitOrder(request, event, token != null ? token : waitingRoomToken));
+                });
+        });
+    }
+    
+    private Duration retryAfter(WebClientResponseException response) {
+        String retryAfter = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        try {
+            return Duration.ofSeconds(retryAfter != null ? Long.parseLong(retryAfter) : 1);
+        } catch (NumberFormatException e) {
+            return Duration.ofSeconds(1);
+        }
+    }
+    
+    private EventTally pickEvent(SplittableRandom random, List<EventTally> events) {
+        if (events.size() == 1 || random.nextDouble() < settings.hotEventShare()) {
+            return events.get(0);
+        }
+        return events.get(1 + random.nextInt(events.size() - 1));
+    }
+    
+    private Mono<OrderResponse> awaitProcessed(String orderId) {
+        return Mono.defer(() -> timed(ORDER_STATUS, get("/orders/" + orderId, OrderResponse.class)))
+            .filter(order -> order.status() != OrderStatus.PENDING)
+            .repeatWhenEmpty(attempts -> attempts.delayElements(settings.pollInterval()))
+            .timeout(settings.pollTimeout(), Mono.defer(() -> get("/orders/" + orderId, OrderResponse.class)));
+    }
+    
+    private Mono<Boolean> verify(EventTally tally, PrintStream out) {
+        return get("/events/" + tally.eventId(), AvailabilityResponse.class)
+            .map(availability -> {
+                int capacity = tally.capacity();
+                int available = availability.availableTickets();
+                int reserved = availability.reservedTickets();
+                int sold = availability.soldTickets();
+                int complimentary = availability.complimentaryTickets() != null ? availability.complimentaryTickets() : 0;
+    
+                boolean oversold = available < 0
+                    || sold + reserved + complimentary > capacity
+                    || tally.confirmedTickets() > capacity
+                    || tally.confirmedTickets() > sold;
+                boolean lostSales = tally.confirmedTickets() < sold;
+                boolean undersold = tally.soldOutRejections() > 0 && reserved == 0 && available > 0;
+    
+                out.printf("Event %s: capacity=%d available=%d reserved=%d sold=%d | accepted orders=%d tickets=%d, "
+                        + "confirmed=%d, failed=%d, unresolved orders=%d, sold-out rejections=%d, waiting room responses=%d%n",
+                    tally.eventId(), capacity, available, reserved, sold,
+                    tally.acceptedOrders(), tally.acceptedTickets(), tally.confirmedTickets(),
+                    tally.failedTickets(), tally.unresolvedOrders(), tally.soldOutRejections(),
+                    tally.waitingRoomResponses());
+                if (oversold) {
+                    out.println("  OVERSELL: more tickets sold or confirmed than the event can hold");
+                }
+                if (lostSales) {
+                    out.println("  MISMATCH: event reports more sold tickets than this run confirmed");
+                }
+                if (undersold) {
+                    out.println("  UNDERSELL: customers were turned away while tickets were still available");
+                }
+                return !oversold && !lostSales && !undersold;
+            });
+    }
+    
+    private <T> Mono<T> timed(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return call
+                .doOnSuccess(value -> latencies.record(operation, started))
+                .doOnError(error -> latencies.failure(operation));
+        });
+    }
+    
+    private <T> Mono<T> get(String path, Class<T> type) {
+        return client.get()
+            .uri(path)
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToMono(byte[].class)
+            .map(body -> read(body, type));
+    }
+    
+    private <T> Mono<T> post(String path, Object request, Class<T> type) {
+        return post(path, request, null, type);
+    }
+    
+    private <T> Mono<T> post(String path, Object request, String waitingRoomToken, Class<T> type) {
+        WebClient.RequestBodySpec spec = client.post()
+            .uri(path)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (waitingRoomToken != null) {
+            spec = spec.header(WAITING_ROOM_TOKEN_HEADER, waitingRoomToken);
+        }
+        WebClient.RequestHeadersSpec<?> withBody = request != null ? spec.bodyValue(write(request)) : spec;
+        return withBody.retrieve()
+            .bodyToMono(byte[].class)
+            .map(body -> read(body, type));
+    }
+    
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
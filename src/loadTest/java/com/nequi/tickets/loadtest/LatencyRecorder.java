@@ -0,0 +1,52 @@
+package com.nequi.tickets.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    
+    public void record(String operation, long startNanos) {
+        long elapsed = Math.min(System.nanoTime() - startNanos, MAX_TRACKABLE_NANOS);
+        histograms.computeIfAbsent(operation, key -> new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3))
+            .recordValue(elapsed);
+    }
+    
+    public void failure(String operation) {
+        failures.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+    
+    public void print(PrintStream out, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        out.printf("%-16s %10s %10s %10s %10s %10s %10s %10s %8s%n",
+            "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        histograms.keySet().stream().sorted().forEach(operation -> {
+            Histogram histogram = histograms.get(operation);
+            out.printf("%-16s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                operation,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                failures.getOrDefault(operation, new LongAdder()).sum());
+        });
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,54 @@
+package com.nequi.tickets.loadtest;
+
+import java.time.Duration;
+
+public record LoadTestSettings(
+    String baseUrl,
+    int events,
+    int capacityPerEvent,
+    double hotEventShare,
+    int orders,
+    int maxTicketsPerOrder,
+    int concurrency,
+    int burstSize,
+    Duration burstPause,
+    Duration pollInterval,
+    Duration pollTimeout,
+    Duration provisioningTimeout,
+    boolean confirm,
+    long seed
+) {
+    public LoadTestSettings {
+        if (events < 1) {
+            throw new IllegalArgumentException("At least one event is required");
+        }
+        if (hotEventShare < 0 || hotEventShare > 1) {
+            throw new IllegalArgumentException("Hot event share must be between 0 and 1");
+        }
+        if (maxTicketsPerOrder < 1 || maxTicketsPerOrder > 10) {
+            throw new IllegalArgumentException("Tickets per order must be between 1 and 10");
+        }
+        if (concurrency < 1 || burstSize < 1) {
+            throw new IllegalArgumentException("Concurrency and burst size must be positive");
+        }
+    }
+    
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            System.getProperty("load.baseUrl", "http://localhost:8080/api"),
+            Integer.getInteger("load.events", 5),
+            Integer.getInteger("load.capacity", 1_000),
+            Double.parseDouble(System.getProperty("load.hotEventShare", "0.8")),
+            Integer.getInteger("load.orders", 5_000),
+            Integer.getInteger("load.maxTicketsPerOrder", 4),
+            Integer.getInteger("load.concurrency", 200),
+            Integer.getInteger("load.burstSize", 1_000),
+            Duration.ofMillis(Long.getLong("load.burstPauseMs", 500L)),
+            Duration.ofMillis(Long.getLong("load.pollIntervalMs", 250L)),
+            Duration.ofSeconds(Long.getLong("load.pollTimeoutSeconds", 60L)),
+            Duration.ofSeconds(Long.getLong("load.provisioningTimeoutSeconds", 120L)),
+            Boolean.parseBoolean(System.getProperty("load.confirm", "true")),
+            Long.getLong("load.seed", 42L)
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.nequi.tickets.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class AwsConnectionWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(AwsConnectionWarmUp.class);
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final SqsAsyncClient sqsClient;
+    private final boolean enabled;
+    private final int connections;
+    private final Duration timeout;
+    private final List<String> tableNames;
+    private final List<String> queueUrls;
+
+    public AwsConnectionWarmUp(
+            DynamoDbAsyncClient dynamoDbClient,
+            SqsAsyncClient sqsClient,
+            @Value("${aws.http.warm-up.enabled:true}") boolean enabled,
+            @Value("${aws.http.warm-up.connections:8}") int connections,
+            @Value("${aws.http.warm-up.timeout-ms:10000}") long timeoutMs,
+            @Value("${aws.dynamodb.tables.events:events}") String eventsTable,
+            @Value("${aws.dynamodb.tables.tickets:tickets}") String ticketsTable,
+            @Value("${aws.dynamodb.tables.orders:orders}") String ordersTable,
+            @Value("${aws.sqs.order-processing-queue-url:}") String orderQueueUrl,
+            @Value("${aws.sqs.high-priority-queue-url:}") String highPriorityQueueUrl) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.sqsClient = sqsClient;
+        this.enabled = enabled;
+        this.connections = Math.max(1, connections);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.tableNames = List.of(eventsTable, ticketsTable, ordersTable);
+        this.queueUrls = new ArrayList<>();
+        if (!orderQueueUrl.isBlank()) {
+            queueUrls.add(orderQueueUrl);
+        }
+        if (!highPriorityQueueUrl.isBlank()) {
+            queueUrls.add(highPriorityQueueUrl);
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            logger.debug("AWS connection warm-up is disabled");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Long calls = Flux.merge(warmUpDynamoDb(), warmUpSqs())
+            .count()
+            .onErrorResume(error -> {
+                logger.warn("AWS connection warm-up did not finish: {}", error.getMessage());
+                return Mono.just(0L);
+            })
+            .block(timeout.plusSeconds(1));
+
+        logger.info("AWS connection warm-up completed {} calls in {}ms",
+            calls, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private Flux<Object> warmUpDynamoDb() {
+        return Flux.range(0, connections)
+            .map(i -> tableNames.get(i % tableNames.size()))
+            .flatMap(tableName -> call(Mono.fromCompletionStage(() -> dynamoDbClient.describeTable(
+                DescribeTableRequest.builder().tableName(tableName).build()))), connections);
+    }
+
+    private Flux<Object> warmUpSqs() {
+        if (queueUrls.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.range(0, connections)
+            .map(i -> queueUrls.get(i % queueUrls.size()))
+            .flatMap(queueUrl -> call(Mono.fromCompletionStage(() -> sqsClient.getQueueAttributes(
+                GetQueueAttributesRequest.builder()
+                    .queueUrl(queueUrl)
+                    .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)
+                    .build()))), connections);
+    }
+
+    private Mono<Object> call(Mono<?> request) {
+        return request
+            .cast(Object.class)
+            .timeout(timeout)
+            .onErrorResume(error -> {
+                logger.debug("AWS warm-up call failed: {}", error.getMessage());
+                return Mono.empty();
+            });
+    }
+}
@@ -0,0 +1,54 @@
+package com.nequi.tickets.config;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.socket.SocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.resources.LoopResources;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+public class AwsEventLoopResources implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AwsEventLoopResources.class);
+
+    public enum Mode {
+        SHARED_SDK,
+        REACTOR_NETTY
+    }
+
+    private final LoopResources loopResources;
+    private final boolean owned;
+    private final SdkEventLoopGroup sdkEventLoopGroup;
+
+    private AwsEventLoopResources(LoopResources loopResources, boolean owned, boolean preferNative) {
+        this.loopResources = loopResources;
+        this.owned = owned;
+
+        EventLoopGroup eventLoopGroup = loopResources.onClient(preferNative);
+        Class<? extends SocketChannel> channelClass = loopResources.onChannelClass(SocketChannel.class, eventLoopGroup);
+        this.sdkEventLoopGroup = SdkEventLoopGroup.create(eventLoopGroup, new ReflectiveChannelFactory<>(channelClass));
+
+        logger.info("AWS SDK clients using {} event loops with {} transport",
+            owned ? "dedicated shared" : "Reactor Netty", channelClass.getSimpleName());
+    }
+
+    static AwsEventLoopResources reactorNetty(LoopResources serverLoopResources, boolean preferNative) {
+        return new AwsEventLoopResources(serverLoopResources, false, preferNative);
+    }
+
+    static AwsEventLoopResources sharedSdk(int threads, boolean preferNative) {
+        return new AwsEventLoopResources(LoopResources.create("aws-sdk", threads, true), true, preferNative);
+    }
+
+    SdkEventLoopGroup sdkEventLoopGroup() {
+        return sdkEventLoopGroup;
+    }
+
+    @Override
+    public void close() {
+        if (owned) {
+            loopResources.disposeLater().block();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.nequi.tickets.config;
+
+import com.nequi.tickets.infrastructure.sdk.CompletionExecutorStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class AwsHttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AwsHttpClientConfig.class);
+
+    @Bean
+    @ConfigurationProperties(prefix = "aws.dynamodb.http")
+    public HttpClientProperties dynamoDbHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "aws.sqs.http")
+    public HttpClientProperties sqsHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    public AwsEventLoopResources awsEventLoopResources(
+            ObjectProvider<ReactorResourceFactory> reactorResourceFactory,
+            @Value("${aws.http.event-loop.mode:SHARED_SDK}") AwsEventLoopResources.Mode mode,
+            @Value("${aws.http.event-loop.threads:0}") int eventLoopThreads,
+            @Value("${aws.http.event-loop.prefer-native:true}") boolean preferNative) {
+        ReactorResourceFactory resourceFactory = reactorResourceFactory.getIfAvailable();
+        if (mode == AwsEventLoopResources.Mode.REACTOR_NETTY && resourceFactory != null) {
+            return AwsEventLoopResources.reactorNetty(resourceFactory.getLoopResources(), preferNative);
+        }
+        if (mode == AwsEventLoopResources.Mode.REACTOR_NETTY) {
+            logger.warn("Reactor Netty resources are not available, falling back to a shared SDK event loop group");
+        }
+        int threads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        return AwsEventLoopResources.sharedSdk(threads, preferNative);
+    }
+
+    @Bean(destroyMethod = "")
+    public SdkEventLoopGroup awsEventLoopGroup(AwsEventLoopResources awsEventLoopResources) {
+        return awsEventLoopResources.sdkEventLoopGroup();
+    }
+
+    @Bean
+    public SdkAsyncHttpClient dynamoDbHttpClient(
+            @Qualifier("dynamoDbHttpClientProperties") HttpClientProperties properties,
+            SdkEventLoopGroup awsEventLoopGroup) {
+        return buildHttpClient(properties, awsEventLoopGroup);
+    }
+
+    @Bean
+    public SdkAsyncHttpClient sqsHttpClient(
+            @Qualifier("sqsHttpClientProperties") HttpClientProperties properties,
+            SdkEventLoopGroup awsEventLoopGroup) {
+        return buildHttpClient(properties, awsEventLoopGroup);
+    }
+
+    static SdkAsyncHttpClient buildHttpClient(HttpClientProperties properties, SdkEventLoopGroup eventLoopGroup) {
+        return NettyNioAsyncHttpClient.builder()
+                .eventLoopGroup(eventLoopGroup)
+                .maxConcurrency(properties.getMaxConcurrency())
+                .maxPendingConnectionAcquires(properties.getMaxPendingConnectionAcquires())
+                .connectionTimeout(properties.getConnectionTimeout())
+                .connectionAcquisitionTimeout(properties.getConnectionAcquisitionTimeout())
+                .connectionTimeToLive(properties.getConnectionTimeToLive())
+                .connectionMaxIdleTime(properties.getConnectionMaxIdleTime())
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(properties.isTcpKeepAlive())
+                .build();
+    }
+
+    static ClientOverrideConfiguration overrideConfiguration(HttpClientProperties properties) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(properties.getApiCallTimeout())
+                .apiCallAttemptTimeout(properties.getApiCallAttemptTimeout())
+                .build();
+    }
+
+    static ClientAsyncConfiguration asyncConfiguration(CompletionExecutorStrategy strategy) {
+        ClientAsyncConfiguration.Builder builder = ClientAsyncConfiguration.builder();
+        if (strategy == CompletionExecutorStrategy.DIRECT) {
+            Executor direct = Runnable::run;
+            builder.advancedOption(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, direct);
+        }
+        return builder.build();
+    }
+}
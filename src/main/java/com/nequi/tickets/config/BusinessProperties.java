@@ -9,6 +9,7 @@ public class BusinessProperties {
 
     private Reservation reservation = new Reservation();
     private Order order = new Order();
+    private Event event = new Event();
 
     public static class Reservation {
         private int timeoutMinutes = 10;
@@ -61,6 +62,54 @@ public class BusinessProperties {
         }
     }
 
+    public static class Event {
+        private int asyncProvisioningThreshold = 10000;
+        private int provisioningCheckpointSize = 5000;
+        private int provisioningStaleAfterSeconds = 120;
+        private long provisioningResumeIntervalMs = 60000;
+        private int provisioningMaxAttempts = 5;
+
+        public int getAsyncProvisioningThreshold() {
+            return asyncProvisioningThreshold;
+        }
+
+        public void setAsyncProvisioningThreshold(int asyncProvisioningThreshold) {
+            this.asyncProvisioningThreshold = asyncProvisioningThreshold;
+        }
+
+        public int getProvisioningCheckpointSize() {
+            return provisioningCheckpointSize;
+        }
+
+        public void setProvisioningCheckpointSize(int provisioningCheckpointSize) {
+            this.provisioningCheckpointSize = provisioningCheckpointSize;
+        }
+
+        public int getProvisioningStaleAfterSeconds() {
+            return provisioningStaleAfterSeconds;
+        }
+
+        public void setProvisioningStaleAfterSeconds(int provisioningStaleAfterSeconds) {
+            this.provisioningStaleAfterSeconds = provisioningStaleAfterSeconds;
+        }
+
+        public long getProvisioningResumeIntervalMs() {
+            return provisioningResumeIntervalMs;
+        }
+
+        public void setProvisioningResumeIntervalMs(long provisioningResumeIntervalMs) {
+            this.provisioningResumeIntervalMs = provisioningResumeIntervalMs;
+        }
+
+        public int getProvisioningMaxAttempts() {
+            return provisioningMaxAttempts;
+        }
+
+        public void setProvisioningMaxAttempts(int provisioningMaxAttempts) {
+            this.provisioningMaxAttempts = provisioningMaxAttempts;
+        }
+    }
+
     public Reservation getReservation() {
         return reservation;
     }
@@ -76,4 +125,12 @@ public class BusinessProperties {
     public void setOrder(Order order) {
         this.order = order;
     }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
 }
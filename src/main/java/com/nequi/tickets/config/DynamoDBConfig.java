@@ -1,11 +1,17 @@
 package com.nequi.tickets.config;
 
+import com.nequi.tickets.infrastructure.repository.dynamodb.ConsumedCapacityInterceptor;
+import com.nequi.tickets.infrastructure.sdk.CompletionExecutorStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
@@ -26,10 +32,29 @@ public class DynamoDBConfig {
     @Value("${aws.dynamodb.secret-key}")
     private String secretKey;
 
+    @Value("${aws.dynamodb.completion-executor:SDK_DEFAULT}")
+    private CompletionExecutorStrategy completionExecutor;
+
+    @Value("${aws.dynamodb.consumed-capacity-metrics.enabled:true}")
+    private boolean consumedCapacityMetricsEnabled;
+
     @Bean
-    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+    public DynamoDbAsyncClient dynamoDbAsyncClient(
+            @Qualifier("dynamoDbHttpClient") SdkAsyncHttpClient httpClient,
+            @Qualifier("dynamoDbHttpClientProperties") HttpClientProperties httpClientProperties,
+            MeterRegistry meterRegistry) {
+        ClientOverrideConfiguration overrideConfiguration = AwsHttpClientConfig.overrideConfiguration(httpClientProperties);
+        if (consumedCapacityMetricsEnabled) {
+            overrideConfiguration = overrideConfiguration.toBuilder()
+                    .addExecutionInterceptor(new ConsumedCapacityInterceptor(meterRegistry))
+                    .build();
+        }
+
         var clientBuilder = DynamoDbAsyncClient.builder()
-                .region(Region.of(region));
+                .region(Region.of(region))
+                .httpClient(httpClient)
+                .overrideConfiguration(overrideConfiguration)
+                .asyncConfiguration(AwsHttpClientConfig.asyncConfiguration(completionExecutor));
 
         clientBuilder.credentialsProvider(
                 StaticCredentialsProvider.create(
@@ -0,0 +1,42 @@
+package com.nequi.tickets.config;
+
+import com.nequi.tickets.domain.service.IdGenerator;
+import com.nequi.tickets.infrastructure.id.IdStrategy;
+import com.nequi.tickets.infrastructure.id.NodeIds;
+import com.nequi.tickets.infrastructure.id.TimeOrderedIdGenerator;
+import com.nequi.tickets.infrastructure.id.UuidIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.SecureRandom;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    @Value("${business.id.strategy:TIME_ORDERED}")
+    private IdStrategy strategy;
+
+    @Value("${business.id.node-id:-1}")
+    private int nodeId;
+
+    @Bean
+    public IdGenerator idGenerator() {
+        if (strategy == IdStrategy.UUID) {
+            logger.info("Using random UUID identifiers");
+            return new UuidIdGenerator();
+        }
+
+        int resolvedNodeId = nodeId >= 0 ? nodeId : NodeIds.fromLocalNetwork().orElseGet(() -> {
+            logger.warn("No private IPv4 address to derive the node ID from, using a random one. "
+                + "Set ID_NODE_ID to guarantee unique identifiers across instances");
+            return new SecureRandom().nextInt(0x10000);
+        });
+        logger.info("Using time-ordered identifiers with node ID {}", resolvedNodeId);
+        return new TimeOrderedIdGenerator(resolvedNodeId);
+    }
+}
@@ -1,10 +1,13 @@
 package com.nequi.tickets.config;
 
+import com.nequi.tickets.infrastructure.sdk.CompletionExecutorStrategy;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 
@@ -25,6 +28,9 @@ public class SQSConfig {
     @Value("${aws.sqs.secret-key}")
     private String secretKey;
 
+    @Value("${aws.sqs.completion-executor:SDK_DEFAULT}")
+    private CompletionExecutorStrategy completionExecutor;
+
     @Value("${aws.sqs.queue.order-processing}")
     private String orderProcessingQueueName;
 
@@ -32,9 +38,14 @@ public class SQSConfig {
     private String orderProcessingDlqName;
 
     @Bean
-    public SqsAsyncClient sqsAsyncClient() {
+    public SqsAsyncClient sqsAsyncClient(
+            @Qualifier("sqsHttpClient") SdkAsyncHttpClient httpClient,
+            @Qualifier("sqsHttpClientProperties") HttpClientProperties httpClientProperties) {
         var clientBuilder = SqsAsyncClient.builder()
-                .region(Region.of(region));
+                .region(Region.of(region))
+                .httpClient(httpClient)
+                .overrideConfiguration(AwsHttpClientConfig.overrideConfiguration(httpClientProperties))
+                .asyncConfiguration(AwsHttpClientConfig.asyncConfiguration(completionExecutor));
 
         clientBuilder.credentialsProvider(
                 StaticCredentialsProvider.create(
@@ -0,0 +1,15 @@
+package com.nequi.tickets.domain.exception;
+
+public class EventNotActiveException extends DomainException {
+    
+    private final String eventId;
+    
+    public EventNotActiveException(String eventId) {
+        super(String.format("Event %s is still being provisioned and does not accept reservations yet", eventId));
+        this.eventId = eventId;
+    }
+    
+    public String getEventId() {
+        return eventId;
+    }
+}
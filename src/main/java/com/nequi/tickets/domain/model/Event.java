@@ -13,7 +13,8 @@ public record Event(
     Integer complimentaryTickets,
     Integer version,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    EventStatus status
 ) {
     
     public Event {
@@ -47,6 +48,26 @@ public record Event(
         if (version == null || version < 0) {
             throw new IllegalArgumentException("Version cannot be null or negative");
         }
+        if (status == null) {
+            status = EventStatus.ACTIVE;
+        }
+    }
+    
+    public Event(
+        String eventId,
+        String name,
+        LocalDateTime date,
+        String location,
+        Integer totalCapacity,
+        Integer availableTickets,
+        Integer reservedTickets,
+        Integer complimentaryTickets,
+        Integer version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        this(eventId, name, date, location, totalCapacity, availableTickets, reservedTickets,
+            complimentaryTickets, version, createdAt, updatedAt, EventStatus.ACTIVE);
     }
     
     public static Event create(
@@ -68,7 +89,53 @@ public record Event(
             0,
             0,
             now,
-            now
+            now,
+            EventStatus.ACTIVE
+        );
+    }
+    
+    public static Event createProvisioning(
+        String eventId,
+        String name,
+        LocalDateTime date,
+        String location,
+        Integer totalCapacity
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Event(
+            eventId,
+            name,
+            date,
+            location,
+            totalCapacity,
+            totalCapacity,
+            0,
+            0,
+            0,
+            now,
+            now,
+            EventStatus.PROVISIONING
+        );
+    }
+    
+    public Event activate() {
+        if (status == EventStatus.ACTIVE) {
+            return this;
+        }
+        
+        return new Event(
+            eventId,
+            name,
+            date,
+            location,
+            totalCapacity,
+            availableTickets,
+            reservedTickets,
+            complimentaryTickets,
+            version + 1,
+            createdAt,
+            LocalDateTime.now(),
+            EventStatus.ACTIVE
         );
     }
     
@@ -94,7 +161,8 @@ public record Event(
             complimentaryTickets,
             version + 1,
             createdAt,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            status
         );
     }
     
@@ -120,7 +188,8 @@ public record Event(
             complimentaryTickets,
             version + 1,
             createdAt,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            status
         );
     }
     
@@ -146,7 +215,8 @@ public record Event(
             complimentaryTickets,
             version + 1,
             createdAt,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            status
         );
     }
     
@@ -172,7 +242,8 @@ public record Event(
             complimentaryTickets + quantity,
             version + 1,
             createdAt,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            status
         );
     }
     
@@ -198,7 +269,35 @@ public record Event(
             complimentaryTickets + quantity,
             version + 1,
             createdAt,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            status
+        );
+    }
+    
+    public Event revokeComplimentaryTicket(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (complimentaryTickets < quantity) {
+            throw new IllegalArgumentException(
+                String.format("Cannot revoke more than assigned. Requested: %d, Complimentary: %d", 
+                    quantity, complimentaryTickets)
+            );
+        }
+        
+        return new Event(
+            eventId,
+            name,
+            date,
+            location,
+            totalCapacity,
+            availableTickets + quantity,
+            reservedTickets,
+            complimentaryTickets - quantity,
+            version + 1,
+            createdAt,
+            LocalDateTime.now(),
+            status
         );
     }
     
@@ -215,6 +314,10 @@ public record Event(
         return complimentaryTickets;
     }
     
+    public boolean isActive() {
+        return status == EventStatus.ACTIVE;
+    }
+    
     public boolean hasAvailableTickets() {
         return availableTickets > 0;
     }
@@ -0,0 +1,159 @@
+package com.nequi.tickets.domain.model;
+
+import java.time.LocalDateTime;
+
+public record EventProvisioning(
+    String eventId,
+    ProvisioningStatus status,
+    Integer totalTickets,
+    Integer generatedTickets,
+    String failureReason,
+    LocalDateTime startedAt,
+    LocalDateTime updatedAt,
+    LocalDateTime completedAt,
+    Integer attempts,
+    Integer version
+) {
+    
+    public EventProvisioning {
+        if (eventId == null || eventId.isBlank()) {
+            throw new IllegalArgumentException("Event ID cannot be null or blank");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Provisioning status cannot be null");
+        }
+        if (totalTickets == null || totalTickets <= 0) {
+            throw new IllegalArgumentException("Total tickets must be positive");
+        }
+        if (generatedTickets == null || generatedTickets < 0 || generatedTickets > totalTickets) {
+            throw new IllegalArgumentException("Generated tickets must be between 0 and total tickets");
+        }
+        if (attempts == null || attempts < 0) {
+            throw new IllegalArgumentException("Attempts cannot be negative");
+        }
+        if (version == null || version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+    }
+    
+    public static EventProvisioning start(String eventId, int totalTickets) {
+        LocalDateTime now = LocalDateTime.now();
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.IN_PROGRESS,
+            totalTickets,
+            0,
+            null,
+            now,
+            now,
+            null,
+            0,
+            0
+        );
+    }
+    
+    public static EventProvisioning completed(Event event) {
+        return new EventProvisioning(
+            event.eventId(),
+            ProvisioningStatus.COMPLETED,
+            event.totalCapacity(),
+            event.totalCapacity(),
+            null,
+            event.createdAt(),
+            event.createdAt(),
+            event.createdAt(),
+            0,
+            0
+        );
+    }
+    
+    public EventProvisioning advanceTo(int generated) {
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.IN_PROGRESS,
+            totalTickets,
+            generated,
+            null,
+            startedAt,
+            LocalDateTime.now(),
+            null,
+            attempts,
+            version + 1
+        );
+    }
+    
+    public EventProvisioning complete() {
+        LocalDateTime now = LocalDateTime.now();
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.COMPLETED,
+            totalTickets,
+            totalTickets,
+            null,
+            startedAt,
+            now,
+            now,
+            attempts,
+            version + 1
+        );
+    }
+    
+    public EventProvisioning fail(String reason) {
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.FAILED,
+            totalTickets,
+            generatedTickets,
+            reason,
+            startedAt,
+            LocalDateTime.now(),
+            null,
+            attempts,
+            version + 1
+        );
+    }
+    
+    public EventProvisioning claim() {
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.IN_PROGRESS,
+            totalTickets,
+            generatedTickets,
+            null,
+            startedAt,
+            LocalDateTime.now(),
+            null,
+            attempts + 1,
+            version + 1
+        );
+    }
+    
+    public EventProvisioning abandon() {
+        return new EventProvisioning(
+            eventId,
+            ProvisioningStatus.ABANDONED,
+            totalTickets,
+            generatedTickets,
+            failureReason,
+            startedAt,
+            LocalDateTime.now(),
+            null,
+            attempts,
+            version + 1
+        );
+    }
+    
+    public int remainingTickets() {
+        return totalTickets - generatedTickets;
+    }
+    
+    public boolean isFinished() {
+        return status == ProvisioningStatus.COMPLETED
+            || status == ProvisioningStatus.FAILED
+            || status == ProvisioningStatus.ABANDONED;
+    }
+    
+    public double percentComplete() {
+        return Math.floor(generatedTickets * 1000.0 / totalTickets) / 10.0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.nequi.tickets.domain.model;
+
+public enum ProvisioningStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED,
+    ABANDONED
+}
@@ -0,0 +1,6 @@
+package com.nequi.tickets.domain.model;
+
+public enum ReadConsistency {
+    EVENTUAL,
+    STRONG
+}
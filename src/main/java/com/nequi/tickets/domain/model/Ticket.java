@@ -42,7 +42,10 @@ public record Ticket(
     }
     
     public static Ticket createAvailableTicket(String ticketId, String eventId) {
-        LocalDateTime now = LocalDateTime.now();
+        return createAvailableTicket(ticketId, eventId, LocalDateTime.now());
+    }
+
+    public static Ticket createAvailableTicket(String ticketId, String eventId, LocalDateTime now) {
         return new Ticket(
             ticketId,
             eventId,
@@ -0,0 +1,17 @@
+package com.nequi.tickets.domain.repository;
+
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EventProvisioningRepository {
+    
+    Mono<EventProvisioning> save(EventProvisioning provisioning);
+    
+    Mono<EventProvisioning> saveIfVersion(EventProvisioning provisioning, Integer expectedVersion);
+    
+    Mono<EventProvisioning> findById(String eventId);
+    
+    Flux<EventProvisioning> findByStatus(ProvisioningStatus status);
+}
@@ -1,6 +1,7 @@
 package com.nequi.tickets.domain.repository;
 
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -8,8 +9,12 @@ public interface EventRepository {
     
     Mono<Event> save(Event event);
     
+    Mono<Event> saveIfVersion(Event event, Integer expectedVersion);
+    
     Mono<Event> findById(String eventId);
     
+    Mono<Event> findById(String eventId, ReadConsistency consistency);
+    
     Flux<Event> findAll();
     
     Flux<Event> findUpcomingEvents(java.time.LocalDateTime startDate);
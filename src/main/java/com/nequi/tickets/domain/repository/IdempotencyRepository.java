@@ -0,0 +1,12 @@
+package com.nequi.tickets.domain.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface IdempotencyRepository {
+    
+    Mono<Boolean> exists(String key);
+    
+    Mono<Boolean> markProcessed(String key, Duration ttl);
+}
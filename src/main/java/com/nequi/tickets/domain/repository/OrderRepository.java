@@ -2,6 +2,7 @@ package com.nequi.tickets.domain.repository;
 
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,8 +12,12 @@ public interface OrderRepository {
     
     Mono<Order> save(Order order);
     
+    Mono<Order> saveIfVersion(Order order, Integer expectedVersion);
+    
     Mono<Order> findById(String orderId);
     
+    Mono<Order> findById(String orderId, ReadConsistency consistency);
+    
     Flux<Order> findByIds(List<String> orderIds);
     
     Flux<Order> findByCustomerId(String customerId);
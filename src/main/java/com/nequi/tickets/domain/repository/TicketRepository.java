@@ -12,8 +12,12 @@ public interface TicketRepository {
     
     Mono<Ticket> save(Ticket ticket);
     
+    Mono<Ticket> saveIfVersion(Ticket ticket, Integer expectedVersion);
+    
     Flux<Ticket> saveAll(List<Ticket> tickets);
     
+    Mono<Long> saveStream(Flux<Ticket> tickets);
+    
     Mono<Ticket> findById(String ticketId);
     
     Flux<Ticket> findByEventId(String eventId);
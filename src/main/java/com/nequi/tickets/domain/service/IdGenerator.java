@@ -0,0 +1,6 @@
+package com.nequi.tickets.domain.service;
+
+public interface IdGenerator {
+    
+    String nextId();
+}
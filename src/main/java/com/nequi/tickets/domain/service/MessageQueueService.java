@@ -1,5 +1,6 @@
 package com.nequi.tickets.domain.service;
 
+import com.nequi.tickets.domain.model.Order;
 import reactor.core.publisher.Mono;
 
 public interface MessageQueueService {
@@ -7,4 +8,8 @@ public interface MessageQueueService {
     Mono<Void> sendOrderForProcessing(String orderId);
     
     Mono<Void> sendOrderForProcessing(String orderId, int delaySeconds);
+    
+    Mono<Void> sendOrderForProcessing(Order order);
+    
+    Mono<Void> sendOrderForProcessing(Order order, int delaySeconds);
 }
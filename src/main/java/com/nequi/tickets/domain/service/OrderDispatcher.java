@@ -0,0 +1,9 @@
+package com.nequi.tickets.domain.service;
+
+import com.nequi.tickets.domain.model.Order;
+import reactor.core.publisher.Mono;
+
+public interface OrderDispatcher {
+    
+    Mono<Void> dispatch(Order order);
+}
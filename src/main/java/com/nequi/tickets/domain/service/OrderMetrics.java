@@ -0,0 +1,8 @@
+package com.nequi.tickets.domain.service;
+
+import com.nequi.tickets.domain.model.Order;
+
+public interface OrderMetrics {
+    
+    void recordCompleted(Order order);
+}
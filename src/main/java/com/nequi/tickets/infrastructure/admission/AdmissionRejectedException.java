@@ -0,0 +1,49 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import java.time.Duration;
+
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final String eventId;
+    private final long position;
+    private final long waitingAhead;
+    private final String waitingRoomToken;
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String eventId, long position, long waitingAhead,
+                                      String waitingRoomToken, Duration retryAfter) {
+        super(waitingRoomToken != null
+            ? String.format("Event %s is at capacity, you are number %d in the waiting room", eventId, waitingAhead)
+            : String.format("Event %s is at capacity and its waiting room is full, please retry later", eventId),
+            null, false, false);
+        this.eventId = eventId;
+        this.position = position;
+        this.waitingAhead = waitingAhead;
+        this.waitingRoomToken = waitingRoomToken;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getWaitingAhead() {
+        return waitingAhead;
+    }
+
+    public String getWaitingRoomToken() {
+        return waitingRoomToken;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public boolean isQueued() {
+        return waitingRoomToken != null;
+    }
+}
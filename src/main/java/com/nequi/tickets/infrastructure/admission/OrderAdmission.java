@@ -0,0 +1,118 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class OrderAdmission {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderAdmission.class);
+
+    public static final String WAITING_ROOM_TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    private final boolean enabled;
+    private final double tokensPerSecond;
+    private final long burst;
+    private final long maxWaiting;
+    private final long maxRooms;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+    private final WaitingRoomTokens tokens;
+    private final Map<WaitingRoom.Outcome, Counter> outcomes = new EnumMap<>(WaitingRoom.Outcome.class);
+    private final ConcurrentHashMap<String, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public OrderAdmission(
+            MeterRegistry meterRegistry,
+            @Value("${business.order.admission.enabled:true}") boolean enabled,
+            @Value("${business.order.admission.tokens-per-second:200}") double tokensPerSecond,
+            @Value("${business.order.admission.burst:400}") long burst,
+            @Value("${business.order.admission.waiting-room.max-size:100000}") long maxWaiting,
+            @Value("${business.order.admission.waiting-room.token-ttl-seconds:600}") long tokenTtlSeconds,
+            @Value("${business.order.admission.waiting-room.signing-key:}") String signingKey,
+            @Value("${business.order.admission.idle-eviction-ms:60000}") long idleEvictionMs,
+            @Value("${business.order.admission.max-rooms:10000}") long maxRooms) {
+        this(meterRegistry, enabled, tokensPerSecond, burst, maxWaiting, tokenTtlSeconds, signingKey, idleEvictionMs,
+            maxRooms, System::nanoTime);
+    }
+
+    OrderAdmission(MeterRegistry meterRegistry, boolean enabled, double tokensPerSecond, long burst, long maxWaiting,
+                   long tokenTtlSeconds, String signingKey, long idleEvictionMs, long maxRooms, LongSupplier nanoClock) {
+        if (tokensPerSecond <= 0 || burst < 1 || maxWaiting < 0 || maxRooms < 1) {
+            throw new IllegalArgumentException("Admission rate, burst and room cap must be positive and waiting room size non-negative");
+        }
+        this.enabled = enabled;
+        this.tokensPerSecond = tokensPerSecond;
+        this.burst = burst;
+        this.maxWaiting = maxWaiting;
+        this.maxRooms = maxRooms;
+        this.idleNanos = Duration.ofMillis(idleEvictionMs).toNanos();
+        this.nanoClock = nanoClock;
+        this.tokens = new WaitingRoomTokens(signingKey, Duration.ofSeconds(tokenTtlSeconds));
+        if (enabled && (signingKey == null || signingKey.isBlank())) {
+            logger.warn("No waiting room signing key configured, tokens are only honoured by this instance");
+        }
+        for (WaitingRoom.Outcome outcome : WaitingRoom.Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("orders.admission")
+                .description("Order admission decisions in front of the reservation path")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    public Mono<Void> admit(String eventId, String waitingRoomToken) {
+        if (!enabled || eventId == null || eventId.isBlank()) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            WaitingRoom room = rooms.get(eventId);
+            if (room == null) {
+                if (rooms.size() >= maxRooms) {
+                    outcomes.get(WaitingRoom.Outcome.FULL).increment();
+                    return Mono.error(new AdmissionRejectedException(eventId, 0, 0, null, retryAfter(0)));
+                }
+                room = rooms.computeIfAbsent(eventId, id ->
+                    new WaitingRoom(new TokenBucket(burst, tokensPerSecond, nanoClock), maxWaiting, nanoClock));
+            }
+            WaitingRoom.Admission admission = room.enter(tokens.position(waitingRoomToken, eventId, room.id()));
+            outcomes.get(admission.outcome()).increment();
+
+            return switch (admission.outcome()) {
+                case ADMITTED -> Mono.empty();
+                case QUEUED -> Mono.error(new AdmissionRejectedException(eventId, admission.position(), admission.ahead(),
+                    tokens.issue(eventId, room.id(), admission.position()), retryAfter(admission.ahead())));
+                case FULL -> Mono.error(new AdmissionRejectedException(eventId, 0, admission.ahead(),
+                    null, retryAfter(admission.ahead())));
+            };
+        });
+    }
+
+    @Scheduled(
+        initialDelayString = "${business.order.admission.idle-eviction-ms:60000}",
+        fixedDelayString = "${business.order.admission.idle-eviction-ms:60000}"
+    )
+    public void evictIdleRooms() {
+        long cutoff = nanoClock.getAsLong() - idleNanos;
+        int before = rooms.size();
+        rooms.values().removeIf(room -> room.isIdleSince(cutoff));
+        if (before != rooms.size()) {
+            logger.debug("Evicted {} idle waiting rooms, {} still active", before - rooms.size(), rooms.size());
+        }
+    }
+
+    private Duration retryAfter(long ahead) {
+        return Duration.ofSeconds(Math.max(1, (long) Math.ceil(ahead / tokensPerSecond)));
+    }
+}
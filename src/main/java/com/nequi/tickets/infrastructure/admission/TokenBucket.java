@@ -0,0 +1,55 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import java.util.function.LongSupplier;
+
+public final class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, double tokensPerSecond, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Bucket capacity must be at least 1");
+        }
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        return tryAcquireUpTo(1) == 1;
+    }
+
+    public synchronized long tryAcquireUpTo(long permits) {
+        refill();
+        long granted = Math.min(permits, (long) tokens);
+        if (granted <= 0) {
+            return 0;
+        }
+        tokens -= granted;
+        return granted;
+    }
+
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
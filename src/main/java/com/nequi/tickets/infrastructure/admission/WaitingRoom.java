@@ -0,0 +1,63 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+final class WaitingRoom {
+
+    enum Outcome {
+        ADMITTED,
+        QUEUED,
+        FULL
+    }
+
+    record Admission(Outcome outcome, long position, long ahead) {
+    }
+
+    private final String roomId = UUID.randomUUID().toString();
+    private final TokenBucket bucket;
+    private final long maxWaiting;
+    private final LongSupplier nanoClock;
+    private final BitSet usedPositions = new BitSet();
+    private long issued;
+    private long released;
+    private long lastActivity;
+
+    WaitingRoom(TokenBucket bucket, long maxWaiting, LongSupplier nanoClock) {
+        this.bucket = bucket;
+        this.maxWaiting = maxWaiting;
+        this.nanoClock = nanoClock;
+        this.lastActivity = nanoClock.getAsLong();
+    }
+
+    String id() {
+        return roomId;
+    }
+
+    synchronized Admission enter(long position) {
+        lastActivity = nanoClock.getAsLong();
+        released += bucket.tryAcquireUpTo(issued - released);
+
+        if (position > 0 && position <= released && !usedPositions.get((int) position)) {
+            usedPositions.set((int) position);
+            return new Admission(Outcome.ADMITTED, position, 0);
+        }
+        if (position > released && position <= issued) {
+            return new Admission(Outcome.QUEUED, position, position - released);
+        }
+        if (issued == released && bucket.tryAcquire()) {
+            return new Admission(Outcome.ADMITTED, 0, 0);
+        }
+        if (issued - released >= maxWaiting) {
+            return new Admission(Outcome.FULL, 0, issued - released);
+        }
+
+        issued++;
+        return new Admission(Outcome.QUEUED, issued, issued - released);
+    }
+
+    synchronized boolean isIdleSince(long cutoffNanos) {
+        return issued == released && lastActivity - cutoffNanos < 0 && bucket.isFull();
+    }
+}
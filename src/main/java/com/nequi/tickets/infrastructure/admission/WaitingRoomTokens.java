@@ -0,0 +1,85 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+final class WaitingRoomTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '|';
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final LongSupplier millisClock;
+
+    WaitingRoomTokens(String signingKey, Duration ttl) {
+        this(signingKey, ttl, System::currentTimeMillis);
+    }
+
+    WaitingRoomTokens(String signingKey, Duration ttl, LongSupplier millisClock) {
+        this.key = new SecretKeySpec(secret(signingKey), ALGORITHM);
+        this.ttlMillis = ttl.toMillis();
+        this.millisClock = millisClock;
+    }
+
+    String issue(String eventId, String roomId, long position) {
+        String payload = eventId + SEPARATOR + roomId + SEPARATOR + position + SEPARATOR + millisClock.getAsLong();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    long position(String token, String eventId, String roomId) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            int dot = token.indexOf('.');
+            if (dot < 0) {
+                return 0;
+            }
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            if (!MessageDigest.isEqual(sign(payload), decoder.decode(token.substring(dot + 1)))) {
+                return 0;
+            }
+
+            String prefix = eventId + SEPARATOR + roomId + SEPARATOR;
+            if (!payload.startsWith(prefix)) {
+                return 0;
+            }
+            String[] parts = payload.substring(prefix.length()).split("\\|");
+            if (parts.length != 2 || millisClock.getAsLong() - Long.parseLong(parts[1]) > ttlMillis) {
+                return 0;
+            }
+            return Long.parseLong(parts[0]);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] secret(String signingKey) {
+        if (signingKey != null && !signingKey.isBlank()) {
+            return signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign waiting room token", e);
+        }
+    }
+}
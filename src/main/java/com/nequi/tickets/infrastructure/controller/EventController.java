@@ -4,8 +4,10 @@ import com.nequi.tickets.infrastructure.dto.AvailabilityResponse;
 import com.nequi.tickets.infrastructure.dto.CreateEventRequest;
 import com.nequi.tickets.infrastructure.dto.DtoMapper;
 import com.nequi.tickets.infrastructure.dto.EventResponse;
+import com.nequi.tickets.infrastructure.dto.ProvisioningResponse;
 import com.nequi.tickets.usecase.port.CreateEventPort;
 import com.nequi.tickets.usecase.port.GetEventPort;
+import com.nequi.tickets.usecase.port.GetEventProvisioningPort;
 import com.nequi.tickets.usecase.port.ListEventsPort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -20,14 +22,17 @@ public class EventController {
     private final CreateEventPort createEventPort;
     private final GetEventPort getEventPort;
     private final ListEventsPort listEventsPort;
+    private final GetEventProvisioningPort getEventProvisioningPort;
     
     public EventController(
             CreateEventPort createEventPort,
             GetEventPort getEventPort,
-            ListEventsPort listEventsPort) {
+            ListEventsPort listEventsPort,
+            GetEventProvisioningPort getEventProvisioningPort) {
         this.createEventPort = createEventPort;
         this.getEventPort = getEventPort;
         this.listEventsPort = listEventsPort;
+        this.getEventProvisioningPort = getEventProvisioningPort;
     }
     
     @PostMapping(
@@ -56,6 +61,16 @@ public class EventController {
             .map(DtoMapper::toAvailabilityResponse);
     }
     
+    @GetMapping(
+        value = "/{eventId}/provisioning",
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ProvisioningResponse> getProvisioning(@PathVariable String eventId) {
+        return getEventProvisioningPort.execute(eventId)
+            .map(DtoMapper::toProvisioningResponse);
+    }
+    
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.OK)
     public Flux<EventResponse> listEvents() {
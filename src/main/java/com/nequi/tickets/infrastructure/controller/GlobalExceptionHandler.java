@@ -1,9 +1,14 @@
 package com.nequi.tickets.infrastructure.controller;
 
 import com.nequi.tickets.domain.exception.*;
+import com.nequi.tickets.infrastructure.admission.AdmissionRejectedException;
+import com.nequi.tickets.infrastructure.admission.OrderAdmission;
 import com.nequi.tickets.infrastructure.dto.ErrorResponse;
+import com.nequi.tickets.infrastructure.dto.WaitingRoomResponse;
+import com.nequi.tickets.infrastructure.sdk.ConcurrencyLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -84,6 +89,22 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
     }
     
+    @ExceptionHandler(EventNotActiveException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleEventNotActiveException(
+            EventNotActiveException ex, ServerWebExchange exchange) {
+        
+        logger.warn("Event not active: {}", ex.getMessage());
+        
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            ex.getMessage(),
+            exchange.getRequest().getPath().value()
+        );
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+    }
+    
     @ExceptionHandler(MaxTicketsExceededException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleMaxTicketsExceededException(
             MaxTicketsExceededException ex, ServerWebExchange exchange) {
@@ -187,6 +208,50 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
     }
     
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public Mono<ResponseEntity<WaitingRoomResponse>> handleAdmissionRejectedException(
+            AdmissionRejectedException ex, ServerWebExchange exchange) {
+        
+        logger.debug("Order admission rejected: {}", ex.getMessage());
+        
+        long retryAfterSeconds = ex.getRetryAfter().toSeconds();
+        WaitingRoomResponse body = new WaitingRoomResponse(
+            ex.isQueued() ? "QUEUED" : "WAITING_ROOM_FULL",
+            ex.getEventId(),
+            ex.isQueued() ? ex.getPosition() : null,
+            ex.getWaitingAhead(),
+            retryAfterSeconds,
+            ex.getWaitingRoomToken(),
+            ex.getMessage()
+        );
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        if (ex.isQueued()) {
+            response.header(OrderAdmission.WAITING_ROOM_TOKEN_HEADER, ex.getWaitingRoomToken());
+        }
+        
+        return Mono.just(response.body(body));
+    }
+    
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleConcurrencyLimitExceededException(
+            ConcurrencyLimitExceededException ex, ServerWebExchange exchange) {
+        
+        logger.debug("Outbound call shed: {}", ex.getMessage());
+        
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "The service is overloaded, please retry shortly",
+            exchange.getRequest().getPath().value()
+        );
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error));
+    }
+    
     @ExceptionHandler(DomainException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleDomainException(
             DomainException ex, ServerWebExchange exchange) {
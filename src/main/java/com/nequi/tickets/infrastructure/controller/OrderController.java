@@ -1,5 +1,6 @@
 package com.nequi.tickets.infrastructure.controller;
 
+import com.nequi.tickets.infrastructure.admission.OrderAdmission;
 import com.nequi.tickets.infrastructure.dto.CreateOrderRequest;
 import com.nequi.tickets.infrastructure.dto.DtoMapper;
 import com.nequi.tickets.infrastructure.dto.OrderResponse;
@@ -18,14 +19,17 @@ public class OrderController {
     private final CreateOrderPort createOrderPort;
     private final GetOrderStatusPort getOrderStatusPort;
     private final ConfirmOrderPort confirmOrderPort;
+    private final OrderAdmission orderAdmission;
     
     public OrderController(
             CreateOrderPort createOrderPort,
             GetOrderStatusPort getOrderStatusPort,
-            ConfirmOrderPort confirmOrderPort) {
+            ConfirmOrderPort confirmOrderPort,
+            OrderAdmission orderAdmission) {
         this.createOrderPort = createOrderPort;
         this.getOrderStatusPort = getOrderStatusPort;
         this.confirmOrderPort = confirmOrderPort;
+        this.orderAdmission = orderAdmission;
     }
     
     @PostMapping(
@@ -33,12 +37,15 @@ public class OrderController {
         consumes = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public Mono<OrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
-        return createOrderPort.execute(
+    public Mono<OrderResponse> createOrder(
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = OrderAdmission.WAITING_ROOM_TOKEN_HEADER, required = false) String waitingRoomToken) {
+        return orderAdmission.admit(request.eventId(), waitingRoomToken)
+            .then(Mono.defer(() -> createOrderPort.execute(
                 request.eventId(),
                 request.customerId(),
                 request.numberOfTickets()
-            )
+            )))
             .map(DtoMapper::toOrderResponse);
     }
     
@@ -1,6 +1,7 @@
 package com.nequi.tickets.infrastructure.dto;
 
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.Ticket;
 
@@ -25,7 +26,8 @@ public final class DtoMapper {
             response.complimentaryTickets() != null ? response.complimentaryTickets() : 0,
             0,
             response.createdAt(),
-            response.updatedAt()
+            response.updatedAt(),
+            response.status()
         );
     }
     
@@ -43,7 +45,8 @@ public final class DtoMapper {
             event.reservedTickets(),
             event.complimentaryTickets(),
             event.createdAt(),
-            event.updatedAt()
+            event.updatedAt(),
+            event.status()
         );
     }
     
@@ -71,7 +74,7 @@ public final class DtoMapper {
         }
         
         int soldTickets = event.getSoldTickets();
-        boolean isAvailable = event.availableTickets() > 0;
+        boolean isAvailable = event.isActive() && event.availableTickets() > 0;
         
         return new AvailabilityResponse(
             event.eventId(),
@@ -89,6 +92,23 @@ public final class DtoMapper {
         );
     }
     
+    public static ProvisioningResponse toProvisioningResponse(EventProvisioning provisioning) {
+        if (provisioning == null) {
+            return null;
+        }
+        return new ProvisioningResponse(
+            provisioning.eventId(),
+            provisioning.status(),
+            provisioning.totalTickets(),
+            provisioning.generatedTickets(),
+            provisioning.percentComplete(),
+            provisioning.failureReason(),
+            provisioning.startedAt(),
+            provisioning.updatedAt(),
+            provisioning.completedAt()
+        );
+    }
+    
     public static TicketResponse toTicketResponse(Ticket ticket) {
         if (ticket == null) {
             return null;
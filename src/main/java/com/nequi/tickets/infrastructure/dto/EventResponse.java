@@ -1,6 +1,7 @@
 package com.nequi.tickets.infrastructure.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nequi.tickets.domain.model.EventStatus;
 
 import java.time.LocalDateTime;
 
@@ -33,6 +34,9 @@ public record EventResponse(
     LocalDateTime createdAt,
     
     @JsonProperty("updatedAt")
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    
+    @JsonProperty("status")
+    EventStatus status
 ) {
 }
@@ -0,0 +1,36 @@
+package com.nequi.tickets.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+
+import java.time.LocalDateTime;
+
+public record ProvisioningResponse(
+    @JsonProperty("eventId")
+    String eventId,
+    
+    @JsonProperty("status")
+    ProvisioningStatus status,
+    
+    @JsonProperty("totalTickets")
+    Integer totalTickets,
+    
+    @JsonProperty("generatedTickets")
+    Integer generatedTickets,
+    
+    @JsonProperty("percentComplete")
+    Double percentComplete,
+    
+    @JsonProperty("failureReason")
+    String failureReason,
+    
+    @JsonProperty("startedAt")
+    LocalDateTime startedAt,
+    
+    @JsonProperty("updatedAt")
+    LocalDateTime updatedAt,
+    
+    @JsonProperty("completedAt")
+    LocalDateTime completedAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.nequi.tickets.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WaitingRoomResponse(
+    @JsonProperty("status")
+    String status,
+    
+    @JsonProperty("eventId")
+    String eventId,
+    
+    @JsonProperty("position")
+    Long position,
+    
+    @JsonProperty("waitingAhead")
+    Long waitingAhead,
+    
+    @JsonProperty("retryAfterSeconds")
+    Long retryAfterSeconds,
+    
+    @JsonProperty("waitingRoomToken")
+    String waitingRoomToken,
+    
+    @JsonProperty("message")
+    String message
+) {
+}
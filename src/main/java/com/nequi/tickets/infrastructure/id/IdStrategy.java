@@ -0,0 +1,6 @@
+package com.nequi.tickets.infrastructure.id;
+
+public enum IdStrategy {
+    UUID,
+    TIME_ORDERED
+}
@@ -0,0 +1,40 @@
+package com.nequi.tickets.infrastructure.id;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+
+public final class NodeIds {
+    
+    private NodeIds() {
+    }
+    
+    public static OptionalInt fromLocalNetwork() {
+        try {
+            List<InetAddress> addresses = new ArrayList<>();
+            for (NetworkInterface networkInterface : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+                if (networkInterface.isUp() && !networkInterface.isLoopback() && !networkInterface.isVirtual()) {
+                    addresses.addAll(Collections.list(networkInterface.getInetAddresses()));
+                }
+            }
+            return fromAddresses(addresses);
+        } catch (SocketException e) {
+            return OptionalInt.empty();
+        }
+    }
+    
+    static OptionalInt fromAddresses(List<InetAddress> addresses) {
+        return addresses.stream()
+            .filter(address -> address instanceof Inet4Address && address.isSiteLocalAddress())
+            .mapToInt(address -> {
+                byte[] octets = address.getAddress();
+                return ((octets[2] & 0xFF) << 8) | (octets[3] & 0xFF);
+            })
+            .findFirst();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nequi.tickets.infrastructure.id;
+
+import com.nequi.tickets.domain.service.IdGenerator;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+    
+    static final int ID_LENGTH = 16;
+    static final int MAX_NODE_ID = 0xFFFF;
+    
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int SEQUENCE_BITS = 16;
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+    
+    private final Clock clock;
+    private final int nodeId;
+    private final AtomicLong lastState = new AtomicLong();
+    
+    public TimeOrderedIdGenerator(int nodeId) {
+        this(Clock.systemUTC(), nodeId);
+    }
+    
+    TimeOrderedIdGenerator(Clock clock, int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.clock = clock;
+        this.nodeId = nodeId;
+    }
+    
+    public int nodeId() {
+        return nodeId;
+    }
+    
+    @Override
+    public String nextId() {
+        return encode(nextState(), nodeId);
+    }
+    
+    private long nextState() {
+        long timestamp = clock.millis();
+        if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Clock is outside of the supported range: " + timestamp);
+        }
+        
+        long candidate = timestamp << SEQUENCE_BITS;
+        while (true) {
+            long previous = lastState.get();
+            long next = candidate > previous ? candidate : previous + 1;
+            if (lastState.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+    
+    static String encode(long state, int nodeId) {
+        char[] chars = new char[ID_LENGTH];
+        
+        long tail = ((state & 0xF) << 16) | nodeId;
+        for (int i = ID_LENGTH - 1; i >= 12; i--) {
+            chars[i] = ALPHABET[(int) (tail & 0x1F)];
+            tail >>>= 5;
+        }
+        
+        long head = state >>> 4;
+        for (int i = 11; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (head & 0x1F)];
+            head >>>= 5;
+        }
+        
+        return new String(chars);
+    }
+    
+    static long timestampOf(String id) {
+        long head = 0;
+        for (int i = 0; i < 12; i++) {
+            head = (head << 5) | indexOf(id.charAt(i));
+        }
+        return head >>> (SEQUENCE_BITS - 4);
+    }
+    
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid identifier character: " + c);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nequi.tickets.infrastructure.id;
+
+import com.nequi.tickets.domain.service.IdGenerator;
+
+import java.util.UUID;
+
+public class UuidIdGenerator implements IdGenerator {
+    
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
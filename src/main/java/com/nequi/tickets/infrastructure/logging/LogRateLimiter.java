@@ -0,0 +1,55 @@
+package com.nequi.tickets.infrastructure.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public final class LogRateLimiter {
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong windowStart;
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(int permitsPerWindow, Duration window) {
+        this(permitsPerWindow, window, System::nanoTime);
+    }
+
+    LogRateLimiter(int permitsPerWindow, Duration window, LongSupplier nanoClock) {
+        if (permitsPerWindow < 1) {
+            throw new IllegalArgumentException("Permits per window must be at least 1");
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public static LogRateLimiter perSecond(int permits) {
+        return new LogRateLimiter(permits, Duration.ofSeconds(1));
+    }
+
+    public boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+
+        if (permitsUsed.incrementAndGet() <= permitsPerWindow) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
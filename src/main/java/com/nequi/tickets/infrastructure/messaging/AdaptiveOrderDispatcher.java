@@ -0,0 +1,103 @@
+package com.nequi.tickets.infrastructure.messaging;
+
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.domain.service.OrderDispatcher;
+import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class AdaptiveOrderDispatcher implements OrderDispatcher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveOrderDispatcher.class);
+    
+    private final MessageQueueService messageQueueService;
+    private final ProcessOrderUseCase processOrderUseCase;
+    private final OrderIdempotencyGuard idempotencyGuard;
+    private final boolean fastPathEnabled;
+    private final int maxInFlight;
+    private final int safetyDelaySeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    public AdaptiveOrderDispatcher(
+            MessageQueueService messageQueueService,
+            ProcessOrderUseCase processOrderUseCase,
+            OrderIdempotencyGuard idempotencyGuard,
+            @Value("${business.order.fast-path.enabled:true}") boolean fastPathEnabled,
+            @Value("${business.order.fast-path.max-in-flight:8}") int maxInFlight,
+            @Value("${business.order.fast-path.safety-delay-seconds:60}") int safetyDelaySeconds) {
+        this.messageQueueService = messageQueueService;
+        this.processOrderUseCase = processOrderUseCase;
+        this.idempotencyGuard = idempotencyGuard;
+        this.fastPathEnabled = fastPathEnabled;
+        this.maxInFlight = maxInFlight;
+        this.safetyDelaySeconds = safetyDelaySeconds;
+    }
+    
+    @Override
+    public Mono<Void> dispatch(Order order) {
+        if (order == null) {
+            return Mono.error(new IllegalArgumentException("Order cannot be null"));
+        }
+        
+        return Mono.defer(() -> {
+            if (!fastPathEnabled || !tryAcquire()) {
+                logger.debug("Dispatching order {} through the queue only. In-flight fast path orders: {}",
+                    order.orderId(), inFlight.get());
+                return messageQueueService.sendOrderForProcessing(order);
+            }
+            
+            AtomicBoolean enqueued = new AtomicBoolean();
+            return messageQueueService.sendOrderForProcessing(order, safetyDelaySeconds)
+                .doOnSuccess(unused -> enqueued.set(true))
+                .doFinally(signal -> {
+                    if (enqueued.get()) {
+                        processInProcess(order);
+                    } else {
+                        release();
+                    }
+                });
+        });
+    }
+    
+    public int inFlight() {
+        return inFlight.get();
+    }
+    
+    private void processInProcess(Order order) {
+        logger.debug("Processing order {} in-process. Safety message delayed {}s", 
+            order.orderId(), safetyDelaySeconds);
+        
+        Mono.defer(() -> processOrderUseCase.execute(order.orderId()))
+            .flatMap(processed -> idempotencyGuard.markProcessed(null, processed).thenReturn(processed))
+            .doFinally(signal -> release())
+            .subscribe(
+                processed -> logger.debug("Order processed in-process. Order ID: {}, Status: {}",
+                    processed.orderId(), processed.status()),
+                error -> logger.warn("In-process order processing failed, the safety message will retry it. Order ID: {}, Error: {}",
+                    order.orderId(), error.getMessage())
+            );
+    }
+    
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+    
+    private void release() {
+        inFlight.decrementAndGet();
+    }
+}
@@ -0,0 +1,133 @@
+package com.nequi.tickets.infrastructure.messaging;
+
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.repository.IdempotencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class OrderIdempotencyGuard {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdempotencyGuard.class);
+    
+    private static final String ORDER_KEY_PREFIX = "order#";
+    private static final String MESSAGE_KEY_PREFIX = "message#";
+    private static final String STATUS_SEPARATOR = "#";
+    
+    private final IdempotencyRepository idempotencyRepository;
+    private final Duration ttl;
+    private final Map<String, Boolean> recentlyCompleted;
+    
+    public OrderIdempotencyGuard(
+            IdempotencyRepository idempotencyRepository,
+            @Value("${business.order.idempotency.cache-size:10000}") int cacheSize,
+            @Value("${business.order.idempotency.ttl-hours:24}") long ttlHours) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Idempotency cache size must be positive");
+        }
+        this.idempotencyRepository = idempotencyRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recentlyCompleted = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+    
+    public boolean isRecentMessage(String messageId) {
+        return messageId != null && cached(MESSAGE_KEY_PREFIX + messageId);
+    }
+    
+    public Mono<Boolean> isCompleted(String orderId) {
+        if (orderId == null) {
+            return Mono.just(false);
+        }
+        
+        String key = ORDER_KEY_PREFIX + orderId;
+        String processedKey = statusKey(orderId, OrderStatus.PROCESSING);
+        if (cached(key) || cached(processedKey)) {
+            return Mono.just(true);
+        }
+        
+        return Flux.merge(recorded(key), recorded(processedKey))
+            .next()
+            .doOnNext(this::remember)
+            .hasElement()
+            .onErrorResume(error -> {
+                logger.warn("Idempotency lookup failed, processing order anyway. Order ID: {}, Error: {}",
+                    orderId, error.getMessage());
+                return Mono.just(false);
+            });
+    }
+    
+    public Mono<Void> markProcessed(String messageId, Order order) {
+        if (order.status().isFinalState()) {
+            return markCompleted(messageId, order.orderId());
+        }
+        
+        return record(messageId, order.orderId(), statusKey(order.orderId(), order.status()));
+    }
+    
+    public Mono<Void> markCompleted(String messageId, String orderId) {
+        return record(messageId, orderId, ORDER_KEY_PREFIX + orderId);
+    }
+    
+    private Mono<Void> record(String messageId, String orderId, String key) {
+        if (messageId != null) {
+            remember(MESSAGE_KEY_PREFIX + messageId);
+        }
+        
+        remember(key);
+        
+        return idempotencyRepository.markProcessed(key, ttl)
+            .doOnNext(recorded -> {
+                if (!recorded) {
+                    logger.debug("Order already had an idempotency record. Order ID: {}", orderId);
+                }
+            })
+            .onErrorResume(error -> {
+                logger.warn("Failed to write idempotency record. Order ID: {}, Error: {}",
+                    orderId, error.getMessage());
+                return Mono.just(false);
+            })
+            .then();
+    }
+    
+    private Mono<String> recorded(String key) {
+        return idempotencyRepository.exists(key)
+            .filter(Boolean::booleanValue)
+            .map(exists -> key);
+    }
+    
+    private static String statusKey(String orderId, OrderStatus status) {
+        return ORDER_KEY_PREFIX + orderId + STATUS_SEPARATOR + status.name();
+    }
+    
+    public int cachedEntries() {
+        synchronized (recentlyCompleted) {
+            return recentlyCompleted.size();
+        }
+    }
+    
+    private boolean cached(String key) {
+        synchronized (recentlyCompleted) {
+            return recentlyCompleted.get(key) != null;
+        }
+    }
+    
+    private void remember(String key) {
+        synchronized (recentlyCompleted) {
+            recentlyCompleted.put(key, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nequi.tickets.infrastructure.messaging;
+
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.service.OrderMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OrderLatencyMetrics implements OrderMetrics {
+    
+    static final String ENQUEUE_LAG = "orders.latency.enqueue";
+    static final String QUEUE_DWELL = "orders.latency.queue.dwell";
+    static final String PROCESSING = "orders.latency.processing";
+    static final String TOTAL = "orders.latency.total";
+    
+    public static final String OUTCOME_ERROR = "ERROR";
+    
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(15);
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    
+    public OrderLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public void recordEnqueueLag(String lane, long createdAtMillis, long enqueuedAtMillis) {
+        record(ENQUEUE_LAG, "lane", lane, enqueuedAtMillis - createdAtMillis,
+            "Time from order creation to the processing message being accepted by SQS");
+    }
+    
+    public void recordQueueDwell(String lane, long dueAtMillis, long receivedAtMillis) {
+        record(QUEUE_DWELL, "lane", lane, receivedAtMillis - dueAtMillis,
+            "Time a due order message waited in SQS before the consumer picked it up");
+    }
+    
+    public void recordProcessing(String outcome, long startedAtNanos, long finishedAtNanos) {
+        record(PROCESSING, "outcome", outcome, Duration.ofNanos(finishedAtNanos - startedAtNanos).toMillis(),
+            "Time spent processing an order message in the consumer");
+    }
+    
+    @Override
+    public void recordCompleted(Order order) {
+        if (order.createdAt() != null) {
+            recordTotal(order.status().name(),
+                order.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                System.currentTimeMillis());
+        }
+    }
+    
+    public void recordTotal(String outcome, long createdAtMillis, long completedAtMillis) {
+        record(TOTAL, "outcome", outcome, completedAtMillis - createdAtMillis,
+            "Time from order creation to a final order status");
+    }
+    
+    private void record(String name, String tagKey, String tagValue, long millis, String description) {
+        timers.computeIfAbsent(name + "|" + tagValue, key -> Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry))
+            .record(Duration.ofMillis(Math.max(0, millis)));
+    }
+}
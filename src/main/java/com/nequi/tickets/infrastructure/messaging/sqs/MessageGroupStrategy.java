@@ -0,0 +1,20 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+public enum MessageGroupStrategy {
+    
+    GLOBAL,
+    
+    EVENT,
+    
+    ORDER;
+    
+    static final String GLOBAL_GROUP_ID = "order-processing";
+    
+    public String groupIdFor(String orderId, String eventId) {
+        return switch (this) {
+            case GLOBAL -> GLOBAL_GROUP_ID;
+            case EVENT -> eventId != null && !eventId.isBlank() ? "event-" + eventId : "order-" + orderId;
+            case ORDER -> "order-" + orderId;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public enum OrderLane {
+    HIGH,
+    NORMAL;
+    
+    static OrderLane forDeadline(LocalDateTime reservationDeadline, LocalDateTime now, Duration threshold) {
+        if (reservationDeadline == null) {
+            return NORMAL;
+        }
+        return Duration.between(now, reservationDeadline).compareTo(threshold) <= 0 ? HIGH : NORMAL;
+    }
+}
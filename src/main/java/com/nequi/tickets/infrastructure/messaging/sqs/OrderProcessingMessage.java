@@ -0,0 +1,36 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderProcessingMessage(
+    @JsonProperty("orderId")
+    String orderId,
+    
+    @JsonProperty("timestamp")
+    long timestamp,
+    
+    @JsonProperty("notBefore")
+    Long notBefore,
+    
+    @JsonProperty("createdAt")
+    Long createdAt
+) {
+    
+    public OrderProcessingMessage(String orderId, long timestamp) {
+        this(orderId, timestamp, null, null);
+    }
+    
+    public OrderProcessingMessage(String orderId, long timestamp, Long notBefore) {
+        this(orderId, timestamp, notBefore, null);
+    }
+    
+    public long remainingDelayMillis(long now) {
+        return notBefore != null ? Math.max(0, notBefore - now) : 0;
+    }
+    
+    public long dueAt() {
+        return notBefore != null ? Math.max(timestamp, notBefore) : timestamp;
+    }
+}
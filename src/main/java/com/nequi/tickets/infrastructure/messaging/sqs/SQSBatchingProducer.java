@@ -0,0 +1,225 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import com.nequi.tickets.infrastructure.sdk.AdaptiveConcurrencyLimiter;
+import com.nequi.tickets.infrastructure.sdk.ConcurrencyLimitExceededException;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SQSBatchingProducer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SQSBatchingProducer.class);
+
+    static final int SQS_MAX_BATCH_SIZE = 10;
+
+    private final SqsAsyncClient sqsClient;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final int maxConcurrentBatches;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Sinks.Many<PendingSend> pendingSends = Sinks.many().unicast().onBackpressureBuffer();
+
+    private Disposable producerDisposable;
+
+    public SQSBatchingProducer(
+            SqsAsyncClient sqsClient,
+            @Value("${aws.sqs.producer.batching.enabled:true}") boolean enabled,
+            @Value("${aws.sqs.producer.batching.max-batch-size:10}") int maxBatchSize,
+            @Value("${aws.sqs.producer.batching.linger-ms:5}") long lingerMs,
+            @Value("${aws.sqs.producer.batching.max-concurrent-batches:16}") int maxConcurrentBatches,
+            SdkConcurrencyLimits concurrencyLimits) {
+        if (maxBatchSize < 1 || maxBatchSize > SQS_MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + SQS_MAX_BATCH_SIZE);
+        }
+        if (lingerMs < 0) {
+            throw new IllegalArgumentException("Linger cannot be negative");
+        }
+        this.sqsClient = sqsClient;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.linger = Duration.ofMillis(Math.max(1, lingerMs));
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.limiter = concurrencyLimits.sqs();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("SQS batching producer is disabled, messages will be sent one by one");
+            return;
+        }
+
+        producerDisposable = pendingSends.asFlux()
+            .bufferTimeout(maxBatchSize, linger, true)
+            .flatMap(this::dispatch, maxConcurrentBatches)
+            .subscribe(
+                unused -> { },
+                error -> logger.error("Error in SQS batching producer loop", error)
+            );
+
+        logger.info("SQS batching producer started. Max batch size: {}, Linger: {}ms",
+            maxBatchSize, linger.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (producerDisposable != null && !producerDisposable.isDisposed()) {
+            logger.info("Stopping SQS batching producer, flushing pending messages");
+            pendingSends.emitComplete(Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        }
+    }
+
+    public boolean isBatching() {
+        return producerDisposable != null && !producerDisposable.isDisposed();
+    }
+
+    public Mono<String> send(SendMessageRequest request) {
+        return Mono.defer(() -> {
+            if (!isBatching()) {
+                return sendSingle(request);
+            }
+            return Mono.create(sink -> enqueue(new PendingSend(request, sink)));
+        });
+    }
+
+    private void enqueue(PendingSend send) {
+        Sinks.EmitResult result;
+        while ((result = pendingSends.tryEmitNext(send)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+
+        if (result.isFailure()) {
+            logger.debug("Batching producer is not accepting messages ({}), sending directly", result);
+            sendSingle(send.request()).subscribe(send.sink()::success, send.sink()::error);
+        }
+    }
+
+    private Mono<Void> dispatch(List<PendingSend> sends) {
+        Map<String, List<PendingSend>> sendsByQueue = new LinkedHashMap<>();
+        for (PendingSend send : sends) {
+            sendsByQueue.computeIfAbsent(send.request().queueUrl(), queueUrl -> new ArrayList<>()).add(send);
+        }
+
+        return Flux.fromIterable(sendsByQueue.entrySet())
+            .flatMap(entry -> sendBatch(entry.getKey(), entry.getValue()))
+            .then();
+    }
+
+    private Mono<Void> sendBatch(String queueUrl, List<PendingSend> sends) {
+        if (sends.size() == 1) {
+            return completeIndividually(sends.get(0));
+        }
+
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(sends.size());
+        for (int i = 0; i < sends.size(); i++) {
+            entries.add(toBatchEntry(String.valueOf(i), sends.get(i).request()));
+        }
+
+        SendMessageBatchRequest batchRequest = SendMessageBatchRequest.builder()
+            .queueUrl(queueUrl)
+            .entries(entries)
+            .build();
+
+        return limiter.mono(Mono.fromCompletionStage(() -> sqsClient.sendMessageBatch(batchRequest)))
+            .flatMap(response -> completeBatch(sends, response))
+            .onErrorResume(ConcurrencyLimitExceededException.class, error -> {
+                sends.forEach(send -> send.sink().error(error));
+                return Mono.empty();
+            })
+            .onErrorResume(error -> {
+                logger.warn("SQS batch send failed, retrying {} messages individually. Error: {}",
+                    sends.size(), error.getMessage());
+                return Flux.fromIterable(sends)
+                    .flatMap(this::completeIndividually)
+                    .then();
+            });
+    }
+
+    private Mono<Void> completeBatch(List<PendingSend> sends, SendMessageBatchResponse response) {
+        for (SendMessageBatchResultEntry success : response.successful()) {
+            sends.get(Integer.parseInt(success.id())).sink().success(success.messageId());
+        }
+
+        if (response.failed().isEmpty()) {
+            return Mono.empty();
+        }
+
+        logger.warn("{} of {} messages failed within SQS batch, retrying them individually",
+            response.failed().size(), sends.size());
+
+        return Flux.fromIterable(response.failed())
+            .flatMap(failure -> {
+                PendingSend send = sends.get(Integer.parseInt(failure.id()));
+                if (Boolean.TRUE.equals(failure.senderFault())) {
+                    send.sink().error(toException(failure));
+                    return Mono.empty();
+                }
+                return completeIndividually(send);
+            })
+            .then();
+    }
+
+    private static SqsException toException(BatchResultErrorEntry failure) {
+        return (SqsException) SqsException.builder()
+            .message(failure.code() + ": " + failure.message())
+            .awsErrorDetails(AwsErrorDetails.builder()
+                .errorCode(failure.code())
+                .errorMessage(failure.message())
+                .build())
+            .build();
+    }
+
+    private Mono<Void> completeIndividually(PendingSend send) {
+        return sendSingle(send.request())
+            .doOnSuccess(messageId -> send.sink().success(messageId))
+            .doOnError(error -> send.sink().error(error))
+            .onErrorResume(error -> Mono.empty())
+            .then();
+    }
+
+    private Mono<String> sendSingle(SendMessageRequest request) {
+        return limiter.mono(Mono.fromCompletionStage(() -> sqsClient.sendMessage(request)))
+            .mapNotNull(SendMessageResponse::messageId);
+    }
+
+    private static SendMessageBatchRequestEntry toBatchEntry(String id, SendMessageRequest request) {
+        return SendMessageBatchRequestEntry.builder()
+            .id(id)
+            .messageBody(request.messageBody())
+            .delaySeconds(request.delaySeconds())
+            .messageGroupId(request.messageGroupId())
+            .messageDeduplicationId(request.messageDeduplicationId())
+            .messageAttributes(request.messageAttributes())
+            .build();
+    }
+
+    private record PendingSend(SendMessageRequest request, MonoSink<String> sink) {
+    }
+}
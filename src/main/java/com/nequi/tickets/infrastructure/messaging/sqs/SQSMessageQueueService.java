@@ -2,15 +2,24 @@ package com.nequi.tickets.infrastructure.messaging.sqs;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.infrastructure.logging.LogRateLimiter;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import com.nequi.tickets.infrastructure.tracing.ReactorObservations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,17 +28,38 @@ public class SQSMessageQueueService implements MessageQueueService {
     
     private static final Logger logger = LoggerFactory.getLogger(SQSMessageQueueService.class);
     
-    private final SqsAsyncClient sqsClient;
+    static final int SENT_LOGS_PER_SECOND = 10;
+    
+    private final SQSBatchingProducer producer;
     private final String queueUrl;
-    private final ObjectMapper objectMapper;
+    private final String highPriorityQueueUrl;
+    private final ObjectWriter messageWriter;
+    private final MessageGroupStrategy messageGroupStrategy;
+    private final Duration reservationTimeout;
+    private final Duration highPriorityThreshold;
+    private final OrderLatencyMetrics latencyMetrics;
+    private final SQSObservations observations;
+    private final LogRateLimiter sentLogLimiter = LogRateLimiter.perSecond(SENT_LOGS_PER_SECOND);
     
     public SQSMessageQueueService(
-            SqsAsyncClient sqsClient,
+            SQSBatchingProducer producer,
             @Value("${aws.sqs.order-processing-queue-url}") String queueUrl,
-            ObjectMapper objectMapper) {
-        this.sqsClient = sqsClient;
+            @Value("${aws.sqs.high-priority-queue-url:}") String highPriorityQueueUrl,
+            @Value("${aws.sqs.producer.message-group-strategy:ORDER}") MessageGroupStrategy messageGroupStrategy,
+            @Value("${business.reservation.timeout-minutes:10}") int reservationTimeoutMinutes,
+            @Value("${aws.sqs.producer.high-priority-threshold-seconds:120}") int highPriorityThresholdSeconds,
+            ObjectMapper objectMapper,
+            OrderLatencyMetrics latencyMetrics,
+            SQSObservations observations) {
+        this.producer = producer;
         this.queueUrl = queueUrl;
-        this.objectMapper = objectMapper;
+        this.highPriorityQueueUrl = highPriorityQueueUrl;
+        this.messageGroupStrategy = messageGroupStrategy;
+        this.reservationTimeout = Duration.ofMinutes(reservationTimeoutMinutes);
+        this.highPriorityThreshold = Duration.ofSeconds(highPriorityThresholdSeconds);
+        this.messageWriter = objectMapper.writerFor(OrderProcessingMessage.class);
+        this.latencyMetrics = latencyMetrics;
+        this.observations = observations;
     }
     
     @Override
@@ -39,6 +69,72 @@ public class SQSMessageQueueService implements MessageQueueService {
     
     @Override
     public Mono<Void> sendOrderForProcessing(String orderId, int delaySeconds) {
+        return send(orderId, null, null, OrderLane.NORMAL, delaySeconds);
+    }
+    
+    @Override
+    public Mono<Void> sendOrderForProcessing(Order order) {
+        return sendOrderForProcessing(order, 0);
+    }
+    
+    @Override
+    public Mono<Void> sendOrderForProcessing(Order order, int delaySeconds) {
+        if (order == null) {
+            return Mono.error(new IllegalArgumentException("Order cannot be null"));
+        }
+        
+        Long createdAt = order.createdAt() != null
+            ? order.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : null;
+        
+        return send(order.orderId(), order.eventId(), createdAt, laneFor(order), delaySeconds);
+    }
+    
+    Mono<Void> sendOrderForProcessing(OrderProcessingMessage message) {
+        return send(message.orderId(), null, message.createdAt(), laneFor(message.createdAt()), 0);
+    }
+    
+    OrderLane laneFor(Order order) {
+        return laneFor(order.createdAt());
+    }
+    
+    OrderLane laneFor(Long createdAtMillis) {
+        return createdAtMillis != null
+            ? laneFor(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault()))
+            : OrderLane.NORMAL;
+    }
+    
+    private OrderLane laneFor(LocalDateTime createdAt) {
+        if (!hasHighPriorityLane() || createdAt == null) {
+            return OrderLane.NORMAL;
+        }
+        
+        LocalDateTime reservationDeadline = createdAt.plus(reservationTimeout);
+        return OrderLane.forDeadline(reservationDeadline, LocalDateTime.now(), highPriorityThreshold);
+    }
+    
+    Mono<Void> resendDue(String targetQueueUrl, OrderProcessingMessage message, String deduplicationId) {
+        OrderProcessingMessage due = new OrderProcessingMessage(
+            message.orderId(), message.dueAt(), null, message.createdAt());
+        
+        return Mono.fromCallable(() -> messageWriter.writeValueAsString(due))
+            .map(body -> SendMessageRequest.builder()
+                .queueUrl(targetQueueUrl)
+                .messageBody(body)
+                .messageGroupId(MessageGroupStrategy.ORDER.groupIdFor(message.orderId(), null))
+                .messageDeduplicationId(deduplicationId)
+                .build())
+            .flatMap(producer::send)
+            .doOnError(error -> 
+                logger.error("Failed to re-send due order message to SQS. Order ID: {}", message.orderId(), error))
+            .then();
+    }
+    
+    boolean hasHighPriorityLane() {
+        return highPriorityQueueUrl != null && !highPriorityQueueUrl.isBlank();
+    }
+    
+    private Mono<Void> send(String orderId, String eventId, Long createdAt, OrderLane lane, int delaySeconds) {
         if (orderId == null || orderId.isBlank()) {
             return Mono.error(new IllegalArgumentException("Order ID cannot be null or empty"));
         }
@@ -47,25 +143,39 @@ public class SQSMessageQueueService implements MessageQueueService {
             return Mono.error(new IllegalArgumentException("Delay must be between 0 and 900 seconds"));
         }
         
+        String targetQueueUrl = lane == OrderLane.HIGH ? highPriorityQueueUrl : queueUrl;
+        
         try {
-            Map<String, String> messageBody = new HashMap<>();
-            messageBody.put("orderId", orderId);
-            messageBody.put("timestamp", String.valueOf(System.currentTimeMillis()));
+            long now = System.currentTimeMillis();
+            boolean consumerDelay = targetQueueUrl.endsWith(".fifo") && delaySeconds > 0;
+            
+            OrderProcessingMessage message = new OrderProcessingMessage(
+                orderId, now, consumerDelay ? now + delaySeconds * 1000L : null, createdAt);
+            
+            String messageGroupId = consumerDelay
+                ? MessageGroupStrategy.ORDER.groupIdFor(orderId, eventId)
+                : messageGroupStrategy.groupIdFor(orderId, eventId);
             
-            String messageBodyJson = objectMapper.writeValueAsString(messageBody);
+            SendMessageRequest.Builder request = SendMessageRequest.builder()
+                .queueUrl(targetQueueUrl)
+                .messageBody(messageWriter.writeValueAsString(message))
+                .delaySeconds(consumerDelay ? 0 : delaySeconds)
+                .messageGroupId(messageGroupId)
+                .messageDeduplicationId(orderId);
             
-            SendMessageRequest request = SendMessageRequest.builder()
-                .queueUrl(queueUrl)
-                .messageBody(messageBodyJson)
-                .delaySeconds(delaySeconds)
-                .messageGroupId("order-processing")
-                .messageDeduplicationId(orderId)
-                .build();
+            Map<String, MessageAttributeValue> attributes = new HashMap<>();
             
-            return Mono.fromCompletionStage(() -> sqsClient.sendMessage(request))
-                .doOnSuccess(response -> 
-                    logger.info("Order message sent to SQS. Order ID: {}, Message ID: {}, Delay: {}s",
-                        orderId, response.messageId(), delaySeconds))
+            return ReactorObservations.mono(() -> observations.send(attributes, lane),
+                    Mono.defer(() -> producer.send(request.messageAttributes(attributes).build())))
+                .doOnSuccess(messageId -> {
+                    if (createdAt != null) {
+                        latencyMetrics.recordEnqueueLag(lane.name(), createdAt, System.currentTimeMillis());
+                    }
+                    if (logger.isInfoEnabled() && sentLogLimiter.tryAcquire()) {
+                        logger.info("Order message sent to SQS. Order ID: {}, Message ID: {}, Lane: {}, Delay: {}s, Similar lines suppressed: {}",
+                            orderId, messageId, lane, delaySeconds, sentLogLimiter.drainSuppressed());
+                    }
+                })
                 .doOnError(error -> 
                     logger.error("Failed to send order message to SQS. Order ID: {}", orderId, error))
                 .then();
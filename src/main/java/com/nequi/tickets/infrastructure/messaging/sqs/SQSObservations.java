@@ -0,0 +1,55 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+import java.util.Map;
+
+@Component
+public class SQSObservations {
+
+    static final String SEND = "sqs.send";
+    static final String PROCESS = "sqs.process";
+    static final String REMOTE_SERVICE = "aws-sqs";
+
+    private final ObservationRegistry observationRegistry;
+
+    public SQSObservations(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public Observation send(Map<String, MessageAttributeValue> attributes, OrderLane lane) {
+        SenderContext<Map<String, MessageAttributeValue>> context = new SenderContext<>(
+            (carrier, key, value) -> carrier.put(key, MessageAttributeValue.builder()
+                .dataType("String")
+                .stringValue(value)
+                .build()));
+        context.setCarrier(attributes);
+        context.setRemoteServiceName(REMOTE_SERVICE);
+
+        return Observation.createNotStarted(SEND, () -> context, observationRegistry)
+            .contextualName("order-processing send")
+            .lowCardinalityKeyValue("messaging.system", REMOTE_SERVICE)
+            .lowCardinalityKeyValue("lane", lane.name());
+    }
+
+    public Observation process(Message message, OrderLane lane) {
+        ReceiverContext<Message> context = new ReceiverContext<>((carrier, key) -> {
+            MessageAttributeValue value = carrier.messageAttributes().get(key);
+            return value != null ? value.stringValue() : null;
+        });
+        context.setCarrier(message);
+        context.setRemoteServiceName(REMOTE_SERVICE);
+
+        return Observation.createNotStarted(PROCESS, () -> context, observationRegistry)
+            .contextualName("order-processing process")
+            .lowCardinalityKeyValue("messaging.system", REMOTE_SERVICE)
+            .lowCardinalityKeyValue("lane", lane.name())
+            .highCardinalityKeyValue("messaging.message.id", message.messageId());
+    }
+}
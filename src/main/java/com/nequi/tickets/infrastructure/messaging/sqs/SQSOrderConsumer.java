@@ -1,6 +1,10 @@
 package com.nequi.tickets.infrastructure.messaging.sqs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.tickets.infrastructure.logging.LogRateLimiter;
+import com.nequi.tickets.infrastructure.messaging.OrderIdempotencyGuard;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import com.nequi.tickets.infrastructure.tracing.ReactorObservations;
 import com.nequi.tickets.usecase.ProcessOrderUseCase;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -13,47 +17,86 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class SQSOrderConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(SQSOrderConsumer.class);
     
+    static final int SQS_MAX_VISIBILITY_TIMEOUT_SECONDS = 43200;
+    static final int PROCESSED_LOGS_PER_SECOND = 10;
+    
     private final SqsAsyncClient sqsClient;
-    private final String queueUrl;
+    private final Map<OrderLane, String> laneQueueUrls = new LinkedHashMap<>();
     private final ProcessOrderUseCase processOrderUseCase;
+    private final OrderIdempotencyGuard idempotencyGuard;
+    private final SQSMessageQueueService messageQueueService;
     private final ObjectMapper objectMapper;
+    private final OrderLatencyMetrics latencyMetrics;
+    private final SQSObservations observations;
     private final boolean enabled;
     private final int maxMessagesPerPoll;
     private final int pollWaitTimeSeconds;
     private final int visibilityTimeoutSeconds;
+    private final int maxConcurrentGroups;
+    private final Map<String, AtomicInteger> inFlightByGroup = new ConcurrentHashMap<>();
+    private final WeightedFairScheduler<OrderLane, LaneBatch> scheduler;
+    private final AtomicInteger activeBatches = new AtomicInteger();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private final LogRateLimiter processedLogLimiter = LogRateLimiter.perSecond(PROCESSED_LOGS_PER_SECOND);
     
     private Disposable consumerDisposable;
     
     public SQSOrderConsumer(
             SqsAsyncClient sqsClient,
             @Value("${aws.sqs.order-processing-queue-url}") String queueUrl,
+            @Value("${aws.sqs.high-priority-queue-url:}") String highPriorityQueueUrl,
             @Value("${aws.sqs.consumer.enabled:true}") boolean enabled,
             @Value("${aws.sqs.consumer.max-messages:10}") int maxMessagesPerPoll,
             @Value("${aws.sqs.consumer.wait-time-seconds:20}") int pollWaitTimeSeconds,
             @Value("${aws.sqs.consumer.visibility-timeout-seconds:30}") int visibilityTimeoutSeconds,
+            @Value("${aws.sqs.consumer.max-concurrent-groups:10}") int maxConcurrentGroups,
+            @Value("${aws.sqs.consumer.lanes.high-weight:3}") int highLaneWeight,
+            @Value("${aws.sqs.consumer.lanes.normal-weight:1}") int normalLaneWeight,
             ProcessOrderUseCase processOrderUseCase,
-            ObjectMapper objectMapper) {
+            OrderIdempotencyGuard idempotencyGuard,
+            SQSMessageQueueService messageQueueService,
+            ObjectMapper objectMapper,
+            OrderLatencyMetrics latencyMetrics,
+            SQSObservations observations) {
         this.sqsClient = sqsClient;
-        this.queueUrl = queueUrl;
         this.enabled = enabled;
         this.maxMessagesPerPoll = maxMessagesPerPoll;
         this.pollWaitTimeSeconds = pollWaitTimeSeconds;
         this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+        this.maxConcurrentGroups = maxConcurrentGroups;
+        this.scheduler = new WeightedFairScheduler<OrderLane, LaneBatch>()
+            .lane(OrderLane.HIGH, highLaneWeight)
+            .lane(OrderLane.NORMAL, normalLaneWeight);
+        if (highPriorityQueueUrl != null && !highPriorityQueueUrl.isBlank()) {
+            laneQueueUrls.put(OrderLane.HIGH, highPriorityQueueUrl);
+        }
+        laneQueueUrls.put(OrderLane.NORMAL, queueUrl);
         this.processOrderUseCase = processOrderUseCase;
+        this.idempotencyGuard = idempotencyGuard;
+        this.messageQueueService = messageQueueService;
         this.objectMapper = objectMapper;
+        this.latencyMetrics = latencyMetrics;
+        this.observations = observations;
     }
     
     @PostConstruct
@@ -63,15 +106,16 @@ public class SQSOrderConsumer {
             return;
         }
         
-        logger.info("Starting SQS Order Consumer for queue: {}", queueUrl);
+        logger.info("Starting SQS Order Consumer for lanes: {}", laneQueueUrls);
         
-        consumerDisposable = Flux.interval(Duration.ZERO, Duration.ofSeconds(1))
-            .onBackpressureDrop()
-            .flatMap(tick -> pollMessages())
-            .flatMap(this::processMessage, 5)
+        consumerDisposable = Flux.fromIterable(laneQueueUrls.entrySet())
+            .flatMap(lane -> pollLane(lane.getKey(), lane.getValue()))
             .subscribeOn(Schedulers.boundedElastic())
             .subscribe(
-                result -> logger.debug("Message processed successfully"),
+                batch -> {
+                    scheduler.offer(batch.lane(), batch);
+                    drain();
+                },
                 error -> logger.error("Error in consumer loop", error),
                 () -> logger.info("Consumer completed")
             );
@@ -87,13 +131,53 @@ public class SQSOrderConsumer {
         }
     }
     
-    private Flux<Message> pollMessages() {
+    private Flux<LaneBatch> pollLane(OrderLane lane, String laneQueueUrl) {
+        return Flux.interval(Duration.ZERO, Duration.ofSeconds(1))
+            .onBackpressureDrop()
+            .filter(tick -> scheduler.size(lane) == 0)
+            .flatMap(tick -> pollMessages(laneQueueUrl).collectList(), 1)
+            .flatMapIterable(SQSOrderConsumer::groupByMessageGroup)
+            .map(messages -> new LaneBatch(lane, laneQueueUrl, messages));
+    }
+    
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        
+        int missed = 1;
+        do {
+            while (activeBatches.get() < maxConcurrentGroups) {
+                LaneBatch batch = scheduler.poll();
+                if (batch == null) {
+                    break;
+                }
+                
+                activeBatches.incrementAndGet();
+                processGroup(batch)
+                    .doFinally(signal -> {
+                        activeBatches.decrementAndGet();
+                        drain();
+                    })
+                    .subscribe(
+                        result -> logger.debug("Message batch processed successfully"),
+                        error -> logger.error("Error processing message batch", error)
+                    );
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+    
+    private Flux<Message> pollMessages(String laneQueueUrl) {
         ReceiveMessageRequest request = ReceiveMessageRequest.builder()
-            .queueUrl(queueUrl)
+            .queueUrl(laneQueueUrl)
             .maxNumberOfMessages(maxMessagesPerPoll)
             .waitTimeSeconds(pollWaitTimeSeconds)
             .visibilityTimeout(visibilityTimeoutSeconds)
             .messageAttributeNames("All")
+            .messageSystemAttributeNames(
+                MessageSystemAttributeName.MESSAGE_GROUP_ID,
+                MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)
             .build();
         
         return Mono.fromCompletionStage(() -> sqsClient.receiveMessage(request))
@@ -105,32 +189,162 @@ public class SQSOrderConsumer {
             });
     }
     
-    private Mono<Void> processMessage(Message message) {
-        return Mono.fromCallable(() -> {
-                Map<String, String> messageBody = objectMapper.readValue(
-                    message.body(), 
-                    Map.class
-                );
-                return messageBody.get("orderId");
+    static Collection<List<Message>> groupByMessageGroup(List<Message> messages) {
+        Map<String, List<Message>> messagesByGroup = new LinkedHashMap<>();
+        for (Message message : messages) {
+            messagesByGroup.computeIfAbsent(messageGroupId(message), groupId -> new ArrayList<>()).add(message);
+        }
+        return messagesByGroup.values();
+    }
+    
+    static String messageGroupId(Message message) {
+        String groupId = message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID);
+        return groupId != null ? groupId : MessageGroupStrategy.GLOBAL_GROUP_ID;
+    }
+    
+    public int activeGroupCount() {
+        return inFlightByGroup.size();
+    }
+    
+    public int bufferedBatchCount() {
+        return scheduler.size();
+    }
+    
+    private Mono<Void> processGroup(LaneBatch batch) {
+        List<Message> groupMessages = batch.messages();
+        String groupId = messageGroupId(groupMessages.get(0));
+        
+        return Mono.defer(() -> {
+                int inFlight = inFlightByGroup.computeIfAbsent(groupId, id -> new AtomicInteger())
+                    .incrementAndGet();
+                logger.debug("Processing {} messages for group {} on {} lane. In-flight batches for group: {}, active groups: {}",
+                    groupMessages.size(), groupId, batch.lane(), inFlight, inFlightByGroup.size());
+                
+                return Flux.fromIterable(groupMessages)
+                    .concatMap(message -> processMessage(batch, message))
+                    .then();
             })
-            .flatMap(orderId -> {
-                logger.info("Processing order from SQS message. Order ID: {}, Message ID: {}", 
+            .doFinally(signal -> inFlightByGroup.computeIfPresent(groupId,
+                (id, counter) -> counter.decrementAndGet() <= 0 ? null : counter));
+    }
+    
+    private Mono<Void> processMessage(LaneBatch batch, Message message) {
+        String messageQueueUrl = batch.queueUrl();
+        
+        if (idempotencyGuard.isRecentMessage(message.messageId())) {
+            logger.debug("Skipping redelivered message. Message ID: {}", message.messageId());
+            return deleteMessage(messageQueueUrl, message)
+                .onErrorResume(error -> handleProcessingError(message, error));
+        }
+        
+        Mono<Void> processing = Mono.fromCallable(() -> objectMapper.readValue(message.body(), OrderProcessingMessage.class))
+            .flatMap(body -> idempotencyGuard.isCompleted(body.orderId())
+                .flatMap(completed -> {
+                    if (completed) {
+                        logger.debug("Skipping duplicate message for completed order. Order ID: {}, Message ID: {}",
+                            body.orderId(), message.messageId());
+                        return deleteMessage(messageQueueUrl, message);
+                    }
+                    
+                    long remainingMillis = body.remainingDelayMillis(System.currentTimeMillis());
+                    if (remainingMillis > 0) {
+                        return postpone(messageQueueUrl, message, remainingMillis);
+                    }
+                    if (body.notBefore() != null && receiveCount(message) > 1) {
+                        return handOffPostponed(messageQueueUrl, message, body);
+                    }
+                    latencyMetrics.recordQueueDwell(batch.lane().name(), body.dueAt(), System.currentTimeMillis());
+                    return processOrder(messageQueueUrl, message, body)
+                        .onErrorResume(error -> promoteIfDue(batch, message, body).then(Mono.error(error)));
+                }));
+        
+        return ReactorObservations.mono(() -> observations.process(message, batch.lane()), processing)
+            .onErrorResume(error -> handleProcessingError(message, error));
+    }
+    
+    private Mono<Void> processOrder(String messageQueueUrl, Message message, OrderProcessingMessage body) {
+        String orderId = body.orderId();
+        long startedAt = System.nanoTime();
+        
+        return Mono.justOrEmpty(orderId)
+            .switchIfEmpty(Mono.error(new IllegalArgumentException("Message has no order ID")))
+            .flatMap(id -> {
+                logger.debug("Processing order from SQS message. Order ID: {}, Message ID: {}", 
                     orderId, message.messageId());
                 
-                return processOrderUseCase.execute(orderId)
-                    .doOnSuccess(order -> 
-                        logger.info("Order processed successfully. Order ID: {}, Status: {}", 
-                            order.orderId(), order.status()))
-                    .doOnError(error -> 
-                        logger.error("Failed to process order. Order ID: {}", orderId, error));
+                return processOrderUseCase.execute(id)
+                    .doOnSuccess(order -> {
+                        latencyMetrics.recordProcessing(order.status().name(), startedAt, System.nanoTime());
+                        if (logger.isInfoEnabled() && processedLogLimiter.tryAcquire()) {
+                            logger.info("Order processed successfully. Order ID: {}, Status: {}, Similar lines suppressed: {}", 
+                                order.orderId(), order.status(), processedLogLimiter.drainSuppressed());
+                        }
+                    })
+                    .doOnError(error -> {
+                        latencyMetrics.recordProcessing(OrderLatencyMetrics.OUTCOME_ERROR, startedAt, System.nanoTime());
+                        logger.error("Failed to process order. Order ID: {}", id, error);
+                    });
             })
-            .then(deleteMessage(message))
-            .onErrorResume(error -> handleProcessingError(message, error));
+            .flatMap(order -> idempotencyGuard.markProcessed(message.messageId(), order))
+            .then(deleteMessage(messageQueueUrl, message));
+    }
+    
+    private Mono<Void> promoteIfDue(LaneBatch batch, Message message, OrderProcessingMessage body) {
+        if (batch.lane() != OrderLane.NORMAL || messageQueueService.laneFor(body.createdAt()) != OrderLane.HIGH) {
+            return Mono.empty();
+        }
+        
+        return messageQueueService.sendOrderForProcessing(body)
+            .then(deleteMessage(batch.queueUrl(), message))
+            .doOnSuccess(done -> 
+                logger.info("Order retry moved to the high priority lane. Order ID: {}", body.orderId()))
+            .onErrorResume(error -> {
+                logger.warn("Failed to move order retry to the high priority lane. Order ID: {}", body.orderId(), error);
+                return Mono.empty();
+            });
+    }
+    
+    static int postponeSeconds(long remainingMillis) {
+        long seconds = (remainingMillis + 999) / 1000;
+        return (int) Math.max(1, Math.min(seconds, SQS_MAX_VISIBILITY_TIMEOUT_SECONDS));
+    }
+    
+    private Mono<Void> postpone(String messageQueueUrl, Message message, long remainingMillis) {
+        int seconds = postponeSeconds(remainingMillis);
+        
+        ChangeMessageVisibilityRequest request = ChangeMessageVisibilityRequest.builder()
+            .queueUrl(messageQueueUrl)
+            .receiptHandle(message.receiptHandle())
+            .visibilityTimeout(seconds)
+            .build();
+        
+        return Mono.fromCompletionStage(() -> sqsClient.changeMessageVisibility(request))
+            .doOnSuccess(response -> 
+                logger.debug("Message not due yet, hidden for {}s. Message ID: {}", 
+                    seconds, message.messageId()))
+            .then();
     }
     
-    private Mono<Void> deleteMessage(Message message) {
+    private Mono<Void> handOffPostponed(String messageQueueUrl, Message message, OrderProcessingMessage body) {
+        return messageQueueService.resendDue(messageQueueUrl, body, body.orderId() + "-" + message.messageId())
+            .then(deleteMessage(messageQueueUrl, message))
+            .doOnSuccess(done -> 
+                logger.debug("Postponed message is due, re-sent with a fresh receive count. Order ID: {}, Message ID: {}", 
+                    body.orderId(), message.messageId()));
+    }
+    
+    static int receiveCount(Message message) {
+        String receiveCount = message.attributes().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT);
+        try {
+            return receiveCount != null ? Integer.parseInt(receiveCount) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+    
+    private Mono<Void> deleteMessage(String messageQueueUrl, Message message) {
         DeleteMessageRequest request = DeleteMessageRequest.builder()
-            .queueUrl(queueUrl)
+            .queueUrl(messageQueueUrl)
             .receiptHandle(message.receiptHandle())
             .build();
         
@@ -157,4 +371,7 @@ public class SQSOrderConsumer {
         
         return Mono.empty();
     }
+    
+    record LaneBatch(OrderLane lane, String queueUrl, List<Message> messages) {
+    }
 }
@@ -0,0 +1,73 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class WeightedFairScheduler<L, T> {
+    
+    private final Map<L, Lane<T>> lanes = new LinkedHashMap<>();
+    
+    WeightedFairScheduler<L, T> lane(L key, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Lane weight must be positive");
+        }
+        lanes.put(key, new Lane<>(weight));
+        return this;
+    }
+    
+    synchronized void offer(L key, T item) {
+        Lane<T> lane = lanes.get(key);
+        if (lane == null) {
+            throw new IllegalArgumentException("Unknown lane: " + key);
+        }
+        lane.items.addLast(item);
+    }
+    
+    synchronized T poll() {
+        Lane<T> selected = null;
+        int totalWeight = 0;
+        
+        for (Lane<T> lane : lanes.values()) {
+            if (lane.items.isEmpty()) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+        
+        if (selected == null) {
+            return null;
+        }
+        
+        selected.currentWeight -= totalWeight;
+        return selected.items.pollFirst();
+    }
+    
+    synchronized int size(L key) {
+        Lane<T> lane = lanes.get(key);
+        return lane != null ? lane.items.size() : 0;
+    }
+    
+    synchronized int size() {
+        int size = 0;
+        for (Lane<T> lane : lanes.values()) {
+            size += lane.items.size();
+        }
+        return size;
+    }
+    
+    private static final class Lane<T> {
+        private final int weight;
+        private final Deque<T> items = new ArrayDeque<>();
+        private int currentWeight;
+        
+        private Lane(int weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.List;
+
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+    static final String METRIC_NAME = "dynamodb.consumed.capacity";
+
+    private static final ReturnConsumedCapacity INDEXES = ReturnConsumedCapacity.INDEXES;
+
+    private final MeterRegistry meterRegistry;
+
+    public ConsumedCapacityInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        return switch (context.request()) {
+            case GetItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case PutItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case UpdateItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case DeleteItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case QueryRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case ScanRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case BatchGetItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case BatchWriteItemRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            case TransactWriteItemsRequest request -> request.toBuilder().returnConsumedCapacity(INDEXES).build();
+            default -> context.request();
+        };
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        String consistency = consistencyOf(context.request());
+
+        List<ConsumedCapacity> capacities = switch (context.response()) {
+            case GetItemResponse response -> single(response.consumedCapacity());
+            case PutItemResponse response -> single(response.consumedCapacity());
+            case UpdateItemResponse response -> single(response.consumedCapacity());
+            case DeleteItemResponse response -> single(response.consumedCapacity());
+            case QueryResponse response -> single(response.consumedCapacity());
+            case ScanResponse response -> single(response.consumedCapacity());
+            case BatchGetItemResponse response -> response.consumedCapacity();
+            case BatchWriteItemResponse response -> response.consumedCapacity();
+            case TransactWriteItemsResponse response -> response.consumedCapacity();
+            default -> List.of();
+        };
+
+        for (ConsumedCapacity capacity : capacities) {
+            record(operation, consistency, capacity);
+        }
+    }
+
+    private void record(String operation, String consistency, ConsumedCapacity capacity) {
+        String table = capacity.tableName() == null ? "unknown" : capacity.tableName();
+
+        if (capacity.table() == null && !capacity.hasGlobalSecondaryIndexes()) {
+            record(operation, consistency, table, DynamoDBRepositoryMetrics.NO_INDEX, capacity.capacityUnits());
+            return;
+        }
+
+        if (capacity.table() != null) {
+            record(operation, consistency, table, DynamoDBRepositoryMetrics.NO_INDEX, capacity.table().capacityUnits());
+        }
+        if (capacity.hasGlobalSecondaryIndexes()) {
+            capacity.globalSecondaryIndexes().forEach((index, indexCapacity) ->
+                record(operation, consistency, table, index, indexCapacity.capacityUnits()));
+        }
+    }
+
+    private void record(String operation, String consistency, String table, String index, Double capacityUnits) {
+        if (capacityUnits == null) {
+            return;
+        }
+
+        Counter.builder(METRIC_NAME)
+            .baseUnit("capacity.units")
+            .description("DynamoDB capacity units consumed per operation")
+            .tag("operation", operation == null ? "unknown" : operation)
+            .tag("table", table)
+            .tag("index", index)
+            .tag("consistency", consistency)
+            .register(meterRegistry)
+            .increment(capacityUnits);
+    }
+
+    private static List<ConsumedCapacity> single(ConsumedCapacity capacity) {
+        return capacity == null ? List.of() : List.of(capacity);
+    }
+
+    static String consistencyOf(SdkRequest request) {
+        Boolean consistentRead = switch (request) {
+            case GetItemRequest getItem -> getItem.consistentRead();
+            case QueryRequest query -> query.consistentRead();
+            case ScanRequest scan -> scan.consistentRead();
+            default -> null;
+        };
+        if (consistentRead == null) {
+            return request instanceof GetItemRequest || request instanceof QueryRequest || request instanceof ScanRequest
+                ? "eventual"
+                : "none";
+        }
+        return consistentRead ? "strong" : "eventual";
+    }
+}
@@ -0,0 +1,93 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventProvisioningEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.util.Map;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDBEventProvisioningRepository implements EventProvisioningRepository {
+    
+    private final DynamoDbAsyncTable<EventProvisioningEntity> provisioningTable;
+    
+    public DynamoDBEventProvisioningRepository(
+            DynamoDbEnhancedAsyncClient dynamoDbClient,
+            @Value("${aws.dynamodb.tables.event-provisioning}") String tableName) {
+        this.provisioningTable = dynamoDbClient.table(tableName, TableSchema.fromBean(EventProvisioningEntity.class));
+    }
+    
+    @Override
+    public Mono<EventProvisioning> save(EventProvisioning provisioning) {
+        EventProvisioningEntity entity = EntityMapper.toEventProvisioningEntity(provisioning);
+        
+        return SdkCalls.mono(() -> provisioningTable.putItem(entity))
+            .thenReturn(provisioning);
+    }
+    
+    @Override
+    public Mono<EventProvisioning> saveIfVersion(EventProvisioning provisioning, Integer expectedVersion) {
+        Expression condition = Expression.builder()
+            .expression("attribute_not_exists(#version) OR #version = :expectedVersion")
+            .expressionNames(Map.of("#version", "version"))
+            .expressionValues(Map.of(":expectedVersion",
+                AttributeValue.builder().n(String.valueOf(expectedVersion)).build()))
+            .build();
+        
+        PutItemEnhancedRequest<EventProvisioningEntity> request = PutItemEnhancedRequest.builder(EventProvisioningEntity.class)
+            .item(EntityMapper.toEventProvisioningEntity(provisioning))
+            .conditionExpression(condition)
+            .build();
+        
+        return SdkCalls.mono(() -> provisioningTable.putItem(request))
+            .thenReturn(provisioning)
+            .onErrorMap(ConditionalCheckFailedException.class,
+                ex -> new ConcurrentModificationException(
+                    "EventProvisioning", provisioning.eventId(), expectedVersion, provisioning.version()));
+    }
+    
+    @Override
+    public Mono<EventProvisioning> findById(String eventId) {
+        Key key = Key.builder()
+            .partitionValue(eventId)
+            .build();
+        
+        return SdkCalls.mono(() -> provisioningTable.getItem(key))
+            .map(EntityMapper::toEventProvisioning);
+    }
+    
+    @Override
+    public Flux<EventProvisioning> findByStatus(ProvisioningStatus status) {
+        Expression filterExpression = Expression.builder()
+            .expression("#status = :status")
+            .expressionNames(Map.of("#status", "status"))
+            .expressionValues(Map.of(":status", AttributeValue.builder().s(status.name()).build()))
+            .build();
+        
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder()
+            .filterExpression(filterExpression)
+            .build();
+        
+        return Flux.from(provisioningTable.scan(scanRequest).items())
+            .map(EntityMapper::toEventProvisioning);
+    }
+}
@@ -2,59 +2,115 @@ package com.nequi.tickets.infrastructure.repository.dynamodb;
 
 import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventEntity;
 import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityTableSchemas;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.ItemMapper;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 @Repository
+@Profile("!in-memory")
 public class DynamoDBEventRepository implements EventRepository {
     
     private final DynamoDbAsyncTable<EventEntity> eventTable;
+    private final DynamoDBFastPathClient fastPath;
+    private final DynamoDBRepositoryMetrics.TableMetrics metrics;
     
     public DynamoDBEventRepository(
             DynamoDbEnhancedAsyncClient dynamoDbClient,
+            DynamoDBFastPathClient fastPath,
+            DynamoDBRepositoryMetrics repositoryMetrics,
             @Value("${aws.dynamodb.tables.events}") String tableName) {
-        this.eventTable = dynamoDbClient.table(tableName, TableSchema.fromBean(EventEntity.class));
+        this.eventTable = dynamoDbClient.table(tableName, EntityTableSchemas.EVENT);
+        this.fastPath = fastPath;
+        this.metrics = repositoryMetrics.forTable(tableName);
     }
     
     @Override
     public Mono<Event> save(Event event) {
         EventEntity entity = EntityMapper.toEventEntity(event);
         
-        return Mono.fromCompletionStage(() -> eventTable.putItem(entity))
+        return SdkCalls.mono(() -> eventTable.putItem(entity))
             .thenReturn(event)
             .onErrorMap(ConditionalCheckFailedException.class, 
                 ex -> new ConcurrentModificationException(
-                    "Event", event.eventId()));
+                    "Event", event.eventId()))
+            .transform(metrics.mono("save"));
+    }
+    
+    @Override
+    public Mono<Event> saveIfVersion(Event event, Integer expectedVersion) {
+        Expression condition = Expression.builder()
+            .expression("#version = :expectedVersion")
+            .expressionNames(Map.of("#version", "version"))
+            .expressionValues(Map.of(":expectedVersion",
+                AttributeValue.builder().n(String.valueOf(expectedVersion)).build()))
+            .build();
+        
+        PutItemEnhancedRequest<EventEntity> request = PutItemEnhancedRequest.builder(EventEntity.class)
+            .item(EntityMapper.toEventEntity(event))
+            .conditionExpression(condition)
+            .build();
+        
+        return SdkCalls.mono(() -> eventTable.putItem(request))
+            .thenReturn(event)
+            .onErrorMap(ConditionalCheckFailedException.class, 
+                ex -> new ConcurrentModificationException(
+                    "Event", event.eventId(), expectedVersion, event.version()))
+            .transform(metrics.mono("saveIfVersion"));
     }
     
     @Override
     public Mono<Event> findById(String eventId) {
-        Key key = Key.builder()
-            .partitionValue(eventId)
+        return findById(eventId, ReadConsistency.EVENTUAL);
+    }
+    
+    @Override
+    public Mono<Event> findById(String eventId, ReadConsistency consistency) {
+        if (fastPath.isEventReadEnabled()) {
+            return fastPath.getEvent(eventId, consistency)
+                .transform(metrics.mono("findById"));
+        }
+        
+        GetItemEnhancedRequest request = GetItemEnhancedRequest.builder()
+            .key(Key.builder().partitionValue(eventId).build())
+            .consistentRead(consistency == ReadConsistency.STRONG)
             .build();
         
-        return Mono.fromCompletionStage(() -> eventTable.getItem(key))
-            .map(EntityMapper::toEvent);
+        return SdkCalls.mono(() -> eventTable.getItem(request))
+            .map(EntityMapper::toEvent)
+            .transform(metrics.mono("findById"));
     }
     
     @Override
     public Flux<Event> findAll() {
-        return Flux.from(eventTable.scan().items())
-            .map(EntityMapper::toEvent);
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder()
+            .consistentRead(false)
+            .build();
+        
+        return Flux.from(eventTable.scan(scanRequest).items())
+            .map(EntityMapper::toEvent)
+            .transform(metrics.flux("findAll"));
     }
     
     @Override
@@ -75,10 +131,12 @@ public class DynamoDBEventRepository implements EventRepository {
         
         ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder()
             .filterExpression(filterExpression)
+            .consistentRead(false)
             .build();
         
         return Flux.from(eventTable.scan(scanRequest).items())
-            .map(EntityMapper::toEvent);
+            .map(EntityMapper::toEvent)
+            .transform(metrics.flux("findUpcomingEvents"));
     }
     
     @Override
@@ -93,10 +151,12 @@ public class DynamoDBEventRepository implements EventRepository {
         
         ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder()
             .filterExpression(filterExpression)
+            .consistentRead(false)
             .build();
         
         return Flux.from(eventTable.scan(scanRequest).items())
-            .map(EntityMapper::toEvent);
+            .map(EntityMapper::toEvent)
+            .transform(metrics.flux("findEventsWithAvailability"));
     }
     
     @Override
@@ -112,86 +172,72 @@ public class DynamoDBEventRepository implements EventRepository {
             .partitionValue(eventId)
             .build();
         
-        return Mono.fromCompletionStage(() -> eventTable.deleteItem(key))
-            .then();
+        return SdkCalls.mono(() -> eventTable.deleteItem(key))
+            .then()
+            .transform(metrics.mono("deleteById"));
     }
     
     @Override
     public Mono<Event> updateInventory(String eventId, Integer expectedVersion, 
                                       Integer availableTickets, Integer reservedTickets) {
-        return findById(eventId)
-            .switchIfEmpty(Mono.error(new IllegalArgumentException("Event not found: " + eventId)))
-            .flatMap(event -> {
-                if (!event.version().equals(expectedVersion)) {
-                    return Mono.error(new ConcurrentModificationException(
-                        "Event", eventId, expectedVersion, event.version()));
-                }
-                
-                Event updatedEvent = new Event(
-                    event.eventId(),
-                    event.name(),
-                    event.date(),
-                    event.location(),
-                    event.totalCapacity(),
-                    availableTickets,
-                    reservedTickets,
-                    event.complimentaryTickets(),
-                    event.version() + 1,
-                    event.createdAt(),
-                    LocalDateTime.now()
-                );
-                
-                return save(updatedEvent);
-            });
+        return updateInventoryIfVersion(eventId, expectedVersion, null, availableTickets, reservedTickets)
+            .transform(metrics.mono("updateInventory"));
     }
     
     @Override
     public Mono<Event> decrementAvailableTickets(String eventId, Integer expectedVersion, Integer quantity, Integer newAvailable, Integer newReserved) {
-        
-        return findById(eventId)
-            .switchIfEmpty(Mono.error(new IllegalArgumentException("Event not found: " + eventId)))
-            .flatMap(event -> {
-                
-                Event updatedEvent = new Event(
-                    event.eventId(),
-                    event.name(),
-                    event.date(),
-                    event.location(),
-                    event.totalCapacity(),
-                    newAvailable,
-                    newReserved,
-                    event.complimentaryTickets(),
-                    expectedVersion + 1,
-                    event.createdAt(),
-                    LocalDateTime.now()
-                );
-                
-                return saveWithCondition(updatedEvent, expectedVersion, quantity);
-            });
+        return updateInventoryIfVersion(eventId, expectedVersion, quantity, newAvailable, newReserved)
+            .transform(metrics.mono("decrementAvailableTickets"));
     }
     
-    private Mono<Event> saveWithCondition(Event event, Integer expectedVersion, Integer quantity) {
-        EventEntity entity = EntityMapper.toEventEntity(event);
-        
-        Map<String, AttributeValue> expressionValues = new HashMap<>();
-        expressionValues.put(":expectedVersion", AttributeValue.builder().n(String.valueOf(expectedVersion)).build());
-        expressionValues.put(":quantity", AttributeValue.builder().n(String.valueOf(quantity)).build());
-        
-        Expression condition = Expression.builder()
-            .expression("#version = :expectedVersion AND availableTickets >= :quantity")
-            .expressionNames(Map.of("#version", "version"))
-            .expressionValues(expressionValues)
-            .build();
-        
-        PutItemEnhancedRequest<EventEntity> request = PutItemEnhancedRequest.builder(EventEntity.class)
-            .item(entity)
-            .conditionExpression(condition)
-            .build();
-        
-        return Mono.fromCompletionStage(() -> eventTable.putItem(request))
-            .thenReturn(event)
-            .onErrorMap(ConditionalCheckFailedException.class, 
-                ex -> new ConcurrentModificationException(
-                    "Event", event.eventId(), expectedVersion, event.version()));
+    private Mono<Event> updateInventoryIfVersion(String eventId, Integer expectedVersion, Integer quantity,
+                                                 Integer availableTickets, Integer reservedTickets) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        Mono<Event> update;
+        
+        if (fastPath.isEventConditionalWriteEnabled()) {
+            update = fastPath.updateEventInventory(
+                eventId, expectedVersion, quantity, availableTickets, reservedTickets, updatedAt);
+        } else {
+            EventEntity changes = new EventEntity();
+            changes.setEventId(eventId);
+            changes.setAvailableTickets(availableTickets);
+            changes.setReservedTickets(reservedTickets);
+            changes.setVersion(expectedVersion + 1);
+            changes.setUpdatedAt(EpochMillisAttributeConverter.toEpochMillis(updatedAt));
+            
+            Map<String, AttributeValue> expressionValues = new HashMap<>();
+            expressionValues.put(":expectedVersion", AttributeValue.builder().n(String.valueOf(expectedVersion)).build());
+            if (quantity != null) {
+                expressionValues.put(":quantity", AttributeValue.builder().n(String.valueOf(quantity)).build());
+            }
+            
+            Expression condition = Expression.builder()
+                .expression(quantity != null
+                    ? "#version = :expectedVersion AND availableTickets >= :quantity"
+                    : "#version = :expectedVersion")
+                .expressionNames(Map.of("#version", "version"))
+                .expressionValues(expressionValues)
+                .build();
+            
+            UpdateItemEnhancedRequest<EventEntity> request = UpdateItemEnhancedRequest.builder(EventEntity.class)
+                .item(changes)
+                .ignoreNulls(true)
+                .conditionExpression(condition)
+                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                .build();
+            
+            update = SdkCalls.mono(() -> eventTable.updateItem(request))
+                .map(EntityMapper::toEvent);
+        }
+        
+        return update.onErrorMap(ConditionalCheckFailedException.class, ex -> {
+            if (!ex.hasItem() || ex.item().isEmpty()) {
+                return new IllegalArgumentException("Event not found: " + eventId);
+            }
+            AttributeValue actualVersion = ex.item().get(ItemMapper.VERSION);
+            return new ConcurrentModificationException(
+                "Event", eventId, expectedVersion, actualVersion != null ? Integer.valueOf(actualVersion.n()) : null);
+        });
     }
 }
@@ -0,0 +1,159 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.ItemMapper;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter.toEpochMillis;
+
+@Component
+public class DynamoDBFastPathClient {
+    
+    private static final String VERSION_CONDITION = "#version = :expectedVersion";
+    
+    private static final String AVAILABILITY_CONDITION = " AND #availableTickets >= :quantity";
+    
+    private static final String INVENTORY_UPDATE =
+        "SET #availableTickets = :available, #reservedTickets = :reserved, #version = :newVersion, #updatedAt = :updatedAt";
+    
+    private static final Map<String, String> INVENTORY_NAMES = Map.of(
+        "#version", ItemMapper.VERSION,
+        "#availableTickets", ItemMapper.AVAILABLE_TICKETS,
+        "#reservedTickets", ItemMapper.RESERVED_TICKETS,
+        "#updatedAt", ItemMapper.UPDATED_AT
+    );
+    
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final String eventsTable;
+    private final String ticketsTable;
+    private final String ordersTable;
+    private final boolean eventReadEnabled;
+    private final boolean eventConditionalWriteEnabled;
+    private final boolean ticketWriteEnabled;
+    private final boolean orderWriteEnabled;
+    
+    public DynamoDBFastPathClient(
+            DynamoDbAsyncClient dynamoDbClient,
+            @Value("${aws.dynamodb.tables.events}") String eventsTable,
+            @Value("${aws.dynamodb.tables.tickets}") String ticketsTable,
+            @Value("${aws.dynamodb.tables.orders}") String ordersTable,
+            @Value("${aws.dynamodb.fast-path.event-read:false}") boolean eventReadEnabled,
+            @Value("${aws.dynamodb.fast-path.event-conditional-write:false}") boolean eventConditionalWriteEnabled,
+            @Value("${aws.dynamodb.fast-path.ticket-write:false}") boolean ticketWriteEnabled,
+            @Value("${aws.dynamodb.fast-path.order-write:false}") boolean orderWriteEnabled) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.eventsTable = eventsTable;
+        this.ticketsTable = ticketsTable;
+        this.ordersTable = ordersTable;
+        this.eventReadEnabled = eventReadEnabled;
+        this.eventConditionalWriteEnabled = eventConditionalWriteEnabled;
+        this.ticketWriteEnabled = ticketWriteEnabled;
+        this.orderWriteEnabled = orderWriteEnabled;
+    }
+    
+    public boolean isEventReadEnabled() {
+        return eventReadEnabled;
+    }
+    
+    public boolean isEventConditionalWriteEnabled() {
+        return eventConditionalWriteEnabled;
+    }
+    
+    public boolean isTicketWriteEnabled() {
+        return ticketWriteEnabled;
+    }
+    
+    public boolean isOrderWriteEnabled() {
+        return orderWriteEnabled;
+    }
+    
+    public Mono<Event> getEvent(String eventId, ReadConsistency consistency) {
+        GetItemRequest request = GetItemRequest.builder()
+            .tableName(eventsTable)
+            .key(Map.of(ItemMapper.EVENT_ID, AttributeValue.builder().s(eventId).build()))
+            .consistentRead(consistency == ReadConsistency.STRONG)
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.getItem(request))
+            .filter(response -> response.hasItem() && !response.item().isEmpty())
+            .map(response -> ItemMapper.toEvent(response.item()));
+    }
+    
+    public Mono<Event> updateEventInventory(String eventId, Integer expectedVersion, Integer quantity,
+                                            Integer availableTickets, Integer reservedTickets, LocalDateTime updatedAt) {
+        Map<String, AttributeValue> values = new HashMap<>(8);
+        values.put(":expectedVersion", number(expectedVersion));
+        values.put(":available", number(availableTickets));
+        values.put(":reserved", number(reservedTickets));
+        values.put(":newVersion", number(expectedVersion + 1));
+        values.put(":updatedAt", AttributeValue.builder().n(Long.toString(toEpochMillis(updatedAt))).build());
+        if (quantity != null) {
+            values.put(":quantity", number(quantity));
+        }
+        
+        UpdateItemRequest request = UpdateItemRequest.builder()
+            .tableName(eventsTable)
+            .key(Map.of(ItemMapper.EVENT_ID, AttributeValue.builder().s(eventId).build()))
+            .updateExpression(INVENTORY_UPDATE)
+            .conditionExpression(quantity != null ? VERSION_CONDITION + AVAILABILITY_CONDITION : VERSION_CONDITION)
+            .expressionAttributeNames(INVENTORY_NAMES)
+            .expressionAttributeValues(values)
+            .returnValues(ReturnValue.ALL_NEW)
+            .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.updateItem(request))
+            .map(response -> ItemMapper.toEvent(response.attributes()));
+    }
+    
+    public Mono<Void> putTicket(Ticket ticket) {
+        PutItemRequest request = PutItemRequest.builder()
+            .tableName(ticketsTable)
+            .item(ItemMapper.toTicketItem(ticket))
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.putItem(request)).then();
+    }
+    
+    public Mono<Void> putTicketIfVersion(Ticket ticket, Integer expectedVersion) {
+        PutItemRequest request = PutItemRequest.builder()
+            .tableName(ticketsTable)
+            .item(ItemMapper.toTicketItem(ticket))
+            .conditionExpression(VERSION_CONDITION)
+            .expressionAttributeNames(Map.of("#version", ItemMapper.VERSION))
+            .expressionAttributeValues(Map.of(":expectedVersion", number(expectedVersion)))
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.putItem(request)).then();
+    }
+    
+    public Mono<Void> putOrder(Order order) {
+        PutItemRequest request = PutItemRequest.builder()
+            .tableName(ordersTable)
+            .item(ItemMapper.toOrderItem(order))
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.putItem(request)).then();
+    }
+    
+    private static AttributeValue number(Integer value) {
+        return AttributeValue.builder().n(value.toString()).build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.repository.IdempotencyRepository;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.IdempotencyEntity;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDBIdempotencyRepository implements IdempotencyRepository {
+    
+    private final DynamoDbAsyncTable<IdempotencyEntity> idempotencyTable;
+    
+    public DynamoDBIdempotencyRepository(
+            DynamoDbEnhancedAsyncClient dynamoDbClient,
+            @Value("${aws.dynamodb.tables.idempotency}") String tableName) {
+        this.idempotencyTable = dynamoDbClient.table(tableName, TableSchema.fromBean(IdempotencyEntity.class));
+    }
+    
+    @Override
+    public Mono<Boolean> exists(String key) {
+        Key dynamoKey = Key.builder()
+            .partitionValue(key)
+            .build();
+        
+        return SdkCalls.mono(() -> idempotencyTable.getItem(dynamoKey))
+            .map(entity -> entity.getExpiresAt() == null 
+                || entity.getExpiresAt() > Instant.now().getEpochSecond())
+            .defaultIfEmpty(false);
+    }
+    
+    @Override
+    public Mono<Boolean> markProcessed(String key, Duration ttl) {
+        Instant now = Instant.now();
+        
+        IdempotencyEntity entity = new IdempotencyEntity();
+        entity.setIdempotencyKey(key);
+        entity.setProcessedAt(now.toString());
+        entity.setExpiresAt(now.plus(ttl).getEpochSecond());
+        
+        PutItemEnhancedRequest<IdempotencyEntity> request = PutItemEnhancedRequest.builder(IdempotencyEntity.class)
+            .item(entity)
+            .conditionExpression(Expression.builder()
+                .expression("attribute_not_exists(idempotencyKey) OR expiresAt < :now")
+                .putExpressionValue(":now", AttributeValue.builder()
+                    .n(String.valueOf(now.getEpochSecond()))
+                    .build())
+                .build())
+            .build();
+        
+        return SdkCalls.mono(() -> idempotencyTable.putItem(request))
+            .thenReturn(true)
+            .onErrorResume(ConditionalCheckFailedException.class, ex -> Mono.just(false));
+    }
+}
@@ -3,56 +3,107 @@ package com.nequi.tickets.infrastructure.repository.dynamodb;
 import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.OrderEntity;
 import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityTableSchemas;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 import java.util.List;
+import java.util.Map;
 
 @Repository
+@Profile("!in-memory")
 public class DynamoDBOrderRepository implements OrderRepository {
     
+    private static final String CUSTOMER_INDEX = "customerId-index";
+    private static final String EVENT_INDEX = "eventId-index";
+    private static final String STATUS_INDEX = "status-index";
+    
     private final DynamoDbAsyncTable<OrderEntity> orderTable;
     private final DynamoDbAsyncIndex<OrderEntity> customerIndex;
     private final DynamoDbAsyncIndex<OrderEntity> eventIndex;
     private final DynamoDbAsyncIndex<OrderEntity> statusIndex;
+    private final DynamoDBFastPathClient fastPath;
+    private final DynamoDBRepositoryMetrics.TableMetrics metrics;
     
     public DynamoDBOrderRepository(
             DynamoDbEnhancedAsyncClient dynamoDbClient,
+            DynamoDBFastPathClient fastPath,
+            DynamoDBRepositoryMetrics repositoryMetrics,
             @Value("${aws.dynamodb.tables.orders}") String tableName) {
-        this.orderTable = dynamoDbClient.table(tableName, TableSchema.fromBean(OrderEntity.class));
-        this.customerIndex = orderTable.index("customerId-index");
-        this.eventIndex = orderTable.index("eventId-index");
-        this.statusIndex = orderTable.index("status-index");
+        this.orderTable = dynamoDbClient.table(tableName, EntityTableSchemas.ORDER);
+        this.customerIndex = orderTable.index(CUSTOMER_INDEX);
+        this.eventIndex = orderTable.index(EVENT_INDEX);
+        this.statusIndex = orderTable.index(STATUS_INDEX);
+        this.fastPath = fastPath;
+        this.metrics = repositoryMetrics.forTable(tableName);
     }
     
     @Override
     public Mono<Order> save(Order order) {
-        OrderEntity entity = EntityMapper.toOrderEntity(order);
+        Mono<Void> write = fastPath.isOrderWriteEnabled()
+            ? fastPath.putOrder(order)
+            : SdkCalls.mono(() -> orderTable.putItem(EntityMapper.toOrderEntity(order)));
+        
+        return write
+            .thenReturn(order)
+            .onErrorMap(ConditionalCheckFailedException.class, 
+                ex -> new ConcurrentModificationException(
+                    "Order", order.orderId()))
+            .transform(metrics.mono("save"));
+    }
+    
+    @Override
+    public Mono<Order> saveIfVersion(Order order, Integer expectedVersion) {
+        Expression condition = Expression.builder()
+            .expression("#version = :expectedVersion")
+            .expressionNames(Map.of("#version", "version"))
+            .expressionValues(Map.of(":expectedVersion",
+                AttributeValue.builder().n(String.valueOf(expectedVersion)).build()))
+            .build();
+        
+        PutItemEnhancedRequest<OrderEntity> request = PutItemEnhancedRequest.builder(OrderEntity.class)
+            .item(EntityMapper.toOrderEntity(order))
+            .conditionExpression(condition)
+            .build();
         
-        return Mono.fromCompletionStage(() -> orderTable.putItem(entity))
+        return SdkCalls.mono(() -> orderTable.putItem(request))
             .thenReturn(order)
             .onErrorMap(ConditionalCheckFailedException.class, 
                 ex -> new ConcurrentModificationException(
-                    "Order", order.orderId()));
+                    "Order", order.orderId(), expectedVersion, order.version()))
+            .transform(metrics.mono("saveIfVersion"));
     }
     
     @Override
     public Mono<Order> findById(String orderId) {
-        Key key = Key.builder()
-            .partitionValue(orderId)
+        return findById(orderId, ReadConsistency.EVENTUAL);
+    }
+    
+    @Override
+    public Mono<Order> findById(String orderId, ReadConsistency consistency) {
+        GetItemEnhancedRequest request = GetItemEnhancedRequest.builder()
+            .key(Key.builder().partitionValue(orderId).build())
+            .consistentRead(consistency == ReadConsistency.STRONG)
             .build();
         
-        return Mono.fromCompletionStage(() -> orderTable.getItem(key))
-            .map(EntityMapper::toOrder);
+        return SdkCalls.mono(() -> orderTable.getItem(request))
+            .map(EntityMapper::toOrder)
+            .transform(metrics.mono("findById"));
     }
     
     @Override
@@ -75,7 +126,8 @@ public class DynamoDBOrderRepository implements OrderRepository {
         
         return Flux.from(customerIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toOrder);
+            .map(EntityMapper::toOrder)
+            .transform(metrics.flux("findByCustomerId", CUSTOMER_INDEX));
     }
     
     @Override
@@ -90,7 +142,8 @@ public class DynamoDBOrderRepository implements OrderRepository {
         
         return Flux.from(eventIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toOrder);
+            .map(EntityMapper::toOrder)
+            .transform(metrics.flux("findByEventId", EVENT_INDEX));
     }
     
     @Override
@@ -105,7 +158,8 @@ public class DynamoDBOrderRepository implements OrderRepository {
         
         return Flux.from(statusIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toOrder);
+            .map(EntityMapper::toOrder)
+            .transform(metrics.flux("findByStatus", STATUS_INDEX));
     }
     
     @Override
@@ -148,7 +202,8 @@ public class DynamoDBOrderRepository implements OrderRepository {
             .partitionValue(orderId)
             .build();
         
-        return Mono.fromCompletionStage(() -> orderTable.deleteItem(key))
-            .then();
+        return SdkCalls.mono(() -> orderTable.deleteItem(key))
+            .then()
+            .transform(metrics.mono("deleteById"));
     }
 }
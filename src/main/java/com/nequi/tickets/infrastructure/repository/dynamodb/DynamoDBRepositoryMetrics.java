@@ -0,0 +1,205 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.infrastructure.sdk.AdaptiveConcurrencyLimiter;
+import com.nequi.tickets.infrastructure.sdk.ConcurrencyLimitExceededException;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import com.nequi.tickets.infrastructure.tracing.ReactorObservations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class DynamoDBRepositoryMetrics {
+
+    static final String CALLS = "dynamodb.repository.calls";
+    static final String ITEMS = "dynamodb.repository.items";
+    static final String THROTTLES = "dynamodb.repository.throttles";
+    static final String CONDITIONAL_CHECK_FAILURES = "dynamodb.repository.conditional.check.failures";
+    static final String NO_INDEX = "none";
+    static final String OBSERVATION_NAME = "dynamodb.repository";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_CONDITIONAL_CHECK_FAILED = "conditional_check_failed";
+    static final String OUTCOME_THROTTLED = "throttled";
+    static final String OUTCOME_ERROR = "error";
+    static final String OUTCOME_CANCELLED = "cancelled";
+    static final String OUTCOME_SHED = "shed";
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<String, Meter> meters = new ConcurrentHashMap<>();
+
+    public DynamoDBRepositoryMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+                                     SdkConcurrencyLimits concurrencyLimits) {
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.limiter = concurrencyLimits.dynamoDb();
+    }
+
+    public TableMetrics forTable(String table) {
+        return new TableMetrics(table);
+    }
+
+    static String outcomeOf(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof ConcurrencyLimitExceededException) {
+                return OUTCOME_SHED;
+            }
+            if (cause instanceof ConditionalCheckFailedException || cause instanceof ConcurrentModificationException) {
+                return OUTCOME_CONDITIONAL_CHECK_FAILED;
+            }
+            if (cause instanceof TransactionCanceledException canceled && canceled.hasCancellationReasons()
+                    && canceled.cancellationReasons().stream().anyMatch(reason -> "ConditionalCheckFailed".equals(reason.code()))) {
+                return OUTCOME_CONDITIONAL_CHECK_FAILED;
+            }
+            if (cause instanceof SdkServiceException serviceException && serviceException.isThrottlingException()) {
+                return OUTCOME_THROTTLED;
+            }
+            cause = cause.getCause();
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private Timer timer(String table, String index, String operation, String outcome) {
+        return (Timer) meters.computeIfAbsent(String.join("|", CALLS, table, index, operation, outcome),
+            key -> Timer.builder(CALLS)
+                .description("DynamoDB repository call latency")
+                .tag("table", table)
+                .tag("index", index)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary items(String table, String index, String operation) {
+        return (DistributionSummary) meters.computeIfAbsent(String.join("|", ITEMS, table, index, operation),
+            key -> DistributionSummary.builder(ITEMS)
+                .description("Items returned or written per DynamoDB repository call")
+                .baseUnit("items")
+                .tag("table", table)
+                .tag("index", index)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String table, String index, String operation) {
+        return (Counter) meters.computeIfAbsent(String.join("|", name, table, index, operation),
+            key -> Counter.builder(name)
+                .tag("table", table)
+                .tag("index", index)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    public final class TableMetrics {
+
+        private final String table;
+
+        private TableMetrics(String table) {
+            this.table = table;
+        }
+
+        public <T> Function<Mono<T>, Mono<T>> mono(String operation) {
+            return mono(operation, NO_INDEX);
+        }
+
+        public <T> Function<Mono<T>, Mono<T>> mono(String operation, String index) {
+            return call -> ReactorObservations.mono(() -> observation(index, operation), Mono.defer(() -> {
+                Recorder recorder = new Recorder(index, operation, -1);
+                return limiter.mono(call)
+                    .doOnNext(value -> recorder.items++)
+                    .doOnError(recorder::failed)
+                    .doFinally(recorder::finish);
+            }));
+        }
+
+        public <T> Function<Mono<T>, Mono<T>> write(String operation, int itemCount) {
+            return call -> ReactorObservations.mono(() -> observation(NO_INDEX, operation), Mono.defer(() -> {
+                Recorder recorder = new Recorder(NO_INDEX, operation, itemCount);
+                return limiter.mono(call)
+                    .doOnError(recorder::failed)
+                    .doFinally(recorder::finish);
+            }));
+        }
+
+        public <T> Function<Flux<T>, Flux<T>> flux(String operation) {
+            return flux(operation, NO_INDEX);
+        }
+
+        public <T> Function<Flux<T>, Flux<T>> flux(String operation, String index) {
+            return call -> ReactorObservations.flux(() -> observation(index, operation), Flux.defer(() -> {
+                Recorder recorder = new Recorder(index, operation, -1);
+                return limiter.flux(call)
+                    .doOnNext(value -> recorder.items++)
+                    .doOnError(recorder::failed)
+                    .doFinally(recorder::finish);
+            }));
+        }
+
+        private Observation observation(String index, String operation) {
+            return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("dynamodb " + operation + " " + table)
+                .lowCardinalityKeyValue("db.system", "dynamodb")
+                .lowCardinalityKeyValue("table", table)
+                .lowCardinalityKeyValue("index", index)
+                .lowCardinalityKeyValue("operation", operation);
+        }
+
+        private final class Recorder {
+
+            private final String index;
+            private final String operation;
+            private final long fixedItems;
+            private final long start = System.nanoTime();
+            private long items;
+            private Throwable error;
+
+            private Recorder(String index, String operation, long fixedItems) {
+                this.index = index;
+                this.operation = operation;
+                this.fixedItems = fixedItems;
+            }
+
+            private void failed(Throwable error) {
+                this.error = error;
+            }
+
+            private void finish(SignalType signal) {
+                String outcome = switch (signal) {
+                    case ON_ERROR -> outcomeOf(error);
+                    case CANCEL -> OUTCOME_CANCELLED;
+                    default -> OUTCOME_SUCCESS;
+                };
+
+                timer(table, index, operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                if (OUTCOME_SUCCESS.equals(outcome)) {
+                    items(table, index, operation).record(fixedItems >= 0 ? fixedItems : items);
+                } else if (OUTCOME_THROTTLED.equals(outcome)) {
+                    counter(THROTTLES, table, index, operation).increment();
+                } else if (OUTCOME_CONDITIONAL_CHECK_FAILED.equals(outcome)) {
+                    counter(CONDITIONAL_CHECK_FAILURES, table, index, operation).increment();
+                }
+            }
+        }
+    }
+}
@@ -6,9 +6,13 @@ import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.TicketRepository;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
 import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityMapper;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityTableSchemas;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
+import com.nequi.tickets.infrastructure.sdk.SdkCalls;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,41 +21,91 @@ import software.amazon.awssdk.enhanced.dynamodb.model.*;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
+@Profile("!in-memory")
 public class DynamoDBTicketRepository implements TicketRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(DynamoDBTicketRepository.class);
     
+    private static final int BATCH_WRITE_SIZE = 25;
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+    private static final String EVENT_STATUS_INDEX = "eventId-status-index";
+    private static final String CUSTOMER_INDEX = "customerId-index";
+    private static final String ORDER_INDEX = "orderId-index";
+    
     private final DynamoDbEnhancedAsyncClient dynamoDbClient;
     private final DynamoDbAsyncTable<TicketEntity> ticketTable;
     private final DynamoDbAsyncIndex<TicketEntity> eventStatusIndex;
     private final DynamoDbAsyncIndex<TicketEntity> customerIndex;
     private final DynamoDbAsyncIndex<TicketEntity> orderIndex;
+    private final DynamoDBFastPathClient fastPath;
+    private final int batchWriteConcurrency;
+    private final DynamoDBRepositoryMetrics.TableMetrics metrics;
     
     public DynamoDBTicketRepository(
             DynamoDbEnhancedAsyncClient dynamoDbClient,
-            @Value("${aws.dynamodb.tables.tickets}") String tableName) {
+            DynamoDBFastPathClient fastPath,
+            DynamoDBRepositoryMetrics repositoryMetrics,
+            @Value("${aws.dynamodb.tables.tickets}") String tableName,
+            @Value("${aws.dynamodb.batch-write.concurrency:8}") int batchWriteConcurrency) {
         this.dynamoDbClient = dynamoDbClient;
-        this.ticketTable = dynamoDbClient.table(tableName, TableSchema.fromBean(TicketEntity.class));
-        this.eventStatusIndex = ticketTable.index("eventId-status-index");
-        this.customerIndex = ticketTable.index("customerId-index");
-        this.orderIndex = ticketTable.index("orderId-index");
+        this.fastPath = fastPath;
+        this.batchWriteConcurrency = batchWriteConcurrency;
+        this.ticketTable = dynamoDbClient.table(tableName, EntityTableSchemas.TICKET);
+        this.eventStatusIndex = ticketTable.index(EVENT_STATUS_INDEX);
+        this.customerIndex = ticketTable.index(CUSTOMER_INDEX);
+        this.orderIndex = ticketTable.index(ORDER_INDEX);
+        this.metrics = repositoryMetrics.forTable(tableName);
     }
     
     @Override
     public Mono<Ticket> save(Ticket ticket) {
-        TicketEntity entity = EntityMapper.toTicketEntity(ticket);
+        Mono<Void> write = fastPath.isTicketWriteEnabled()
+            ? fastPath.putTicket(ticket)
+            : SdkCalls.mono(() -> ticketTable.putItem(EntityMapper.toTicketEntity(ticket)));
         
-        return Mono.fromCompletionStage(() -> ticketTable.putItem(entity))
+        return write
             .thenReturn(ticket)
             .onErrorMap(ConditionalCheckFailedException.class, 
                 ex -> new ConcurrentModificationException(
-                    "Ticket", ticket.ticketId()));
+                    "Ticket", ticket.ticketId()))
+            .transform(metrics.mono("save"));
+    }
+    
+    @Override
+    public Mono<Ticket> saveIfVersion(Ticket ticket, Integer expectedVersion) {
+        Mono<Void> write;
+        if (fastPath.isTicketWriteEnabled()) {
+            write = fastPath.putTicketIfVersion(ticket, expectedVersion);
+        } else {
+            Expression condition = Expression.builder()
+                .expression("#version = :expectedVersion")
+                .expressionNames(Map.of("#version", "version"))
+                .expressionValues(Map.of(":expectedVersion",
+                    AttributeValue.builder().n(String.valueOf(expectedVersion)).build()))
+                .build();
+            
+            PutItemEnhancedRequest<TicketEntity> request = PutItemEnhancedRequest.builder(TicketEntity.class)
+                .item(EntityMapper.toTicketEntity(ticket))
+                .conditionExpression(condition)
+                .build();
+            
+            write = SdkCalls.mono(() -> ticketTable.putItem(request));
+        }
+        
+        return write
+            .thenReturn(ticket)
+            .onErrorMap(ConditionalCheckFailedException.class, 
+                ex -> new ConcurrentModificationException(
+                    "Ticket", ticket.ticketId(), expectedVersion, ticket.version()))
+            .transform(metrics.mono("saveIfVersion"));
     }
     
     @Override
@@ -60,37 +114,47 @@ public class DynamoDBTicketRepository implements TicketRepository {
             return Flux.empty();
         }
         
-        List<TicketEntity> entities = tickets.stream()
+        return saveStream(Flux.fromIterable(tickets))
+            .thenMany(Flux.fromIterable(tickets));
+    }
+    
+    @Override
+    public Mono<Long> saveStream(Flux<Ticket> tickets) {
+        return tickets
             .map(EntityMapper::toTicketEntity)
-            .toList();
+            .buffer(BATCH_WRITE_SIZE)
+            .flatMap(batch -> writeBatch(batch, 0)
+                .thenReturn(batch.size())
+                .transform(metrics.write("batchWrite", batch.size())), batchWriteConcurrency, 1)
+            .reduce(0L, (total, written) -> total + written);
+    }
+    
+    private Mono<Void> writeBatch(List<TicketEntity> entities, int attempt) {
+        WriteBatch.Builder<TicketEntity> batchBuilder = WriteBatch.builder(TicketEntity.class)
+            .mappedTableResource(ticketTable);
         
-        long startTime = System.currentTimeMillis();
-        java.util.concurrent.atomic.AtomicInteger batchCounter = new java.util.concurrent.atomic.AtomicInteger(0);
+        entities.forEach(batchBuilder::addPutItem);
         
-        return Flux.fromIterable(partition(entities, 25))
-            .flatMap(batch -> {
-                
-                WriteBatch.Builder<TicketEntity> batchBuilder = WriteBatch.builder(TicketEntity.class)
-                    .mappedTableResource(ticketTable);
-                
-                batch.forEach(batchBuilder::addPutItem);
+        BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder()
+            .writeBatches(batchBuilder.build())
+            .build();
+        
+        return SdkCalls.mono(() -> dynamoDbClient.batchWriteItem(request))
+            .flatMap(result -> {
+                List<TicketEntity> unprocessed = result.unprocessedPutItemsForTable(ticketTable);
+                if (unprocessed.isEmpty()) {
+                    return Mono.empty();
+                }
                 
-                BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder()
-                    .writeBatches(batchBuilder.build())
-                    .build();
+                if (attempt >= MAX_UNPROCESSED_RETRIES) {
+                    return Mono.error(new IllegalStateException(
+                        unprocessed.size() + " tickets left unprocessed after " + attempt + " retries"));
+                }
                 
-                return Mono.fromCompletionStage(() -> dynamoDbClient.batchWriteItem(request));
-                    
-            }, 25)
-            .thenMany(Flux.fromIterable(tickets));
-    }
-    
-    private <T> List<List<T>> partition(List<T> list, int batchSize) {
-        List<List<T>> partitions = new java.util.ArrayList<>();
-        for (int i = 0; i < list.size(); i += batchSize) {
-            partitions.add(list.subList(i, Math.min(i + batchSize, list.size())));
-        }
-        return partitions;
+                logger.debug("Retrying {} unprocessed tickets, attempt {}", unprocessed.size(), attempt + 1);
+                return Mono.delay(Duration.ofMillis(50L << attempt))
+                    .then(writeBatch(unprocessed, attempt + 1));
+            });
     }
     
     @Override
@@ -99,8 +163,9 @@ public class DynamoDBTicketRepository implements TicketRepository {
             .partitionValue(ticketId)
             .build();
         
-        return Mono.fromCompletionStage(() -> ticketTable.getItem(key))
-            .map(EntityMapper::toTicket);
+        return SdkCalls.mono(() -> ticketTable.getItem(key))
+            .map(EntityMapper::toTicket)
+            .transform(metrics.mono("findById"));
     }
     
     @Override
@@ -115,7 +180,8 @@ public class DynamoDBTicketRepository implements TicketRepository {
         
         return Flux.from(eventStatusIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toTicket);
+            .map(EntityMapper::toTicket)
+            .transform(metrics.flux("findByEventId", EVENT_STATUS_INDEX));
     }
     
     @Override
@@ -140,7 +206,8 @@ public class DynamoDBTicketRepository implements TicketRepository {
         
         return Flux.from(eventStatusIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toTicket);
+            .map(EntityMapper::toTicket)
+            .transform(metrics.flux("findByEventIdAndStatus", EVENT_STATUS_INDEX));
     }
     
     @Override
@@ -159,7 +226,8 @@ public class DynamoDBTicketRepository implements TicketRepository {
         
         return Flux.from(customerIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toTicket);
+            .map(EntityMapper::toTicket)
+            .transform(metrics.flux("findByCustomerId", CUSTOMER_INDEX));
     }
     
     @Override
@@ -178,14 +246,16 @@ public class DynamoDBTicketRepository implements TicketRepository {
         
         return Flux.from(orderIndex.query(queryRequest))
             .flatMap(page -> Flux.fromIterable(page.items()))
-            .map(EntityMapper::toTicket);
+            .map(EntityMapper::toTicket)
+            .transform(metrics.flux("findByOrderId", ORDER_INDEX));
     }
     
     @Override
     public Flux<Ticket> findExpiredReservations(LocalDateTime expirationTime) {
         String expirationTimeStr = expirationTime.toString();
+        Long expirationMillis = EpochMillisAttributeConverter.toEpochMillis(expirationTime);
         
-        logger.info("🔍 Scanning for expired reservations. Cutoff time: {} (ISO format)", expirationTimeStr);
+        logger.info("🔍 Scanning for expired reservations. Cutoff time: {} ({} epoch millis)", expirationTimeStr, expirationMillis);
         
         Map<String, String> expressionNames = new HashMap<>();
         expressionNames.put("#status", "status");
@@ -193,12 +263,13 @@ public class DynamoDBTicketRepository implements TicketRepository {
         
         Map<String, AttributeValue> expressionValues = new HashMap<>();
         expressionValues.put(":statusPending", AttributeValue.builder().s(TicketStatus.PENDING_CONFIRMATION.name()).build());
-        expressionValues.put(":expirationTime", AttributeValue.builder().s(expirationTimeStr).build());
+        expressionValues.put(":expirationMillis", AttributeValue.builder().n(String.valueOf(expirationMillis)).build());
+        expressionValues.put(":expirationIso", AttributeValue.builder().s(expirationTimeStr).build());
         
-        logger.info("🔎 Filter: (status = PENDING_CONFIRMATION) AND reservationExpiresAt < {}", expirationTimeStr);
+        logger.debug("🔎 Filter: (status = PENDING_CONFIRMATION) AND reservationExpiresAt < {}", expirationTimeStr);
         
         Expression filterExpression = Expression.builder()
-            .expression("(#status = :statusPending) AND #expiresAt < :expirationTime")
+            .expression("(#status = :statusPending) AND (#expiresAt < :expirationMillis OR #expiresAt < :expirationIso)")
             .expressionNames(expressionNames)
             .expressionValues(expressionValues)
             .build();
@@ -207,11 +278,18 @@ public class DynamoDBTicketRepository implements TicketRepository {
             .filterExpression(filterExpression)
             .build();
         
-        return Flux.from(ticketTable.scan(scanRequest).items())
-            .doOnNext(entity -> logger.info("📋 Found expired ticket: {} (status={}, expiresAt={})", 
-                entity.getTicketId(), entity.getStatus(), entity.getReservationExpiresAt()))
-            .doOnComplete(() -> logger.info("✅ Scan completed"))
-            .map(EntityMapper::toTicket);
+        return Flux.defer(() -> {
+                AtomicLong found = new AtomicLong();
+                return Flux.from(ticketTable.scan(scanRequest).items())
+                    .doOnNext(entity -> {
+                        found.incrementAndGet();
+                        logger.debug("📋 Found expired ticket: {} (status={}, expiresAt={})", 
+                            entity.getTicketId(), entity.getStatus(), entity.getReservationExpiresAt());
+                    })
+                    .doOnComplete(() -> logger.info("✅ Scan completed. Expired tickets found: {}", found.get()));
+            })
+            .map(EntityMapper::toTicket)
+            .transform(metrics.flux("findExpiredReservations"));
     }
     
     @Override
@@ -231,8 +309,9 @@ public class DynamoDBTicketRepository implements TicketRepository {
             .partitionValue(ticketId)
             .build();
         
-        return Mono.fromCompletionStage(() -> ticketTable.deleteItem(key))
-            .then();
+        return SdkCalls.mono(() -> ticketTable.deleteItem(key))
+            .then()
+            .transform(metrics.mono("deleteById"));
     }
     
     @Override
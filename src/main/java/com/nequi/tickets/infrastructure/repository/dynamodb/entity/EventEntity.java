@@ -1,7 +1,9 @@
 package com.nequi.tickets.infrastructure.repository.dynamodb.entity;
 
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 
 import java.time.LocalDateTime;
@@ -18,8 +20,9 @@ public class EventEntity {
     private Integer reservedTickets;
     private Integer complimentaryTickets;
     private Integer version;
-    private String createdAt;
-    private String updatedAt;
+    private Long createdAt;
+    private Long updatedAt;
+    private String status;
     
     @DynamoDbPartitionKey
     @DynamoDbAttribute("eventId")
@@ -104,23 +107,34 @@ public class EventEntity {
     }
     
     @DynamoDbAttribute("createdAt")
-    public String getCreatedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getCreatedAt() {
         return createdAt;
     }
     
-    public void setCreatedAt(String createdAt) {
+    public void setCreatedAt(Long createdAt) {
         this.createdAt = createdAt;
     }
     
     @DynamoDbAttribute("updatedAt")
-    public String getUpdatedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getUpdatedAt() {
         return updatedAt;
     }
     
-    public void setUpdatedAt(String updatedAt) {
+    public void setUpdatedAt(Long updatedAt) {
         this.updatedAt = updatedAt;
     }
     
+    @DynamoDbAttribute("status")
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
     public static String toIsoString(LocalDateTime dateTime) {
         return dateTime != null ? dateTime.toString() : null;
     }
@@ -0,0 +1,116 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.entity;
+
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbBean
+public class EventProvisioningEntity {
+    
+    private String eventId;
+    private String status;
+    private Integer totalTickets;
+    private Integer generatedTickets;
+    private String failureReason;
+    private Long startedAt;
+    private Long updatedAt;
+    private Long completedAt;
+    private Integer attempts;
+    private Integer version;
+    
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("eventId")
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    @DynamoDbAttribute("status")
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    @DynamoDbAttribute("totalTickets")
+    public Integer getTotalTickets() {
+        return totalTickets;
+    }
+    
+    public void setTotalTickets(Integer totalTickets) {
+        this.totalTickets = totalTickets;
+    }
+    
+    @DynamoDbAttribute("generatedTickets")
+    public Integer getGeneratedTickets() {
+        return generatedTickets;
+    }
+    
+    public void setGeneratedTickets(Integer generatedTickets) {
+        this.generatedTickets = generatedTickets;
+    }
+    
+    @DynamoDbAttribute("failureReason")
+    public String getFailureReason() {
+        return failureReason;
+    }
+    
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+    
+    @DynamoDbAttribute("startedAt")
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(Long startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    @DynamoDbAttribute("updatedAt")
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(Long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @DynamoDbAttribute("completedAt")
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(Long completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    @DynamoDbAttribute("attempts")
+    public Integer getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+    
+    @DynamoDbAttribute("version")
+    public Integer getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+}
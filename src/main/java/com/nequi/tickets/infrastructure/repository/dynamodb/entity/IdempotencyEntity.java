@@ -0,0 +1,41 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.entity;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbBean
+public class IdempotencyEntity {
+    
+    private String idempotencyKey;
+    private String processedAt;
+    private Long expiresAt;
+    
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("idempotencyKey")
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+    
+    @DynamoDbAttribute("processedAt")
+    public String getProcessedAt() {
+        return processedAt;
+    }
+    
+    public void setProcessedAt(String processedAt) {
+        this.processedAt = processedAt;
+    }
+    
+    @DynamoDbAttribute("expiresAt")
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,7 +1,10 @@
 package com.nequi.tickets.infrastructure.repository.dynamodb.entity;
 
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.IsoTimestampAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
 
@@ -20,8 +23,8 @@ public class OrderEntity {
     private Integer version;
     private String failureReason;
     private String createdAt;
-    private String updatedAt;
-    private String processedAt;
+    private Long updatedAt;
+    private Long processedAt;
     
     @DynamoDbPartitionKey
     @DynamoDbAttribute("orderId")
@@ -109,6 +112,7 @@ public class OrderEntity {
     }
     
     @DynamoDbAttribute("createdAt")
+    @DynamoDbConvertedBy(IsoTimestampAttributeConverter.class)
     public String getCreatedAt() {
         return createdAt;
     }
@@ -118,20 +122,22 @@ public class OrderEntity {
     }
     
     @DynamoDbAttribute("updatedAt")
-    public String getUpdatedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getUpdatedAt() {
         return updatedAt;
     }
     
-    public void setUpdatedAt(String updatedAt) {
+    public void setUpdatedAt(Long updatedAt) {
         this.updatedAt = updatedAt;
     }
     
     @DynamoDbAttribute("processedAt")
-    public String getProcessedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getProcessedAt() {
         return processedAt;
     }
     
-    public void setProcessedAt(String processedAt) {
+    public void setProcessedAt(Long processedAt) {
         this.processedAt = processedAt;
     }
 }
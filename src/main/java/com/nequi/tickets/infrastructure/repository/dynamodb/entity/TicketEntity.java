@@ -1,5 +1,6 @@
 package com.nequi.tickets.infrastructure.repository.dynamodb.entity;
 
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
 @DynamoDbBean
@@ -10,11 +11,11 @@ public class TicketEntity {
     private String status;
     private String customerId;
     private String orderId;
-    private String reservedAt;
-    private String reservationExpiresAt;
+    private Long reservedAt;
+    private Long reservationExpiresAt;
     private Integer version;
-    private String createdAt;
-    private String updatedAt;
+    private Long createdAt;
+    private Long updatedAt;
     
     @DynamoDbPartitionKey
     @DynamoDbAttribute("ticketId")
@@ -67,20 +68,22 @@ public class TicketEntity {
     }
     
     @DynamoDbAttribute("reservedAt")
-    public String getReservedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getReservedAt() {
         return reservedAt;
     }
     
-    public void setReservedAt(String reservedAt) {
+    public void setReservedAt(Long reservedAt) {
         this.reservedAt = reservedAt;
     }
     
     @DynamoDbAttribute("reservationExpiresAt")
-    public String getReservationExpiresAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getReservationExpiresAt() {
         return reservationExpiresAt;
     }
     
-    public void setReservationExpiresAt(String reservationExpiresAt) {
+    public void setReservationExpiresAt(Long reservationExpiresAt) {
         this.reservationExpiresAt = reservationExpiresAt;
     }
     
@@ -94,20 +97,22 @@ public class TicketEntity {
     }
     
     @DynamoDbAttribute("createdAt")
-    public String getCreatedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getCreatedAt() {
         return createdAt;
     }
     
-    public void setCreatedAt(String createdAt) {
+    public void setCreatedAt(Long createdAt) {
         this.createdAt = createdAt;
     }
     
     @DynamoDbAttribute("updatedAt")
-    public String getUpdatedAt() {
+    @DynamoDbConvertedBy(EpochMillisAttributeConverter.class)
+    public Long getUpdatedAt() {
         return updatedAt;
     }
     
-    public void setUpdatedAt(String updatedAt) {
+    public void setUpdatedAt(Long updatedAt) {
         this.updatedAt = updatedAt;
     }
 }
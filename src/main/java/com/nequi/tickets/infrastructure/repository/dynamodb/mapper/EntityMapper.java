@@ -2,11 +2,15 @@ package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
 
 import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventProvisioningEntity;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.OrderEntity;
 import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
 
 import java.time.LocalDateTime;
 
+import static com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter.fromEpochMillis;
+import static com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter.toEpochMillis;
+
 public final class EntityMapper {
     
     private EntityMapper() {
@@ -21,15 +25,16 @@ public final class EntityMapper {
         EventEntity entity = new EventEntity();
         entity.setEventId(event.eventId());
         entity.setName(event.name());
-        entity.setDate(toIsoString(event.date()));
+        entity.setDate(toIsoDate(event.date()));
         entity.setLocation(event.location());
         entity.setTotalCapacity(event.totalCapacity());
         entity.setAvailableTickets(event.availableTickets());
         entity.setReservedTickets(event.reservedTickets());
         entity.setComplimentaryTickets(event.complimentaryTickets());
         entity.setVersion(event.version());
-        entity.setCreatedAt(toIsoString(event.createdAt()));
-        entity.setUpdatedAt(toIsoString(event.updatedAt()));
+        entity.setCreatedAt(toEpochMillis(event.createdAt()));
+        entity.setUpdatedAt(toEpochMillis(event.updatedAt()));
+        entity.setStatus(event.status().name());
         return entity;
     }
     
@@ -41,15 +46,54 @@ public final class EntityMapper {
         return new Event(
             entity.getEventId(),
             entity.getName(),
-            fromIsoString(entity.getDate()),
+            fromIsoDate(entity.getDate()),
             entity.getLocation(),
             entity.getTotalCapacity(),
             entity.getAvailableTickets(),
             entity.getReservedTickets(),
             entity.getComplimentaryTickets() != null ? entity.getComplimentaryTickets() : 0,
             entity.getVersion(),
-            fromIsoString(entity.getCreatedAt()),
-            fromIsoString(entity.getUpdatedAt())
+            fromEpochMillis(entity.getCreatedAt()),
+            fromEpochMillis(entity.getUpdatedAt()),
+            entity.getStatus() != null ? EventStatus.valueOf(entity.getStatus()) : EventStatus.ACTIVE
+        );
+    }
+    
+    public static EventProvisioningEntity toEventProvisioningEntity(EventProvisioning provisioning) {
+        if (provisioning == null) {
+            return null;
+        }
+        
+        EventProvisioningEntity entity = new EventProvisioningEntity();
+        entity.setEventId(provisioning.eventId());
+        entity.setStatus(provisioning.status().name());
+        entity.setTotalTickets(provisioning.totalTickets());
+        entity.setGeneratedTickets(provisioning.generatedTickets());
+        entity.setFailureReason(provisioning.failureReason());
+        entity.setStartedAt(toEpochMillis(provisioning.startedAt()));
+        entity.setUpdatedAt(toEpochMillis(provisioning.updatedAt()));
+        entity.setCompletedAt(toEpochMillis(provisioning.completedAt()));
+        entity.setAttempts(provisioning.attempts());
+        entity.setVersion(provisioning.version());
+        return entity;
+    }
+    
+    public static EventProvisioning toEventProvisioning(EventProvisioningEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return new EventProvisioning(
+            entity.getEventId(),
+            ProvisioningStatus.valueOf(entity.getStatus()),
+            entity.getTotalTickets(),
+            entity.getGeneratedTickets(),
+            entity.getFailureReason(),
+            fromEpochMillis(entity.getStartedAt()),
+            fromEpochMillis(entity.getUpdatedAt()),
+            fromEpochMillis(entity.getCompletedAt()),
+            entity.getAttempts() != null ? entity.getAttempts() : 0,
+            entity.getVersion() != null ? entity.getVersion() : 0
         );
     }
     
@@ -64,11 +108,11 @@ public final class EntityMapper {
         entity.setStatus(ticket.status().name());
         entity.setCustomerId(ticket.customerId());
         entity.setOrderId(ticket.orderId());
-        entity.setReservedAt(toIsoString(ticket.reservedAt()));
-        entity.setReservationExpiresAt(toIsoString(ticket.reservationExpiresAt()));
+        entity.setReservedAt(toEpochMillis(ticket.reservedAt()));
+        entity.setReservationExpiresAt(toEpochMillis(ticket.reservationExpiresAt()));
         entity.setVersion(ticket.version());
-        entity.setCreatedAt(toIsoString(ticket.createdAt()));
-        entity.setUpdatedAt(toIsoString(ticket.updatedAt()));
+        entity.setCreatedAt(toEpochMillis(ticket.createdAt()));
+        entity.setUpdatedAt(toEpochMillis(ticket.updatedAt()));
         return entity;
     }
     
@@ -83,11 +127,11 @@ public final class EntityMapper {
             TicketStatus.valueOf(entity.getStatus()),
             entity.getCustomerId(),
             entity.getOrderId(),
-            fromIsoString(entity.getReservedAt()),
-            fromIsoString(entity.getReservationExpiresAt()),
+            fromEpochMillis(entity.getReservedAt()),
+            fromEpochMillis(entity.getReservationExpiresAt()),
             entity.getVersion(),
-            fromIsoString(entity.getCreatedAt()),
-            fromIsoString(entity.getUpdatedAt())
+            fromEpochMillis(entity.getCreatedAt()),
+            fromEpochMillis(entity.getUpdatedAt())
         );
     }
     
@@ -106,9 +150,9 @@ public final class EntityMapper {
         entity.setRetryCount(order.retryCount());
         entity.setVersion(order.version());
         entity.setFailureReason(order.failureReason());
-        entity.setCreatedAt(toIsoString(order.createdAt()));
-        entity.setUpdatedAt(toIsoString(order.updatedAt()));
-        entity.setProcessedAt(toIsoString(order.processedAt()));
+        entity.setCreatedAt(toIsoDate(order.createdAt()));
+        entity.setUpdatedAt(toEpochMillis(order.updatedAt()));
+        entity.setProcessedAt(toEpochMillis(order.processedAt()));
         return entity;
     }
     
@@ -127,17 +171,17 @@ public final class EntityMapper {
             entity.getRetryCount(),
             entity.getVersion(),
             entity.getFailureReason(),
-            fromIsoString(entity.getCreatedAt()),
-            fromIsoString(entity.getUpdatedAt()),
-            fromIsoString(entity.getProcessedAt())
+            fromIsoDate(entity.getCreatedAt()),
+            fromEpochMillis(entity.getUpdatedAt()),
+            fromEpochMillis(entity.getProcessedAt())
         );
     }
     
-    private static String toIsoString(LocalDateTime dateTime) {
+    private static String toIsoDate(LocalDateTime dateTime) {
         return dateTime != null ? dateTime.toString() : null;
     }
     
-    private static LocalDateTime fromIsoString(String isoString) {
+    private static LocalDateTime fromIsoDate(String isoString) {
         return isoString != null && !isoString.isBlank() ? LocalDateTime.parse(isoString) : null;
     }
 }
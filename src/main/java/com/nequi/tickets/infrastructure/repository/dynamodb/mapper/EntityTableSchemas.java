@@ -0,0 +1,155 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.OrderEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+public final class EntityTableSchemas {
+    
+    private static final EpochMillisAttributeConverter EPOCH_MILLIS = new EpochMillisAttributeConverter();
+    private static final IsoTimestampAttributeConverter ISO_TIMESTAMP = new IsoTimestampAttributeConverter();
+    
+    public static final TableSchema<EventEntity> EVENT = StaticTableSchema.builder(EventEntity.class)
+        .newItemSupplier(EventEntity::new)
+        .addAttribute(String.class, a -> a.name("eventId")
+            .getter(EventEntity::getEventId)
+            .setter(EventEntity::setEventId)
+            .tags(primaryPartitionKey()))
+        .addAttribute(String.class, a -> a.name("name")
+            .getter(EventEntity::getName)
+            .setter(EventEntity::setName))
+        .addAttribute(String.class, a -> a.name("date")
+            .getter(EventEntity::getDate)
+            .setter(EventEntity::setDate))
+        .addAttribute(String.class, a -> a.name("location")
+            .getter(EventEntity::getLocation)
+            .setter(EventEntity::setLocation))
+        .addAttribute(Integer.class, a -> a.name("totalCapacity")
+            .getter(EventEntity::getTotalCapacity)
+            .setter(EventEntity::setTotalCapacity))
+        .addAttribute(Integer.class, a -> a.name("availableTickets")
+            .getter(EventEntity::getAvailableTickets)
+            .setter(EventEntity::setAvailableTickets))
+        .addAttribute(Integer.class, a -> a.name("reservedTickets")
+            .getter(EventEntity::getReservedTickets)
+            .setter(EventEntity::setReservedTickets))
+        .addAttribute(Integer.class, a -> a.name("complimentaryTickets")
+            .getter(EventEntity::getComplimentaryTickets)
+            .setter(EventEntity::setComplimentaryTickets))
+        .addAttribute(Integer.class, a -> a.name("version")
+            .getter(EventEntity::getVersion)
+            .setter(EventEntity::setVersion))
+        .addAttribute(Long.class, a -> a.name("createdAt")
+            .getter(EventEntity::getCreatedAt)
+            .setter(EventEntity::setCreatedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(Long.class, a -> a.name("updatedAt")
+            .getter(EventEntity::getUpdatedAt)
+            .setter(EventEntity::setUpdatedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(String.class, a -> a.name("status")
+            .getter(EventEntity::getStatus)
+            .setter(EventEntity::setStatus))
+        .build();
+    
+    public static final TableSchema<TicketEntity> TICKET = StaticTableSchema.builder(TicketEntity.class)
+        .newItemSupplier(TicketEntity::new)
+        .addAttribute(String.class, a -> a.name("ticketId")
+            .getter(TicketEntity::getTicketId)
+            .setter(TicketEntity::setTicketId)
+            .tags(primaryPartitionKey()))
+        .addAttribute(String.class, a -> a.name("eventId")
+            .getter(TicketEntity::getEventId)
+            .setter(TicketEntity::setEventId)
+            .tags(secondaryPartitionKey("eventId-status-index")))
+        .addAttribute(String.class, a -> a.name("status")
+            .getter(TicketEntity::getStatus)
+            .setter(TicketEntity::setStatus)
+            .tags(secondarySortKey("eventId-status-index")))
+        .addAttribute(String.class, a -> a.name("customerId")
+            .getter(TicketEntity::getCustomerId)
+            .setter(TicketEntity::setCustomerId)
+            .tags(secondaryPartitionKey("customerId-index")))
+        .addAttribute(String.class, a -> a.name("orderId")
+            .getter(TicketEntity::getOrderId)
+            .setter(TicketEntity::setOrderId)
+            .tags(secondaryPartitionKey("orderId-index")))
+        .addAttribute(Long.class, a -> a.name("reservedAt")
+            .getter(TicketEntity::getReservedAt)
+            .setter(TicketEntity::setReservedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(Long.class, a -> a.name("reservationExpiresAt")
+            .getter(TicketEntity::getReservationExpiresAt)
+            .setter(TicketEntity::setReservationExpiresAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(Integer.class, a -> a.name("version")
+            .getter(TicketEntity::getVersion)
+            .setter(TicketEntity::setVersion))
+        .addAttribute(Long.class, a -> a.name("createdAt")
+            .getter(TicketEntity::getCreatedAt)
+            .setter(TicketEntity::setCreatedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(Long.class, a -> a.name("updatedAt")
+            .getter(TicketEntity::getUpdatedAt)
+            .setter(TicketEntity::setUpdatedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .build();
+    
+    public static final TableSchema<OrderEntity> ORDER = StaticTableSchema.builder(OrderEntity.class)
+        .newItemSupplier(OrderEntity::new)
+        .addAttribute(String.class, a -> a.name("orderId")
+            .getter(OrderEntity::getOrderId)
+            .setter(OrderEntity::setOrderId)
+            .tags(primaryPartitionKey()))
+        .addAttribute(String.class, a -> a.name("eventId")
+            .getter(OrderEntity::getEventId)
+            .setter(OrderEntity::setEventId)
+            .tags(secondaryPartitionKey("eventId-index")))
+        .addAttribute(String.class, a -> a.name("customerId")
+            .getter(OrderEntity::getCustomerId)
+            .setter(OrderEntity::setCustomerId)
+            .tags(secondaryPartitionKey("customerId-index")))
+        .addAttribute(EnhancedType.listOf(String.class), a -> a.name("ticketIds")
+            .getter(OrderEntity::getTicketIds)
+            .setter(OrderEntity::setTicketIds))
+        .addAttribute(String.class, a -> a.name("status")
+            .getter(OrderEntity::getStatus)
+            .setter(OrderEntity::setStatus)
+            .tags(secondaryPartitionKey("status-index")))
+        .addAttribute(Integer.class, a -> a.name("totalTickets")
+            .getter(OrderEntity::getTotalTickets)
+            .setter(OrderEntity::setTotalTickets))
+        .addAttribute(Integer.class, a -> a.name("retryCount")
+            .getter(OrderEntity::getRetryCount)
+            .setter(OrderEntity::setRetryCount))
+        .addAttribute(Integer.class, a -> a.name("version")
+            .getter(OrderEntity::getVersion)
+            .setter(OrderEntity::setVersion))
+        .addAttribute(String.class, a -> a.name("failureReason")
+            .getter(OrderEntity::getFailureReason)
+            .setter(OrderEntity::setFailureReason))
+        .addAttribute(String.class, a -> a.name("createdAt")
+            .getter(OrderEntity::getCreatedAt)
+            .setter(OrderEntity::setCreatedAt)
+            .attributeConverter(ISO_TIMESTAMP))
+        .addAttribute(Long.class, a -> a.name("updatedAt")
+            .getter(OrderEntity::getUpdatedAt)
+            .setter(OrderEntity::setUpdatedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .addAttribute(Long.class, a -> a.name("processedAt")
+            .getter(OrderEntity::getProcessedAt)
+            .setter(OrderEntity::setProcessedAt)
+            .attributeConverter(EPOCH_MILLIS))
+        .build();
+    
+    private EntityTableSchemas() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
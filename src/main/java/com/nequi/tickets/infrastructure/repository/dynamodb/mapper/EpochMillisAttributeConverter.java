@@ -0,0 +1,54 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class EpochMillisAttributeConverter implements AttributeConverter<Long> {
+    
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    
+    public static Long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZONE).toInstant().toEpochMilli() : null;
+    }
+    
+    public static LocalDateTime fromEpochMillis(Long epochMillis) {
+        return epochMillis != null
+            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE)
+            : null;
+    }
+    
+    @Override
+    public AttributeValue transformFrom(Long input) {
+        if (input == null) {
+            return AttributeValue.builder().nul(true).build();
+        }
+        return AttributeValue.builder().n(Long.toString(input)).build();
+    }
+    
+    @Override
+    public Long transformTo(AttributeValue input) {
+        if (input.n() != null) {
+            return Long.parseLong(input.n());
+        }
+        if (input.s() != null && !input.s().isBlank()) {
+            return toEpochMillis(LocalDateTime.parse(input.s()));
+        }
+        return null;
+    }
+    
+    @Override
+    public EnhancedType<Long> type() {
+        return EnhancedType.of(Long.class);
+    }
+    
+    @Override
+    public AttributeValueType attributeValueType() {
+        return AttributeValueType.N;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+
+public class IsoTimestampAttributeConverter implements AttributeConverter<String> {
+    
+    public static String toIsoString(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+    
+    public static LocalDateTime fromIsoString(String isoString) {
+        return isoString != null && !isoString.isBlank() ? LocalDateTime.parse(isoString) : null;
+    }
+    
+    @Override
+    public AttributeValue transformFrom(String input) {
+        if (input == null) {
+            return AttributeValue.builder().nul(true).build();
+        }
+        return AttributeValue.builder().s(input).build();
+    }
+    
+    @Override
+    public String transformTo(AttributeValue input) {
+        if (input.s() != null) {
+            return input.s();
+        }
+        if (input.n() != null) {
+            return toIsoString(EpochMillisAttributeConverter.fromEpochMillis(Long.parseLong(input.n())));
+        }
+        return null;
+    }
+    
+    @Override
+    public EnhancedType<String> type() {
+        return EnhancedType.of(String.class);
+    }
+    
+    @Override
+    public AttributeValueType attributeValueType() {
+        return AttributeValueType.S;
+    }
+}
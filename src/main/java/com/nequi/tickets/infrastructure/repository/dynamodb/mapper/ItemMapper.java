@@ -0,0 +1,201 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import com.nequi.tickets.domain.model.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter.fromEpochMillis;
+import static com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EpochMillisAttributeConverter.toEpochMillis;
+
+public final class ItemMapper {
+    
+    public static final String EVENT_ID = "eventId";
+    public static final String TICKET_ID = "ticketId";
+    public static final String ORDER_ID = "orderId";
+    public static final String CUSTOMER_ID = "customerId";
+    public static final String NAME = "name";
+    public static final String DATE = "date";
+    public static final String LOCATION = "location";
+    public static final String TOTAL_CAPACITY = "totalCapacity";
+    public static final String AVAILABLE_TICKETS = "availableTickets";
+    public static final String RESERVED_TICKETS = "reservedTickets";
+    public static final String COMPLIMENTARY_TICKETS = "complimentaryTickets";
+    public static final String STATUS = "status";
+    public static final String VERSION = "version";
+    public static final String RESERVED_AT = "reservedAt";
+    public static final String RESERVATION_EXPIRES_AT = "reservationExpiresAt";
+    public static final String TICKET_IDS = "ticketIds";
+    public static final String TOTAL_TICKETS = "totalTickets";
+    public static final String RETRY_COUNT = "retryCount";
+    public static final String FAILURE_REASON = "failureReason";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String PROCESSED_AT = "processedAt";
+    
+    private static final EpochMillisAttributeConverter EPOCH_MILLIS = new EpochMillisAttributeConverter();
+    private static final IsoTimestampAttributeConverter ISO_TIMESTAMP = new IsoTimestampAttributeConverter();
+    
+    private ItemMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    
+    public static Map<String, AttributeValue> toEventItem(Event event) {
+        Map<String, AttributeValue> item = new HashMap<>(16);
+        putString(item, EVENT_ID, event.eventId());
+        putString(item, NAME, event.name());
+        putString(item, DATE, event.date() != null ? event.date().toString() : null);
+        putString(item, LOCATION, event.location());
+        putNumber(item, TOTAL_CAPACITY, event.totalCapacity());
+        putNumber(item, AVAILABLE_TICKETS, event.availableTickets());
+        putNumber(item, RESERVED_TICKETS, event.reservedTickets());
+        putNumber(item, COMPLIMENTARY_TICKETS, event.complimentaryTickets());
+        putNumber(item, VERSION, event.version());
+        putTimestamp(item, CREATED_AT, event.createdAt());
+        putTimestamp(item, UPDATED_AT, event.updatedAt());
+        putString(item, STATUS, event.status().name());
+        return item;
+    }
+    
+    public static Event toEvent(Map<String, AttributeValue> item) {
+        String status = getString(item, STATUS);
+        Integer complimentaryTickets = getInteger(item, COMPLIMENTARY_TICKETS);
+        String date = getString(item, DATE);
+        
+        return new Event(
+            getString(item, EVENT_ID),
+            getString(item, NAME),
+            date != null && !date.isBlank() ? LocalDateTime.parse(date) : null,
+            getString(item, LOCATION),
+            getInteger(item, TOTAL_CAPACITY),
+            getInteger(item, AVAILABLE_TICKETS),
+            getInteger(item, RESERVED_TICKETS),
+            complimentaryTickets != null ? complimentaryTickets : 0,
+            getInteger(item, VERSION),
+            getTimestamp(item, CREATED_AT),
+            getTimestamp(item, UPDATED_AT),
+            status != null ? EventStatus.valueOf(status) : EventStatus.ACTIVE
+        );
+    }
+    
+    public static Map<String, AttributeValue> toTicketItem(Ticket ticket) {
+        Map<String, AttributeValue> item = new HashMap<>(16);
+        putString(item, TICKET_ID, ticket.ticketId());
+        putString(item, EVENT_ID, ticket.eventId());
+        putString(item, STATUS, ticket.status().name());
+        putString(item, CUSTOMER_ID, ticket.customerId());
+        putString(item, ORDER_ID, ticket.orderId());
+        putTimestamp(item, RESERVED_AT, ticket.reservedAt());
+        putTimestamp(item, RESERVATION_EXPIRES_AT, ticket.reservationExpiresAt());
+        putNumber(item, VERSION, ticket.version());
+        putTimestamp(item, CREATED_AT, ticket.createdAt());
+        putTimestamp(item, UPDATED_AT, ticket.updatedAt());
+        return item;
+    }
+    
+    public static Ticket toTicket(Map<String, AttributeValue> item) {
+        return new Ticket(
+            getString(item, TICKET_ID),
+            getString(item, EVENT_ID),
+            TicketStatus.valueOf(getString(item, STATUS)),
+            getString(item, CUSTOMER_ID),
+            getString(item, ORDER_ID),
+            getTimestamp(item, RESERVED_AT),
+            getTimestamp(item, RESERVATION_EXPIRES_AT),
+            getInteger(item, VERSION),
+            getTimestamp(item, CREATED_AT),
+            getTimestamp(item, UPDATED_AT)
+        );
+    }
+    
+    public static Map<String, AttributeValue> toOrderItem(Order order) {
+        Map<String, AttributeValue> item = new HashMap<>(16);
+        putString(item, ORDER_ID, order.orderId());
+        putString(item, EVENT_ID, order.eventId());
+        putString(item, CUSTOMER_ID, order.customerId());
+        if (order.ticketIds() != null) {
+            List<AttributeValue> ticketIds = new ArrayList<>(order.ticketIds().size());
+            for (String ticketId : order.ticketIds()) {
+                ticketIds.add(AttributeValue.builder().s(ticketId).build());
+            }
+            item.put(TICKET_IDS, AttributeValue.builder().l(ticketIds).build());
+        }
+        putString(item, STATUS, order.status().name());
+        putNumber(item, TOTAL_TICKETS, order.totalTickets());
+        putNumber(item, RETRY_COUNT, order.retryCount());
+        putNumber(item, VERSION, order.version());
+        putString(item, FAILURE_REASON, order.failureReason());
+        putString(item, CREATED_AT, IsoTimestampAttributeConverter.toIsoString(order.createdAt()));
+        putTimestamp(item, UPDATED_AT, order.updatedAt());
+        putTimestamp(item, PROCESSED_AT, order.processedAt());
+        return item;
+    }
+    
+    public static Order toOrder(Map<String, AttributeValue> item) {
+        AttributeValue ticketIdsValue = item.get(TICKET_IDS);
+        List<String> ticketIds = null;
+        if (ticketIdsValue != null && ticketIdsValue.hasL()) {
+            ticketIds = new ArrayList<>(ticketIdsValue.l().size());
+            for (AttributeValue ticketId : ticketIdsValue.l()) {
+                ticketIds.add(ticketId.s());
+            }
+        }
+        
+        return new Order(
+            getString(item, ORDER_ID),
+            getString(item, EVENT_ID),
+            getString(item, CUSTOMER_ID),
+            ticketIds,
+            OrderStatus.valueOf(getString(item, STATUS)),
+            getInteger(item, TOTAL_TICKETS),
+            getInteger(item, RETRY_COUNT),
+            getInteger(item, VERSION),
+            getString(item, FAILURE_REASON),
+            getIsoTimestamp(item, CREATED_AT),
+            getTimestamp(item, UPDATED_AT),
+            getTimestamp(item, PROCESSED_AT)
+        );
+    }
+    
+    private static void putString(Map<String, AttributeValue> item, String name, String value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().s(value).build());
+        }
+    }
+    
+    private static void putNumber(Map<String, AttributeValue> item, String name, Integer value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().n(value.toString()).build());
+        }
+    }
+    
+    private static void putTimestamp(Map<String, AttributeValue> item, String name, LocalDateTime value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().n(Long.toString(toEpochMillis(value))).build());
+        }
+    }
+    
+    private static String getString(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value != null ? value.s() : null;
+    }
+    
+    private static Integer getInteger(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value != null && value.n() != null ? Integer.valueOf(value.n()) : null;
+    }
+    
+    private static LocalDateTime getTimestamp(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value != null ? fromEpochMillis(EPOCH_MILLIS.transformTo(value)) : null;
+    }
+    
+    private static LocalDateTime getIsoTimestamp(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value != null ? IsoTimestampAttributeConverter.fromIsoString(ISO_TIMESTAMP.transformTo(value)) : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+final class CompositeIndex {
+    
+    private static final char SEPARATOR = '\u0001';
+    private static final char UPPER_BOUND = '\u0002';
+    
+    private final ConcurrentSkipListSet<String> entries = new ConcurrentSkipListSet<>();
+    
+    static String key(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] == null) {
+                return null;
+            }
+            if (i > 0) {
+                key.append(SEPARATOR);
+            }
+            key.append(parts[i]);
+        }
+        return key.toString();
+    }
+    
+    void add(String partition, String id) {
+        if (partition != null) {
+            entries.add(partition + SEPARATOR + id);
+        }
+    }
+    
+    void remove(String partition, String id) {
+        if (partition != null) {
+            entries.remove(partition + SEPARATOR + id);
+        }
+    }
+    
+    Stream<String> ids(String partition) {
+        int prefixLength = partition.length() + 1;
+        return entries.subSet(partition + SEPARATOR, partition + UPPER_BOUND).stream()
+            .map(entry -> entry.substring(prefixLength));
+    }
+}
@@ -0,0 +1,49 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryEventProvisioningRepository implements EventProvisioningRepository {
+    
+    private final ConcurrentHashMap<String, EventProvisioning> provisionings = new ConcurrentHashMap<>();
+    
+    @Override
+    public Mono<EventProvisioning> save(EventProvisioning provisioning) {
+        return Mono.fromCallable(() -> {
+            provisionings.put(provisioning.eventId(), provisioning);
+            return provisioning;
+        });
+    }
+    
+    @Override
+    public Mono<EventProvisioning> saveIfVersion(EventProvisioning provisioning, Integer expectedVersion) {
+        return Mono.fromCallable(() -> provisionings.compute(provisioning.eventId(), (id, current) -> {
+            if (current == null || !current.version().equals(expectedVersion)) {
+                throw new ConcurrentModificationException("EventProvisioning", provisioning.eventId(), expectedVersion,
+                    current != null ? current.version() : null);
+            }
+            return provisioning;
+        }));
+    }
+    
+    @Override
+    public Mono<EventProvisioning> findById(String eventId) {
+        return Mono.fromSupplier(() -> provisionings.get(eventId));
+    }
+    
+    @Override
+    public Flux<EventProvisioning> findByStatus(ProvisioningStatus status) {
+        return Flux.defer(() -> Flux.fromStream(provisionings.values().stream()
+            .filter(provisioning -> provisioning.status() == status)));
+    }
+}
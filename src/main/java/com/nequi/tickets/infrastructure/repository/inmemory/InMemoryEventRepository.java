@@ -0,0 +1,133 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.repository.EventRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryEventRepository implements EventRepository {
+    
+    private final ConcurrentHashMap<String, Event> events = new ConcurrentHashMap<>();
+    private final TimeIndex dateIndex = new TimeIndex();
+    
+    @Override
+    public Mono<Event> save(Event event) {
+        return Mono.fromCallable(() -> {
+            events.compute(event.eventId(), (id, current) -> reindex(current, event));
+            return event;
+        });
+    }
+    
+    @Override
+    public Mono<Event> saveIfVersion(Event event, Integer expectedVersion) {
+        return Mono.fromCallable(() -> events.compute(event.eventId(), (id, current) -> {
+            if (current == null || !current.version().equals(expectedVersion)) {
+                throw new ConcurrentModificationException("Event", event.eventId(), expectedVersion,
+                    current != null ? current.version() : null);
+            }
+            return reindex(current, event);
+        }));
+    }
+    
+    @Override
+    public Mono<Event> findById(String eventId) {
+        return findById(eventId, ReadConsistency.STRONG);
+    }
+    
+    @Override
+    public Mono<Event> findById(String eventId, ReadConsistency consistency) {
+        return Mono.fromSupplier(() -> events.get(eventId));
+    }
+    
+    @Override
+    public Flux<Event> findAll() {
+        return Flux.defer(() -> Flux.fromIterable(events.values()));
+    }
+    
+    @Override
+    public Flux<Event> findUpcomingEvents(LocalDateTime startDate) {
+        return Flux.defer(() -> Flux.fromStream(dateIndex.idsFrom(startDate)
+            .map(events::get)
+            .filter(Objects::nonNull)
+            .filter(event -> !event.date().isBefore(startDate))));
+    }
+    
+    @Override
+    public Flux<Event> findEventsWithAvailability() {
+        return findAll().filter(event -> event.availableTickets() > 0);
+    }
+    
+    @Override
+    public Mono<Boolean> existsById(String eventId) {
+        return Mono.fromSupplier(() -> events.containsKey(eventId));
+    }
+    
+    @Override
+    public Mono<Void> deleteById(String eventId) {
+        return Mono.fromRunnable(() -> events.computeIfPresent(eventId, (id, current) -> reindex(current, null)));
+    }
+    
+    @Override
+    public Mono<Event> updateInventory(String eventId, Integer expectedVersion,
+                                      Integer availableTickets, Integer reservedTickets) {
+        return Mono.fromCallable(() -> events.compute(eventId, (id, current) -> {
+            if (current == null) {
+                throw new IllegalArgumentException("Event not found: " + eventId);
+            }
+            if (!current.version().equals(expectedVersion)) {
+                throw new ConcurrentModificationException("Event", eventId, expectedVersion, current.version());
+            }
+            return reindex(current, withInventory(current, availableTickets, reservedTickets, current.version() + 1));
+        }));
+    }
+    
+    @Override
+    public Mono<Event> decrementAvailableTickets(String eventId, Integer expectedVersion, Integer quantity, Integer newAvailable, Integer newReserved) {
+        return Mono.fromCallable(() -> events.compute(eventId, (id, current) -> {
+            if (current == null) {
+                throw new IllegalArgumentException("Event not found: " + eventId);
+            }
+            if (!current.version().equals(expectedVersion) || current.availableTickets() < quantity) {
+                throw new ConcurrentModificationException("Event", eventId, expectedVersion, current.version());
+            }
+            return reindex(current, withInventory(current, newAvailable, newReserved, expectedVersion + 1));
+        }));
+    }
+    
+    private Event reindex(Event previous, Event next) {
+        if (previous != null) {
+            dateIndex.remove(previous.date(), previous.eventId());
+        }
+        if (next != null) {
+            dateIndex.add(next.date(), next.eventId());
+        }
+        return next;
+    }
+    
+    private static Event withInventory(Event event, Integer availableTickets, Integer reservedTickets, Integer version) {
+        return new Event(
+            event.eventId(),
+            event.name(),
+            event.date(),
+            event.location(),
+            event.totalCapacity(),
+            availableTickets,
+            reservedTickets,
+            event.complimentaryTickets(),
+            version,
+            event.createdAt(),
+            LocalDateTime.now(),
+            event.status()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.repository.IdempotencyRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryIdempotencyRepository implements IdempotencyRepository {
+    
+    private final ConcurrentHashMap<String, Instant> expirations = new ConcurrentHashMap<>();
+    
+    @Override
+    public Mono<Boolean> exists(String key) {
+        return Mono.fromSupplier(() -> {
+            Instant expiresAt = expirations.get(key);
+            return expiresAt != null && expiresAt.isAfter(Instant.now());
+        });
+    }
+    
+    @Override
+    public Mono<Boolean> markProcessed(String key, Duration ttl) {
+        return Mono.fromSupplier(() -> {
+            Instant now = Instant.now();
+            Instant expiresAt = now.plus(ttl);
+            return expirations.compute(key, (id, current) -> current == null || current.isBefore(now) ? expiresAt : current)
+                == expiresAt;
+        });
+    }
+}
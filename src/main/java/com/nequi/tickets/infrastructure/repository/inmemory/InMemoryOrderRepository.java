@@ -0,0 +1,139 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.repository.OrderRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryOrderRepository implements OrderRepository {
+    
+    private final ConcurrentHashMap<String, Order> orders = new ConcurrentHashMap<>();
+    private final CompositeIndex customerIndex = new CompositeIndex();
+    private final CompositeIndex eventIndex = new CompositeIndex();
+    private final CompositeIndex statusIndex = new CompositeIndex();
+    
+    @Override
+    public Mono<Order> save(Order order) {
+        return Mono.fromCallable(() -> {
+            orders.compute(order.orderId(), (id, current) -> reindex(current, order));
+            return order;
+        });
+    }
+    
+    @Override
+    public Mono<Order> saveIfVersion(Order order, Integer expectedVersion) {
+        return Mono.fromCallable(() -> orders.compute(order.orderId(), (id, current) -> {
+            if (current == null || !current.version().equals(expectedVersion)) {
+                throw new ConcurrentModificationException("Order", order.orderId(), expectedVersion,
+                    current != null ? current.version() : null);
+            }
+            return reindex(current, order);
+        }));
+    }
+    
+    @Override
+    public Mono<Order> findById(String orderId) {
+        return findById(orderId, ReadConsistency.EVENTUAL);
+    }
+    
+    @Override
+    public Mono<Order> findById(String orderId, ReadConsistency consistency) {
+        return Mono.fromSupplier(() -> orders.get(orderId));
+    }
+    
+    @Override
+    public Flux<Order> findByIds(List<String> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        return lookup(() -> orderIds.stream().distinct(), order -> true);
+    }
+    
+    @Override
+    public Flux<Order> findByCustomerId(String customerId) {
+        return lookup(() -> customerIndex.ids(customerId), order -> customerId.equals(order.customerId()));
+    }
+    
+    @Override
+    public Flux<Order> findByEventId(String eventId) {
+        return lookup(() -> eventIndex.ids(eventId), order -> order.eventId().equals(eventId));
+    }
+    
+    @Override
+    public Flux<Order> findByStatus(OrderStatus status) {
+        return lookup(() -> statusIndex.ids(status.name()), order -> order.status() == status);
+    }
+    
+    @Override
+    public Flux<Order> findByCustomerIdAndStatus(String customerId, OrderStatus status) {
+        return findByCustomerId(customerId)
+            .filter(order -> order.status() == status);
+    }
+    
+    @Override
+    public Flux<Order> findByEventIdAndStatus(String eventId, OrderStatus status) {
+        return findByEventId(eventId)
+            .filter(order -> order.status() == status);
+    }
+    
+    @Override
+    public Flux<Order> findPendingOrders() {
+        return findByStatus(OrderStatus.PENDING);
+    }
+    
+    @Override
+    public Mono<Boolean> existsById(String orderId) {
+        return Mono.fromSupplier(() -> orders.containsKey(orderId));
+    }
+    
+    @Override
+    public Mono<Long> countByStatus(OrderStatus status) {
+        return findByStatus(status).count();
+    }
+    
+    @Override
+    public Mono<Long> countByEventId(String eventId) {
+        return findByEventId(eventId).count();
+    }
+    
+    @Override
+    public Mono<Void> deleteById(String orderId) {
+        return Mono.fromRunnable(() -> orders.computeIfPresent(orderId, (id, current) -> reindex(current, null)));
+    }
+    
+    private Flux<Order> lookup(Supplier<Stream<String>> ids, Predicate<Order> matches) {
+        return Flux.defer(() -> Flux.fromStream(ids.get()
+            .map(orders::get)
+            .filter(Objects::nonNull)
+            .filter(matches)));
+    }
+    
+    private Order reindex(Order previous, Order next) {
+        if (previous != null) {
+            customerIndex.remove(previous.customerId(), previous.orderId());
+            eventIndex.remove(previous.eventId(), previous.orderId());
+            statusIndex.remove(CompositeIndex.key(previous.status()), previous.orderId());
+        }
+        if (next != null) {
+            customerIndex.add(next.customerId(), next.orderId());
+            eventIndex.add(next.eventId(), next.orderId());
+            statusIndex.add(CompositeIndex.key(next.status()), next.orderId());
+        }
+        return next;
+    }
+}
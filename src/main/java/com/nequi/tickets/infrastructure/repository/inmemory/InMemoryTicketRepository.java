@@ -0,0 +1,167 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import com.nequi.tickets.domain.repository.TicketRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryTicketRepository implements TicketRepository {
+    
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final CompositeIndex eventIndex = new CompositeIndex();
+    private final CompositeIndex eventStatusIndex = new CompositeIndex();
+    private final CompositeIndex customerIndex = new CompositeIndex();
+    private final CompositeIndex orderIndex = new CompositeIndex();
+    private final TimeIndex expirationIndex = new TimeIndex();
+    
+    @Override
+    public Mono<Ticket> save(Ticket ticket) {
+        return Mono.fromCallable(() -> {
+            put(ticket);
+            return ticket;
+        });
+    }
+    
+    @Override
+    public Mono<Ticket> saveIfVersion(Ticket ticket, Integer expectedVersion) {
+        return Mono.fromCallable(() -> tickets.compute(ticket.ticketId(), (id, current) -> {
+            if (current == null || !current.version().equals(expectedVersion)) {
+                throw new ConcurrentModificationException("Ticket", ticket.ticketId(), expectedVersion,
+                    current != null ? current.version() : null);
+            }
+            return reindex(current, ticket);
+        }));
+    }
+    
+    @Override
+    public Flux<Ticket> saveAll(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        return saveStream(Flux.fromIterable(tickets))
+            .thenMany(Flux.fromIterable(tickets));
+    }
+    
+    @Override
+    public Mono<Long> saveStream(Flux<Ticket> tickets) {
+        return tickets
+            .doOnNext(this::put)
+            .count();
+    }
+    
+    @Override
+    public Mono<Ticket> findById(String ticketId) {
+        return Mono.fromSupplier(() -> tickets.get(ticketId));
+    }
+    
+    @Override
+    public Flux<Ticket> findByEventId(String eventId) {
+        return lookup(() -> eventIndex.ids(eventId), ticket -> ticket.eventId().equals(eventId));
+    }
+    
+    @Override
+    public Flux<Ticket> findByIds(List<String> ticketIds) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        return lookup(() -> ticketIds.stream().distinct(), ticket -> true);
+    }
+    
+    @Override
+    public Flux<Ticket> findByEventIdAndStatus(String eventId, TicketStatus status) {
+        return lookup(() -> eventStatusIndex.ids(CompositeIndex.key(eventId, status)),
+            ticket -> ticket.eventId().equals(eventId) && ticket.status() == status);
+    }
+    
+    @Override
+    public Flux<Ticket> findByCustomerId(String customerId) {
+        return lookup(() -> customerIndex.ids(customerId), ticket -> customerId.equals(ticket.customerId()));
+    }
+    
+    @Override
+    public Flux<Ticket> findByOrderId(String orderId) {
+        return lookup(() -> orderIndex.ids(orderId), ticket -> orderId.equals(ticket.orderId()));
+    }
+    
+    @Override
+    public Flux<Ticket> findExpiredReservations(LocalDateTime expirationTime) {
+        return lookup(() -> expirationIndex.idsBefore(expirationTime), ticket -> isExpirable(ticket)
+            && ticket.reservationExpiresAt().isBefore(expirationTime));
+    }
+    
+    @Override
+    public Mono<Long> countAvailableByEventId(String eventId) {
+        return countByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
+    }
+    
+    @Override
+    public Mono<Long> countByEventIdAndStatus(String eventId, TicketStatus status) {
+        return findByEventIdAndStatus(eventId, status)
+            .count();
+    }
+    
+    @Override
+    public Mono<Void> deleteById(String ticketId) {
+        return Mono.fromRunnable(() -> tickets.computeIfPresent(ticketId, (id, current) -> reindex(current, null)));
+    }
+    
+    @Override
+    public Mono<Void> deleteByEventId(String eventId) {
+        return findByEventId(eventId)
+            .flatMap(ticket -> deleteById(ticket.ticketId()))
+            .then();
+    }
+    
+    private void put(Ticket ticket) {
+        tickets.compute(ticket.ticketId(), (id, current) -> reindex(current, ticket));
+    }
+    
+    private Flux<Ticket> lookup(Supplier<Stream<String>> ids, Predicate<Ticket> matches) {
+        return Flux.defer(() -> Flux.fromStream(ids.get()
+            .map(tickets::get)
+            .filter(Objects::nonNull)
+            .filter(matches)));
+    }
+    
+    private Ticket reindex(Ticket previous, Ticket next) {
+        if (previous != null) {
+            eventIndex.remove(previous.eventId(), previous.ticketId());
+            eventStatusIndex.remove(CompositeIndex.key(previous.eventId(), previous.status()), previous.ticketId());
+            customerIndex.remove(previous.customerId(), previous.ticketId());
+            orderIndex.remove(previous.orderId(), previous.ticketId());
+            if (isExpirable(previous)) {
+                expirationIndex.remove(previous.reservationExpiresAt(), previous.ticketId());
+            }
+        }
+        if (next != null) {
+            eventIndex.add(next.eventId(), next.ticketId());
+            eventStatusIndex.add(CompositeIndex.key(next.eventId(), next.status()), next.ticketId());
+            customerIndex.add(next.customerId(), next.ticketId());
+            orderIndex.add(next.orderId(), next.ticketId());
+            if (isExpirable(next)) {
+                expirationIndex.add(next.reservationExpiresAt(), next.ticketId());
+            }
+        }
+        return next;
+    }
+    
+    private static boolean isExpirable(Ticket ticket) {
+        return ticket.status() == TicketStatus.PENDING_CONFIRMATION && ticket.reservationExpiresAt() != null;
+    }
+}
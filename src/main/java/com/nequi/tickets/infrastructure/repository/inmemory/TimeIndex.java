@@ -0,0 +1,35 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+final class TimeIndex {
+    
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(
+        Comparator.comparing(Entry::time).thenComparing(Entry::id));
+    
+    void add(LocalDateTime time, String id) {
+        if (time != null) {
+            entries.add(new Entry(time, id));
+        }
+    }
+    
+    void remove(LocalDateTime time, String id) {
+        if (time != null) {
+            entries.remove(new Entry(time, id));
+        }
+    }
+    
+    Stream<String> idsBefore(LocalDateTime cutoff) {
+        return entries.headSet(new Entry(cutoff, ""), false).stream().map(Entry::id);
+    }
+    
+    Stream<String> idsFrom(LocalDateTime start) {
+        return entries.tailSet(new Entry(start, ""), true).stream().map(Entry::id);
+    }
+    
+    private record Entry(LocalDateTime time, String id) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.nequi.tickets.infrastructure.scheduler;
+
+import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.usecase.ProvisionEventTicketsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ScheduledProvisioningResumer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledProvisioningResumer.class);
+    
+    private static final int MAX_BACKOFF_SHIFT = 6;
+    
+    private final EventProvisioningRepository provisioningRepository;
+    private final ProvisionEventTicketsUseCase provisionEventTicketsUseCase;
+    private final BusinessProperties businessProperties;
+    
+    public ScheduledProvisioningResumer(
+            EventProvisioningRepository provisioningRepository,
+            ProvisionEventTicketsUseCase provisionEventTicketsUseCase,
+            BusinessProperties businessProperties) {
+        this.provisioningRepository = provisioningRepository;
+        this.provisionEventTicketsUseCase = provisionEventTicketsUseCase;
+        this.businessProperties = businessProperties;
+    }
+    
+    @Scheduled(
+        initialDelayString = "${business.event.provisioning-resume-interval-ms:60000}",
+        fixedRateString = "${business.event.provisioning-resume-interval-ms:60000}"
+    )
+    public void resumeStaleProvisioning() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        Flux.concat(
+                provisioningRepository.findByStatus(ProvisioningStatus.IN_PROGRESS),
+                provisioningRepository.findByStatus(ProvisioningStatus.FAILED))
+            .filter(provisioning -> isStale(provisioning, now))
+            .filter(provisioning -> !provisionEventTicketsUseCase.isRunning(provisioning.eventId()))
+            .doOnNext(provisioning -> logger.info("Resuming provisioning for event {} from {}/{} tickets, attempt {}",
+                provisioning.eventId(), provisioning.generatedTickets(), provisioning.totalTickets(),
+                provisioning.attempts() + 1))
+            .concatMap(provisioning -> provisionEventTicketsUseCase.resumeStale(provisioning)
+                .onErrorResume(error -> {
+                    logger.error("Error resuming provisioning for event {}", provisioning.eventId(), error);
+                    return Mono.empty();
+                }))
+            .count()
+            .doOnSuccess(count -> {
+                if (count > 0) {
+                    logger.info("Resumed {} stale provisioning jobs", count);
+                }
+            })
+            .onErrorResume(error -> {
+                logger.error("Error scanning provisioning jobs", error);
+                return Mono.just(0L);
+            })
+            .subscribe();
+    }
+    
+    private boolean isStale(EventProvisioning provisioning, LocalDateTime now) {
+        long staleAfterSeconds = (long) businessProperties.getEvent().getProvisioningStaleAfterSeconds()
+            << Math.min(provisioning.attempts(), MAX_BACKOFF_SHIFT);
+        return provisioning.updatedAt() == null || provisioning.updatedAt().isBefore(now.minusSeconds(staleAfterSeconds));
+    }
+}
@@ -0,0 +1,280 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public final class AdaptiveConcurrencyLimiter {
+
+    static final double RTT_TOLERANCE = 1.5;
+    static final double MIN_GRADIENT = 0.5;
+    static final double SMOOTHING = 0.2;
+    static final double OVERLOAD_BACKOFF = 0.9;
+    static final double BASELINE_DRIFT_RATIO = 2.0;
+    static final double BASELINE_DECAY = 0.95;
+    static final int LONG_RTT_WINDOW = 600;
+    static final int LONG_RTT_WARM_UP = 10;
+
+    private final String name;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+    private final LongSupplier nanoClock;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedTimedOut = new LongAdder();
+
+    private double limit;
+    private int inFlight;
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(String name, boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueueSize, Duration maxWait) {
+        this(name, enabled, initialLimit, minLimit, maxLimit, maxQueueSize, maxWait, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                               int maxQueueSize, Duration maxWait, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("Queue size cannot be negative");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait cannot be negative");
+        }
+        this.name = name;
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public <T> Mono<T> mono(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.usingWhen(acquire(), permit -> call,
+            permit -> release(permit, Sample.LATENCY),
+            (permit, error) -> release(permit, isOverload(error) ? Sample.OVERLOAD : Sample.NONE),
+            permit -> release(permit, Sample.NONE));
+    }
+
+    public <T> Flux<T> flux(Flux<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Flux.usingWhen(acquire(), permit -> call.doOnNext(item -> {
+                if (!permit.settled) {
+                    settle(permit, Sample.LATENCY);
+                }
+            }),
+            permit -> release(permit, Sample.LATENCY),
+            (permit, error) -> release(permit, isOverload(error) ? Sample.OVERLOAD : Sample.NONE),
+            permit -> release(permit, Sample.NONE));
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queueDepth() {
+        return waiters.size();
+    }
+
+    public long shedQueueFull() {
+        return shedQueueFull.sum();
+    }
+
+    public long shedTimedOut() {
+        return shedTimedOut.sum();
+    }
+
+    static boolean isOverload(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof SdkServiceException serviceException && serviceException.isThrottlingException()) {
+                return true;
+            }
+            if (cause instanceof ApiCallAttemptTimeoutException || cause instanceof ApiCallTimeoutException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit != null) {
+                return Mono.just(permit);
+            }
+            return Mono.<Permit>create(this::enqueue)
+                .timeout(maxWait, Mono.defer(() -> {
+                    shedTimedOut.increment();
+                    return Mono.error(new ConcurrencyLimitExceededException(name, "timed out waiting for a slot"));
+                }));
+        });
+    }
+
+    private synchronized Permit tryAcquire() {
+        return inFlight < (int) limit && waiters.isEmpty() ? grant() : null;
+    }
+
+    private void enqueue(MonoSink<Permit> sink) {
+        Waiter waiter = new Waiter(sink);
+        sink.onCancel(() -> abandon(waiter));
+
+        boolean full = false;
+        synchronized (this) {
+            if (waiter.abandoned) {
+                return;
+            }
+            if (inFlight < (int) limit && waiters.isEmpty()) {
+                waiter.permit = grant();
+            } else if (waiters.size() < maxQueueSize) {
+                waiters.addLast(waiter);
+            } else {
+                full = true;
+            }
+        }
+
+        if (waiter.permit != null) {
+            sink.success(waiter.permit);
+        } else if (full) {
+            shedQueueFull.increment();
+            sink.error(new ConcurrencyLimitExceededException(name, "wait queue is full"));
+        }
+    }
+
+    private void abandon(Waiter waiter) {
+        synchronized (this) {
+            waiter.abandoned = true;
+            if (waiters.remove(waiter) || waiter.permit == null || waiter.permit.settled) {
+                return;
+            }
+            waiter.permit.settled = true;
+            inFlight--;
+        }
+        admitWaiters();
+    }
+
+    private Mono<Void> release(Permit permit, Sample sample) {
+        return Mono.fromRunnable(() -> settle(permit, sample));
+    }
+
+    private void settle(Permit permit, Sample sample) {
+        synchronized (this) {
+            if (permit.settled) {
+                return;
+            }
+            permit.settled = true;
+            inFlight--;
+            if (sample != Sample.NONE) {
+                adjust(nanoClock.getAsLong() - permit.startNanos, permit.inFlightAtStart, sample == Sample.OVERLOAD);
+            }
+        }
+        admitWaiters();
+    }
+
+    private void admitWaiters() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                if (waiters.isEmpty() || inFlight >= (int) limit) {
+                    return;
+                }
+                next = waiters.pollFirst();
+                next.permit = grant();
+            }
+            next.sink.success(next.permit);
+        }
+    }
+
+    private Permit grant() {
+        inFlight++;
+        return new Permit(nanoClock.getAsLong(), inFlight);
+    }
+
+    private void adjust(long rttNanos, int inFlightAtStart, boolean overload) {
+        if (overload) {
+            limit = Math.max(minLimit, limit * OVERLOAD_BACKOFF);
+            return;
+        }
+
+        double rtt = Math.max(1, rttNanos);
+        samples++;
+        if (samples <= LONG_RTT_WARM_UP) {
+            longRttNanos += (rtt - longRttNanos) / samples;
+        } else {
+            longRttNanos += (rtt - longRttNanos) * 2.0 / (LONG_RTT_WINDOW + 1);
+        }
+        if (longRttNanos / rtt > BASELINE_DRIFT_RATIO) {
+            longRttNanos *= BASELINE_DECAY;
+        }
+
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    private enum Sample {
+        LATENCY,
+        OVERLOAD,
+        NONE
+    }
+
+    private static final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private volatile boolean settled;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+        private boolean abandoned;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
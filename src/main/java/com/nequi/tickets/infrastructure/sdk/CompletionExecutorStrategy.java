@@ -0,0 +1,6 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+public enum CompletionExecutorStrategy {
+    SDK_DEFAULT,
+    DIRECT
+}
@@ -0,0 +1,15 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String client;
+
+    public ConcurrencyLimitExceededException(String client, String reason) {
+        super(String.format("Too many concurrent %s calls, request shed: %s", client, reason), null, false, false);
+        this.client = client;
+    }
+
+    public String getClient() {
+        return client;
+    }
+}
@@ -0,0 +1,20 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SdkCallMeterBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("aws.sdk.calls", ThreadHops.class, unused -> ThreadHops.totalCalls())
+            .description("Completed AWS SDK calls observed by repository adapters")
+            .register(registry);
+        FunctionCounter.builder("aws.sdk.thread.hops", ThreadHops.class, unused -> ThreadHops.totalHops())
+            .description("AWS SDK calls whose continuation ran on a different thread than the caller")
+            .register(registry);
+    }
+}
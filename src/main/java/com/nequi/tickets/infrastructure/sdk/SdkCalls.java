@@ -0,0 +1,26 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+public final class SdkCalls {
+
+    private SdkCalls() {
+    }
+
+    public static <T> Mono<T> mono(Supplier<? extends CompletionStage<? extends T>> call) {
+        return Mono.deferContextual(context -> {
+            Thread caller = Thread.currentThread();
+            ThreadHops requestHops = context.getOrDefault(ThreadHops.CONTEXT_KEY, null);
+
+            return Mono.<T>fromCompletionStage(call)
+                .doOnEach(signal -> {
+                    if (signal.isOnComplete() || signal.isOnError()) {
+                        ThreadHops.record(requestHops, Thread.currentThread() != caller);
+                    }
+                });
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class SdkConcurrencyLimits implements MeterBinder {
+
+    static final String DYNAMODB = "dynamodb";
+    static final String SQS = "sqs";
+
+    private final AdaptiveConcurrencyLimiter dynamoDb;
+    private final AdaptiveConcurrencyLimiter sqs;
+
+    public SdkConcurrencyLimits(
+            @Value("${aws.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${aws.concurrency-limit.initial-limit:32}") int initialLimit,
+            @Value("${aws.concurrency-limit.min-limit:8}") int minLimit,
+            @Value("${aws.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${aws.concurrency-limit.max-queue-size:500}") int maxQueueSize,
+            @Value("${aws.concurrency-limit.max-wait-ms:100}") long maxWaitMs) {
+        Duration maxWait = Duration.ofMillis(maxWaitMs);
+        this.dynamoDb = new AdaptiveConcurrencyLimiter(DYNAMODB, enabled, initialLimit, minLimit, maxLimit, maxQueueSize, maxWait);
+        this.sqs = new AdaptiveConcurrencyLimiter(SQS, enabled, initialLimit, minLimit, maxLimit, maxQueueSize, maxWait);
+    }
+
+    public AdaptiveConcurrencyLimiter dynamoDb() {
+        return dynamoDb;
+    }
+
+    public AdaptiveConcurrencyLimiter sqs() {
+        return sqs;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimiter limiter : List.of(dynamoDb, sqs)) {
+            Gauge.builder("aws.sdk.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Adaptive limit on concurrent outbound calls")
+                .tag("client", limiter.name())
+                .register(registry);
+            Gauge.builder("aws.sdk.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Outbound calls currently holding a concurrency slot")
+                .tag("client", limiter.name())
+                .register(registry);
+            Gauge.builder("aws.sdk.concurrency.queue.depth", limiter, AdaptiveConcurrencyLimiter::queueDepth)
+                .description("Outbound calls waiting for a concurrency slot")
+                .tag("client", limiter.name())
+                .register(registry);
+            FunctionCounter.builder("aws.sdk.concurrency.shed", limiter, AdaptiveConcurrencyLimiter::shedQueueFull)
+                .description("Outbound calls shed by the concurrency limiter")
+                .tag("client", limiter.name())
+                .tag("reason", "queue_full")
+                .register(registry);
+            FunctionCounter.builder("aws.sdk.concurrency.shed", limiter, AdaptiveConcurrencyLimiter::shedTimedOut)
+                .description("Outbound calls shed by the concurrency limiter")
+                .tag("client", limiter.name())
+                .tag("reason", "timed_out")
+                .register(registry);
+        }
+    }
+}
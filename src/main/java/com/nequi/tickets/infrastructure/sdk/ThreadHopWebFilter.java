@@ -0,0 +1,33 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ThreadHopWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadHopWebFilter.class);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!logger.isDebugEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        ThreadHops hops = new ThreadHops();
+        return chain.filter(exchange)
+            .doFinally(signal -> {
+                if (hops.calls() > 0) {
+                    logger.debug("{} {} made {} SDK calls with {} thread hops",
+                        exchange.getRequest().getMethod(), exchange.getRequest().getPath(),
+                        hops.calls(), hops.hops());
+                }
+            })
+            .contextWrite(context -> context.put(ThreadHops.CONTEXT_KEY, hops));
+    }
+}
@@ -0,0 +1,44 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ThreadHops {
+
+    public static final String CONTEXT_KEY = ThreadHops.class.getName();
+
+    private static final LongAdder TOTAL_CALLS = new LongAdder();
+    private static final LongAdder TOTAL_HOPS = new LongAdder();
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger hops = new AtomicInteger();
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public int hops() {
+        return hops.get();
+    }
+
+    public static long totalCalls() {
+        return TOTAL_CALLS.sum();
+    }
+
+    public static long totalHops() {
+        return TOTAL_HOPS.sum();
+    }
+
+    static void record(ThreadHops requestHops, boolean hopped) {
+        TOTAL_CALLS.increment();
+        if (hopped) {
+            TOTAL_HOPS.increment();
+        }
+        if (requestHops != null) {
+            requestHops.calls.incrementAndGet();
+            if (hopped) {
+                requestHops.hops.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.nequi.tickets.infrastructure.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+public final class ReactorObservations {
+
+    private ReactorObservations() {
+    }
+
+    public static <T> Mono<T> mono(Supplier<Observation> observation, Mono<T> source) {
+        return Mono.deferContextual(context -> {
+            Observation started = start(observation, context);
+            return source
+                .doOnError(started::error)
+                .doFinally(signal -> started.stop())
+                .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, started));
+        });
+    }
+
+    public static <T> Flux<T> flux(Supplier<Observation> observation, Flux<T> source) {
+        return Flux.deferContextual(context -> {
+            Observation started = start(observation, context);
+            return source
+                .doOnError(started::error)
+                .doFinally(signal -> started.stop())
+                .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, started));
+        });
+    }
+
+    public static Observation current(ContextView context) {
+        return context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+    }
+
+    private static Observation start(Supplier<Observation> observation, ContextView context) {
+        Observation parent = current(context);
+        Observation created = observation.get();
+        if (parent != null && created.getContext().getParentObservation() == null) {
+            created.parentObservation(parent);
+        }
+        return created.start();
+    }
+}
@@ -0,0 +1,65 @@
+package com.nequi.tickets.infrastructure.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class UseCaseObservationPostProcessor implements BeanPostProcessor {
+
+    static final String OBSERVATION_NAME = "usecase.execution";
+    static final String USE_CASE_PACKAGE = "com.nequi.tickets.usecase";
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private volatile ObservationRegistry resolvedRegistry;
+
+    public UseCaseObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = bean.getClass();
+        if (!USE_CASE_PACKAGE.equals(type.getPackageName()) || !type.getSimpleName().endsWith("UseCase")) {
+            return bean;
+        }
+
+        String useCase = type.getSimpleName();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            String method = invocation.getMethod().getName();
+            if (result instanceof Mono<?> mono) {
+                return ReactorObservations.mono(() -> observation(useCase, method), mono);
+            }
+            if (result instanceof Flux<?> flux) {
+                return ReactorObservations.flux(() -> observation(useCase, method), flux);
+            }
+            return result;
+        });
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    private Observation observation(String useCase, String method) {
+        return Observation.createNotStarted(OBSERVATION_NAME, registry())
+            .contextualName(useCase + "." + method)
+            .lowCardinalityKeyValue("usecase", useCase)
+            .lowCardinalityKeyValue("method", method);
+    }
+
+    private ObservationRegistry registry() {
+        ObservationRegistry registry = resolvedRegistry;
+        if (registry == null) {
+            registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            resolvedRegistry = registry;
+        }
+        return registry;
+    }
+}
@@ -1,35 +1,46 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.EventNotActiveException;
 import com.nequi.tickets.domain.exception.EventNotFoundException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.model.Event;
 import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.IdGenerator;
 import com.nequi.tickets.usecase.port.AssignComplimentaryTicketPort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class AssignComplimentaryTicketUseCase implements AssignComplimentaryTicketPort {
     
+    private static final int MAX_VERSION_CONFLICT_RETRIES = 5;
+    private static final Duration VERSION_CONFLICT_BACKOFF = Duration.ofMillis(5);
+    
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
     private final OrderRepository orderRepository;
+    private final IdGenerator idGenerator;
     
     public AssignComplimentaryTicketUseCase(
             EventRepository eventRepository,
             TicketRepository ticketRepository,
-            OrderRepository orderRepository) {
+            OrderRepository orderRepository,
+            IdGenerator idGenerator) {
         this.eventRepository = eventRepository;
         this.ticketRepository = ticketRepository;
         this.orderRepository = orderRepository;
+        this.idGenerator = idGenerator;
     }
     
     @Override
@@ -44,41 +55,59 @@ public class AssignComplimentaryTicketUseCase implements AssignComplimentaryTick
             return Mono.error(new IllegalArgumentException("Reason is required"));
         }
         
-        return eventRepository.findById(eventId)
+        return assignOnEvent(eventId)
+            .then(Mono.defer(() -> claimTicket(eventId, customerId)))
+            .switchIfEmpty(Mono.defer(() -> revokeOnEvent(eventId)
+                .then(Mono.error(new InsufficientTicketsException(eventId, 1, 0)))))
+            .flatMap(ticket -> {
+                String orderId = idGenerator.nextId();
+                Order complimentaryOrder = Order.createComplimentary(
+                    orderId,
+                    eventId,
+                    customerId,
+                    List.of(ticket.ticketId())
+                );
+                
+                return orderRepository.save(complimentaryOrder).thenReturn(ticket);
+            });
+    }
+    
+    private Mono<Event> assignOnEvent(String eventId) {
+        return Mono.defer(() -> eventRepository.findById(eventId, ReadConsistency.STRONG))
             .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + eventId)))
             .flatMap(event -> {
+                if (!event.isActive()) {
+                    return Mono.error(new EventNotActiveException(eventId));
+                }
+                
                 if (!event.hasAvailableTickets()) {
                     return Mono.error(new InsufficientTicketsException(
                         eventId, 1, 0
                     ));
                 }
                 
-                return ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE)
-                    .next()
-                    .switchIfEmpty(Mono.error(new InsufficientTicketsException(
-                        eventId, 1, 0
-                    )))
-                    .flatMap(ticket -> {
-                        Ticket complimentaryTicket = ticket.assignAsComplimentary(customerId);
-                        
-                        Event updatedEvent = event.assignComplimentaryTicket(1);
-                        
-                        String orderId = UUID.randomUUID().toString();
-                        Order complimentaryOrder = Order.createComplimentary(
-                            orderId,
-                            eventId,
-                            customerId,
-                            List.of(ticket.ticketId())
-                        );
-                        
-                        return ticketRepository.save(complimentaryTicket)
-                            .flatMap(savedTicket -> 
-                                eventRepository.save(updatedEvent)
-                                .then(orderRepository.save(complimentaryOrder))
-                                .thenReturn(savedTicket)
-                            );
-                    });
+                return eventRepository.saveIfVersion(event.assignComplimentaryTicket(1), event.version());
             })
-            .retry(3);
+            .retryWhen(versionConflictRetry());
+    }
+    
+    private Mono<Ticket> claimTicket(String eventId, String customerId) {
+        return ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE)
+            .concatMap(ticket -> ticketRepository.saveIfVersion(ticket.assignAsComplimentary(customerId), ticket.version())
+                .onErrorResume(ConcurrentModificationException.class, conflict -> Mono.empty()))
+            .next();
+    }
+    
+    private Mono<Void> revokeOnEvent(String eventId) {
+        return Mono.defer(() -> eventRepository.findById(eventId, ReadConsistency.STRONG))
+            .flatMap(event -> eventRepository.saveIfVersion(event.revokeComplimentaryTicket(1), event.version()))
+            .retryWhen(versionConflictRetry())
+            .then();
+    }
+    
+    private static Retry versionConflictRetry() {
+        return Retry.backoff(MAX_VERSION_CONFLICT_RETRIES, VERSION_CONFLICT_BACKOFF)
+            .filter(throwable -> throwable instanceof ConcurrentModificationException)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 }
@@ -1,35 +1,46 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.exception.InvalidStateTransitionException;
 import com.nequi.tickets.domain.exception.OrderNotFoundException;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
 import com.nequi.tickets.usecase.port.ConfirmOrderPort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class ConfirmOrderUseCase implements ConfirmOrderPort {
     
+    private static final int MAX_VERSION_CONFLICT_RETRIES = 5;
+    private static final Duration VERSION_CONFLICT_BACKOFF = Duration.ofMillis(5);
+    
     private final OrderRepository orderRepository;
     private final TicketRepository ticketRepository;
     private final EventRepository eventRepository;
+    private final OrderMetrics orderMetrics;
     
     public ConfirmOrderUseCase(
             OrderRepository orderRepository,
             TicketRepository ticketRepository,
-            EventRepository eventRepository) {
+            EventRepository eventRepository,
+            OrderMetrics orderMetrics) {
         this.orderRepository = orderRepository;
         this.ticketRepository = ticketRepository;
         this.eventRepository = eventRepository;
+        this.orderMetrics = orderMetrics;
     }
     
     public Mono<Order> execute(String orderId) {
@@ -37,7 +48,7 @@ public class ConfirmOrderUseCase implements ConfirmOrderPort {
             return Mono.error(new IllegalArgumentException("Order ID is required"));
         }
         
-        return orderRepository.findById(orderId)
+        return orderRepository.findById(orderId, ReadConsistency.STRONG)
             .switchIfEmpty(Mono.error(new OrderNotFoundException("Order not found with ID: " + orderId)))
             .flatMap(order -> {
                 if (order.status() == OrderStatus.CONFIRMED) {
@@ -104,15 +115,26 @@ public class ConfirmOrderUseCase implements ConfirmOrderPort {
     }
     
     private Mono<Order> updateEventInventory(Order order) {
-        return eventRepository.findById(order.eventId())
+        return eventRepository.findById(order.eventId(), ReadConsistency.STRONG)
             .flatMap(event -> {
-                return eventRepository.save(event.confirmSale(order.totalTickets()));
+                return eventRepository.saveIfVersion(event.confirmSale(order.totalTickets()), event.version());
             })
             .thenReturn(order)
-            .retry(3);
+            .retryWhen(versionConflictRetry());
     }
     
     private Mono<Order> confirmOrder(Order order) {
-        return orderRepository.save(order.confirm());
+        return orderRepository.saveIfVersion(order.confirm(), order.version())
+            .doOnNext(orderMetrics::recordCompleted)
+            .onErrorResume(ConcurrentModificationException.class, conflict ->
+                orderRepository.findById(order.orderId(), ReadConsistency.STRONG)
+                    .filter(current -> current.status() == OrderStatus.CONFIRMED)
+                    .switchIfEmpty(Mono.error(conflict)));
+    }
+    
+    private static Retry versionConflictRetry() {
+        return Retry.backoff(MAX_VERSION_CONFLICT_RETRIES, VERSION_CONFLICT_BACKOFF)
+            .filter(throwable -> throwable instanceof ConcurrentModificationException)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 }
@@ -1,54 +1,91 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.config.BusinessProperties;
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
 import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.IdGenerator;
 import com.nequi.tickets.usecase.port.CreateEventPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
-import java.util.stream.IntStream;
 
 @Service
 public class CreateEventUseCase implements CreateEventPort {
     
+    private static final Logger logger = LoggerFactory.getLogger(CreateEventUseCase.class);
+    
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
+    private final EventProvisioningRepository provisioningRepository;
+    private final ProvisionEventTicketsUseCase provisionEventTicketsUseCase;
+    private final BusinessProperties businessProperties;
+    private final IdGenerator idGenerator;
     
     public CreateEventUseCase(
             EventRepository eventRepository,
-            TicketRepository ticketRepository) {
+            TicketRepository ticketRepository,
+            EventProvisioningRepository provisioningRepository,
+            ProvisionEventTicketsUseCase provisionEventTicketsUseCase,
+            BusinessProperties businessProperties,
+            IdGenerator idGenerator) {
         this.eventRepository = eventRepository;
         this.ticketRepository = ticketRepository;
+        this.provisioningRepository = provisioningRepository;
+        this.provisionEventTicketsUseCase = provisionEventTicketsUseCase;
+        this.businessProperties = businessProperties;
+        this.idGenerator = idGenerator;
     }
     
     @Override
     public Mono<Event> execute(String name, LocalDateTime date, String location, Integer totalCapacity) {
         return Mono.defer(() -> {
             validateInput(name, date, location, totalCapacity);
-            String eventId = UUID.randomUUID().toString();
+            String eventId = idGenerator.nextId();
+            
+            if (totalCapacity >= businessProperties.getEvent().getAsyncProvisioningThreshold()) {
+                return createProvisioning(eventId, name, date, location, totalCapacity);
+            }
+            
             Event event = Event.create(eventId, name, date, location, totalCapacity);
             
             return eventRepository.save(event)
                     .flatMap(savedEvent -> {
-                        List<Ticket> tickets = IntStream.range(0, totalCapacity)
-                                .mapToObj(i -> Ticket.createAvailableTicket(
-                                        UUID.randomUUID().toString(),
-                                        eventId
-                                ))
-                                .toList();
+                        LocalDateTime createdAt = LocalDateTime.now();
+                        Flux<Ticket> tickets = Flux.range(0, totalCapacity)
+                                .map(i -> Ticket.createAvailableTicket(
+                                        idGenerator.nextId(),
+                                        eventId,
+                                        createdAt
+                                ));
                         
-                        return ticketRepository.saveAll(tickets)
-                                .collectList()
+                        return ticketRepository.saveStream(tickets)
                                 .thenReturn(savedEvent);
                     });
         });
     }
     
+    private Mono<Event> createProvisioning(
+            String eventId, String name, LocalDateTime date, String location, Integer totalCapacity) {
+        Event event = Event.createProvisioning(eventId, name, date, location, totalCapacity);
+        
+        return provisioningRepository.save(EventProvisioning.start(eventId, totalCapacity))
+                .then(eventRepository.save(event))
+                .doOnNext(savedEvent -> provisionEventTicketsUseCase.execute(eventId)
+                        .subscribe(
+                                provisioning -> logger.info("Provisioning job finished for event {} with status {}",
+                                        eventId, provisioning.status()),
+                                error -> logger.error("Provisioning job failed for event {}", eventId, error)
+                        ));
+    }
+    
     private void validateInput(String name, LocalDateTime date, String location, Integer totalCapacity) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Event name is required");
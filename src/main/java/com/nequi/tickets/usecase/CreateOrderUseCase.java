@@ -6,14 +6,14 @@ import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
-import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.domain.service.IdGenerator;
+import com.nequi.tickets.domain.service.OrderDispatcher;
 import com.nequi.tickets.usecase.port.CreateOrderPort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class CreateOrderUseCase implements CreateOrderPort {
@@ -22,19 +22,22 @@ public class CreateOrderUseCase implements CreateOrderPort {
     private final OrderRepository orderRepository;
     private final TicketRepository ticketRepository;
     private final ReserveTicketsUseCase reserveTicketsUseCase;
-    private final MessageQueueService messageQueueService;
+    private final OrderDispatcher orderDispatcher;
+    private final IdGenerator idGenerator;
 
     public CreateOrderUseCase(
             EventRepository eventRepository,
             OrderRepository orderRepository,
             TicketRepository ticketRepository,
             ReserveTicketsUseCase reserveTicketsUseCase,
-            MessageQueueService messageQueueService) {
+            OrderDispatcher orderDispatcher,
+            IdGenerator idGenerator) {
         this.eventRepository = eventRepository;
         this.orderRepository = orderRepository;
         this.ticketRepository = ticketRepository;
         this.reserveTicketsUseCase = reserveTicketsUseCase;
-        this.messageQueueService = messageQueueService;
+        this.orderDispatcher = orderDispatcher;
+        this.idGenerator = idGenerator;
     }
 
     public Mono<Order> execute(String eventId, String customerId, Integer quantity) {
@@ -52,7 +55,7 @@ public class CreateOrderUseCase implements CreateOrderPort {
                 .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + eventId)))
 
                 .flatMap(event -> {
-                    String orderId = UUID.randomUUID().toString();
+                    String orderId = idGenerator.nextId();
                     
                     return reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId)
 
@@ -91,7 +94,7 @@ public class CreateOrderUseCase implements CreateOrderPort {
                                             return ticketRepository.saveAll(updatedTickets)
                                                     .collectList()
                                                     .flatMap(updated -> {
-                                                        return messageQueueService.sendOrderForProcessing(orderId)
+                                                        return orderDispatcher.dispatch(savedOrder)
                                                                 .thenReturn(savedOrder);
                                                     });
                                         });
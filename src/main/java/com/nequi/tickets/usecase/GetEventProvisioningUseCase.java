@@ -0,0 +1,35 @@
+package com.nequi.tickets.usecase;
+
+import com.nequi.tickets.domain.exception.EventNotFoundException;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.domain.repository.EventRepository;
+import com.nequi.tickets.usecase.port.GetEventProvisioningPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class GetEventProvisioningUseCase implements GetEventProvisioningPort {
+    
+    private final EventProvisioningRepository provisioningRepository;
+    private final EventRepository eventRepository;
+    
+    public GetEventProvisioningUseCase(
+            EventProvisioningRepository provisioningRepository,
+            EventRepository eventRepository) {
+        this.provisioningRepository = provisioningRepository;
+        this.eventRepository = eventRepository;
+    }
+    
+    @Override
+    public Mono<EventProvisioning> execute(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Event ID is required"));
+        }
+        
+        return provisioningRepository.findById(eventId)
+            .switchIfEmpty(Mono.defer(() -> eventRepository.findById(eventId)
+                .map(EventProvisioning::completed)))
+            .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + eventId)));
+    }
+}
@@ -1,34 +1,48 @@
 package com.nequi.tickets.usecase;
 
 import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.exception.OrderNotFoundException;
 import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
 public class ProcessOrderUseCase {
     
+    private static final Logger logger = LoggerFactory.getLogger(ProcessOrderUseCase.class);
+    
+    private static final int MAX_VERSION_CONFLICT_RETRIES = 5;
+    private static final Duration VERSION_CONFLICT_BACKOFF = Duration.ofMillis(5);
+    
     private final OrderRepository orderRepository;
     private final TicketRepository ticketRepository;
     private final EventRepository eventRepository;
     private final BusinessProperties businessProperties;
+    private final OrderMetrics orderMetrics;
     
     public ProcessOrderUseCase(
             OrderRepository orderRepository,
             TicketRepository ticketRepository,
             EventRepository eventRepository,
-            BusinessProperties businessProperties) {
+            BusinessProperties businessProperties,
+            OrderMetrics orderMetrics) {
         this.orderRepository = orderRepository;
         this.ticketRepository = ticketRepository;
         this.eventRepository = eventRepository;
         this.businessProperties = businessProperties;
+        this.orderMetrics = orderMetrics;
     }
     
     public Mono<Order> execute(String orderId) {
@@ -47,19 +61,39 @@ public class ProcessOrderUseCase {
                     return Mono.just(order);
                 }
                 
-                int maxRetries = businessProperties.getOrder().getMaxRetries();
-                if (order.retryCount() >= maxRetries) {
-                    return failOrder(order, "Maximum retry attempts exceeded");
+                if (order.status() == OrderStatus.PROCESSING) {
+                    return ticketRepository.findByOrderId(order.orderId())
+                        .collectList()
+                        .flatMap(tickets -> isProcessed(order, tickets) ? Mono.just(order) : claimAndProcess(order));
                 }
                 
-                Order processingOrder = order.startProcessing();
-                
-                return orderRepository.save(processingOrder)
-                    .flatMap(this::processTickets)
-                    .onErrorResume(error -> handleProcessingError(processingOrder, error));
+                return claimAndProcess(order);
             });
     }
     
+    private Mono<Order> claimAndProcess(Order order) {
+        int maxRetries = businessProperties.getOrder().getMaxRetries();
+        if (order.retryCount() >= maxRetries) {
+            return releaseTicketsOnFailure(order)
+                .then(failOrder(order, "Maximum retry attempts exceeded"));
+        }
+        
+        Order claimed = order.status() == OrderStatus.PROCESSING
+            ? order.incrementRetry(maxRetries)
+            : order.startProcessing();
+        
+        return orderRepository.saveIfVersion(claimed, order.version())
+            .flatMap(processingOrder -> processTickets(processingOrder)
+                .onErrorResume(error -> handleProcessingError(processingOrder, error)));
+    }
+    
+    private static boolean isProcessed(Order order, List<Ticket> tickets) {
+        return !tickets.isEmpty()
+            && tickets.size() == order.totalTickets()
+            && tickets.stream().allMatch(t -> t.status() == TicketStatus.PENDING_CONFIRMATION ||
+                                              t.status() == TicketStatus.SOLD);
+    }
+    
     private Mono<Order> processTickets(Order order) {
         return ticketRepository.findByOrderId(order.orderId())
             .collectList()
@@ -120,22 +154,29 @@ public class ProcessOrderUseCase {
                 
                 return ticketRepository.saveAll(releasedTickets)
                     .collectList()
-                    .flatMap(saved -> eventRepository.findById(order.eventId())
+                    .flatMap(saved -> eventRepository.findById(order.eventId(), ReadConsistency.STRONG)
                         .flatMap(event -> {
                             Event releasedEvent = event.releaseReservedTickets(order.totalTickets());
-                            return eventRepository.save(releasedEvent);
+                            return eventRepository.saveIfVersion(releasedEvent, event.version());
                         })
-                        .retry(3)
+                        .retryWhen(versionConflictRetry())
                     )
                     .then();
             })
             .onErrorResume(error -> {
-                System.err.println("Failed to release tickets for order " + order.orderId() + ": " + error.getMessage());
+                logger.warn("Failed to release tickets for order {}", order.orderId(), error);
                 return Mono.<Void>empty();
             });
     }
     
     private Mono<Order> failOrder(Order order, String reason) {
-        return orderRepository.save(order.fail(reason));
+        return orderRepository.saveIfVersion(order.fail(reason), order.version())
+            .doOnNext(orderMetrics::recordCompleted);
+    }
+    
+    private static Retry versionConflictRetry() {
+        return Retry.backoff(MAX_VERSION_CONFLICT_RETRIES, VERSION_CONFLICT_BACKOFF)
+            .filter(throwable -> throwable instanceof ConcurrentModificationException)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 }
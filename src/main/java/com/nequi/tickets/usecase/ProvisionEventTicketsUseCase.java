@@ -0,0 +1,156 @@
+package com.nequi.tickets.usecase;
+
+import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.EventNotFoundException;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.domain.repository.EventRepository;
+import com.nequi.tickets.domain.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ProvisionEventTicketsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProvisionEventTicketsUseCase.class);
+    
+    private static final int MAX_VERSION_CONFLICT_RETRIES = 5;
+    private static final Duration VERSION_CONFLICT_BACKOFF = Duration.ofMillis(5);
+    
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final EventProvisioningRepository provisioningRepository;
+    private final BusinessProperties businessProperties;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    
+    public ProvisionEventTicketsUseCase(
+            EventRepository eventRepository,
+            TicketRepository ticketRepository,
+            EventProvisioningRepository provisioningRepository,
+            BusinessProperties businessProperties) {
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.provisioningRepository = provisioningRepository;
+        this.businessProperties = businessProperties;
+    }
+    
+    public static String ticketId(String eventId, int index) {
+        return eventId + "-" + index;
+    }
+    
+    public boolean isRunning(String eventId) {
+        return runningJobs.contains(eventId);
+    }
+    
+    public Mono<EventProvisioning> execute(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Event ID is required"));
+        }
+        
+        return run(eventId, provisioningRepository.findById(eventId)
+            .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + eventId))));
+    }
+    
+    public Mono<EventProvisioning> resumeStale(EventProvisioning provisioning) {
+        int maxAttempts = businessProperties.getEvent().getProvisioningMaxAttempts();
+        if (provisioning.attempts() >= maxAttempts) {
+            return provisioningRepository.saveIfVersion(provisioning.abandon(), provisioning.version())
+                .doOnNext(abandoned -> logger.error("Provisioning abandoned for event {} after {} attempts at {}/{} tickets",
+                    abandoned.eventId(), abandoned.attempts(), abandoned.generatedTickets(), abandoned.totalTickets()))
+                .onErrorResume(ConcurrentModificationException.class, error -> Mono.empty());
+        }
+        
+        return run(provisioning.eventId(), provisioningRepository.saveIfVersion(provisioning.claim(), provisioning.version())
+            .onErrorResume(ConcurrentModificationException.class, error -> {
+                logger.debug("Provisioning for event {} was claimed by another instance", provisioning.eventId());
+                return Mono.empty();
+            }));
+    }
+    
+    private Mono<EventProvisioning> run(String eventId, Mono<EventProvisioning> source) {
+        return Mono.defer(() -> {
+            if (!runningJobs.add(eventId)) {
+                logger.debug("Provisioning already running for event {}", eventId);
+                return provisioningRepository.findById(eventId);
+            }
+            
+            return source
+                .flatMap(this::provision)
+                .onErrorResume(ConcurrentModificationException.class, error -> {
+                    logger.warn("Provisioning for event {} was taken over by another instance, stopping", eventId);
+                    return provisioningRepository.findById(eventId);
+                })
+                .onErrorResume(error -> !(error instanceof EventNotFoundException), error ->
+                    provisioningRepository.findById(eventId)
+                        .flatMap(provisioning -> {
+                            logger.error("Provisioning failed for event {} at {}/{} tickets",
+                                eventId, provisioning.generatedTickets(), provisioning.totalTickets(), error);
+                            return provisioningRepository.saveIfVersion(provisioning.fail(error.getMessage()), provisioning.version());
+                        })
+                        .onErrorResume(ConcurrentModificationException.class, conflict -> provisioningRepository.findById(eventId)))
+                .doFinally(signal -> runningJobs.remove(eventId));
+        });
+    }
+    
+    private Mono<EventProvisioning> provision(EventProvisioning provisioning) {
+        if (provisioning.status() == ProvisioningStatus.COMPLETED || provisioning.status() == ProvisioningStatus.ABANDONED) {
+            return Mono.just(provisioning);
+        }
+        
+        logger.info("Provisioning tickets for event {} from checkpoint {}/{}",
+            provisioning.eventId(), provisioning.generatedTickets(), provisioning.totalTickets());
+        
+        LocalDateTime createdAt = LocalDateTime.now();
+        int checkpointSize = Math.max(1, businessProperties.getEvent().getProvisioningCheckpointSize());
+        
+        return Mono.just(provisioning)
+            .expand(current -> current.remainingTickets() > 0
+                ? writeChunk(current, checkpointSize, createdAt)
+                : Mono.empty())
+            .last()
+            .flatMap(this::complete);
+    }
+    
+    private Mono<EventProvisioning> writeChunk(EventProvisioning provisioning, int checkpointSize, LocalDateTime createdAt) {
+        int from = provisioning.generatedTickets();
+        int count = Math.min(checkpointSize, provisioning.remainingTickets());
+        String eventId = provisioning.eventId();
+        
+        Flux<Ticket> tickets = Flux.range(from, count)
+            .map(index -> Ticket.createAvailableTicket(ticketId(eventId, index), eventId, createdAt));
+        
+        return ticketRepository.saveStream(tickets)
+            .then(provisioningRepository.saveIfVersion(provisioning.advanceTo(from + count), provisioning.version()))
+            .doOnNext(saved -> logger.debug("Provisioning checkpoint for event {}: {}/{}",
+                eventId, saved.generatedTickets(), saved.totalTickets()));
+    }
+    
+    private Mono<EventProvisioning> complete(EventProvisioning provisioning) {
+        return Mono.defer(() -> eventRepository.findById(provisioning.eventId(), ReadConsistency.STRONG))
+            .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + provisioning.eventId())))
+            .flatMap(event -> event.isActive() ? Mono.just(event) : eventRepository.saveIfVersion(event.activate(), event.version()))
+            .retryWhen(versionConflictRetry())
+            .then(provisioningRepository.saveIfVersion(provisioning.complete(), provisioning.version()))
+            .doOnNext(completed -> logger.info("Provisioning completed for event {}. {} tickets generated",
+                completed.eventId(), completed.totalTickets()));
+    }
+    
+    private static Retry versionConflictRetry() {
+        return Retry.backoff(MAX_VERSION_CONFLICT_RETRIES, VERSION_CONFLICT_BACKOFF)
+            .filter(throwable -> throwable instanceof ConcurrentModificationException)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+}
@@ -1,11 +1,15 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -24,14 +28,17 @@ public class ReleaseExpiredReservationsUseCase {
     private final TicketRepository ticketRepository;
     private final EventRepository eventRepository;
     private final OrderRepository orderRepository;
+    private final OrderMetrics orderMetrics;
 
     public ReleaseExpiredReservationsUseCase(
             TicketRepository ticketRepository,
             EventRepository eventRepository,
-            OrderRepository orderRepository) {
+            OrderRepository orderRepository,
+            OrderMetrics orderMetrics) {
         this.ticketRepository = ticketRepository;
         this.eventRepository = eventRepository;
         this.orderRepository = orderRepository;
+        this.orderMetrics = orderMetrics;
     }
 
     public Mono<Integer> execute() {
@@ -144,16 +151,25 @@ public class ReleaseExpiredReservationsUseCase {
 
         return orderRepository.findByIds(orderIds)
 
-            .filter(order -> 
-                order.status() == OrderStatus.PENDING || 
-                order.status() == OrderStatus.PROCESSING
-            )
+            .filter(ReleaseExpiredReservationsUseCase::isCancellable)
 
-            .flatMap(order -> {
-
-                return orderRepository.save(order.cancel("Reservation expired"));
-            })
+            .flatMap(order -> cancelOrder(order)
+                .onErrorResume(ConcurrentModificationException.class, conflict ->
+                    orderRepository.findById(order.orderId(), ReadConsistency.STRONG)
+                        .filter(ReleaseExpiredReservationsUseCase::isCancellable)
+                        .flatMap(this::cancelOrder)))
 
             .then();
     }
+
+    private Mono<Order> cancelOrder(Order order) {
+
+        return orderRepository.saveIfVersion(order.cancel("Reservation expired"), order.version())
+            .doOnNext(orderMetrics::recordCompleted);
+    }
+
+    private static boolean isCancellable(Order order) {
+
+        return order.status() == OrderStatus.PENDING || order.status() == OrderStatus.PROCESSING;
+    }
 }
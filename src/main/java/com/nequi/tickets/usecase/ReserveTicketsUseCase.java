@@ -1,23 +1,34 @@
 package com.nequi.tickets.usecase;
 
 import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.EventNotActiveException;
 import com.nequi.tickets.domain.exception.EventNotFoundException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.exception.MaxTicketsExceededException;
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class ReserveTicketsUseCase {
 
+    private static final int MAX_VERSION_CONFLICT_RETRIES = 5;
+    private static final Duration VERSION_CONFLICT_BACKOFF = Duration.ofMillis(5);
+    private static final int CLAIM_CANDIDATE_WINDOW = 64;
+
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
     private final BusinessProperties businessProperties;
@@ -52,20 +63,39 @@ public class ReserveTicketsUseCase {
             return Mono.error(new IllegalArgumentException("Order ID is required"));
         }
 
-        return reserveTicketsWithCreation(eventId, customerId, quantity, orderId, 3);
+        return reserveInventory(eventId, quantity)
+                .flatMap(reservedEvent -> claimTickets(eventId, customerId, quantity, orderId)
+
+                        .onErrorResume(error -> releaseInventory(eventId, quantity)
+                                .then(Mono.error(new RuntimeException(
+                                        "Failed to reserve tickets, inventory rolled back", error
+                                ))))
+
+                        .flatMap(claimedTickets -> {
+
+                            if (claimedTickets.size() < quantity) {
+
+                                return releaseClaims(claimedTickets)
+                                        .then(releaseInventory(eventId, quantity))
+                                        .then(Mono.error(new InsufficientTicketsException(
+                                                eventId, quantity, claimedTickets.size()
+                                        )));
+                            }
+
+                            return Mono.just(claimedTickets);
+                        }));
     }
 
-    private Mono<List<Ticket>> reserveTicketsWithCreation(
-            String eventId, 
-            String customerId, 
-            Integer quantity, 
-            String orderId,
-            int maxRetries) {
+    private Mono<Event> reserveInventory(String eventId, Integer quantity) {
 
-        return eventRepository.findById(eventId)
+        return eventRepository.findById(eventId, ReadConsistency.STRONG)
                 .switchIfEmpty(Mono.error(new EventNotFoundException("Event not found with ID: " + eventId)))
 
                 .flatMap(event -> {
+                    if (!event.isActive()) {
+                        return Mono.error(new EventNotActiveException(eventId));
+                    }
+
                     if (event.availableTickets() < quantity) {
                         return Mono.error(new InsufficientTicketsException(
                                 eventId, quantity, event.availableTickets()));
@@ -73,44 +103,67 @@ public class ReserveTicketsUseCase {
 
                     Event updatedEvent = event.reserveTickets(quantity);
 
-                    return eventRepository.save(updatedEvent)
+                    return eventRepository.decrementAvailableTickets(
+                            eventId,
+                            event.version(),
+                            quantity,
+                            updatedEvent.availableTickets(),
+                            updatedEvent.reservedTickets()
+                    );
+                })
 
-                            .flatMap(savedEvent -> {
+                .retryWhen(versionConflictRetry());
+    }
 
-                                return ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE)
-                                        .take(quantity)
-                                        .collectList()
-                                        .flatMap(availableTickets -> {
+    private Mono<List<Ticket>> claimTickets(String eventId, String customerId, Integer quantity, String orderId) {
 
-                                            if (availableTickets.size() < quantity) {
+        int reservationTimeoutMinutes = businessProperties.getReservation().getTimeoutMinutes();
 
-                                                Event rollbackEvent = savedEvent.releaseReservedTickets(quantity);
-                                                return eventRepository.save(rollbackEvent)
-                                                        .then(Mono.error(new InsufficientTicketsException(
-                                                                eventId, quantity, availableTickets.size()
-                                                        )));
-                                            }
+        return ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE)
+                .buffer(CLAIM_CANDIDATE_WINDOW)
+                .concatMapIterable(ReserveTicketsUseCase::shuffled)
+                .concatMap(ticket -> ticketRepository.saveIfVersion(ticket.reserveTicket(customerId, orderId, reservationTimeoutMinutes), ticket.version())
+                        .onErrorResume(ConcurrentModificationException.class, conflict -> Mono.empty()))
+                .take(quantity)
+                .collectList();
+    }
 
-                                            List<Ticket> reservedTickets = availableTickets.stream()
-                                                    .map(ticket -> ticket.reserveTicket(customerId, orderId))
-                                                    .toList();
+    private Mono<Void> releaseClaims(List<Ticket> claimedTickets) {
 
-                                            return ticketRepository.saveAll(reservedTickets)
-                                                    .collectList()
-                                                    .onErrorResume(error -> {
+        return Flux.fromIterable(claimedTickets)
+                .concatMap(ticket -> ticketRepository.saveIfVersion(ticket.releaseTicketBack(), ticket.version()))
+                .then();
+    }
+
+    private Mono<Void> releaseInventory(String eventId, Integer quantity) {
 
-                                                        Event rollbackEvent = savedEvent.releaseReservedTickets(quantity);
+        return eventRepository.findById(eventId, ReadConsistency.STRONG)
+                .flatMap(event -> {
 
-                                                        return eventRepository.save(rollbackEvent)
-                                                                .then(Mono.error(new RuntimeException(
-                                                                        "Failed to reserve tickets, inventory rolled back", error
-                                                                )));
-                                                    });
-                                        });
-                            });
+                    Event releasedEvent = event.releaseReservedTickets(quantity);
+
+                    return eventRepository.updateInventory(
+                            eventId,
+                            event.version(),
+                            releasedEvent.availableTickets(),
+                            releasedEvent.reservedTickets()
+                    );
                 })
 
-                .retryWhen(Retry.max(maxRetries)
-                        .filter(throwable -> throwable instanceof com.nequi.tickets.domain.exception.ConcurrentModificationException));
+                .retryWhen(versionConflictRetry())
+                .then();
+    }
+
+    private static List<Ticket> shuffled(List<Ticket> candidates) {
+
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        return candidates;
+    }
+
+    private static Retry versionConflictRetry() {
+
+        return Retry.backoff(MAX_VERSION_CONFLICT_RETRIES, VERSION_CONFLICT_BACKOFF)
+                .filter(throwable -> throwable instanceof ConcurrentModificationException)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 }
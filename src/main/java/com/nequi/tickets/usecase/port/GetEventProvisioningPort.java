@@ -0,0 +1,8 @@
+package com.nequi.tickets.usecase.port;
+
+import com.nequi.tickets.domain.model.EventProvisioning;
+import reactor.core.publisher.Mono;
+
+public interface GetEventProvisioningPort {
+    Mono<EventProvisioning> execute(String eventId);
+}
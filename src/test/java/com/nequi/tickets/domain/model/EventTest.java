@@ -411,4 +411,35 @@ class EventTest {
         assertThrows(IllegalArgumentException.class, () -> event.confirmSale(0));
         assertThrows(IllegalArgumentException.class, () -> event.confirmSale(-1));
     }
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should create event in provisioning state and activate it once")
+    void shouldCreateProvisioningEventAndActivate() {
+        Event event = Event.createProvisioning("event-123", "Stadium Tour", LocalDateTime.now().plusDays(60), "Wembley", 50000);
+        assertEquals(EventStatus.PROVISIONING, event.status());
+        assertFalse(event.isActive());
+        assertEquals(50000, event.availableTickets());
+        Event activated = event.activate();
+        assertEquals(EventStatus.ACTIVE, activated.status());
+        assertTrue(activated.isActive());
+        assertEquals(event.version() + 1, activated.version());
+        assertSame(activated, activated.activate());
+    }
+    @Test
+    @DisplayName("Should default to active status when status is not provided")
+    void shouldDefaultToActiveStatus() {
+        Event event = Event.create("event-123", "Rock Concert", LocalDateTime.now().plusDays(30), "Arena", 1000);
+        assertEquals(EventStatus.ACTIVE, event.status());
+        assertEquals(EventStatus.ACTIVE, event.reserveTickets(2).status());
+    }
+    @Test
+    @DisplayName("Should revoke a complimentary ticket back to available inventory")
+    void shouldRevokeComplimentaryTicket() {
+        Event event = Event.create("event-123", "Concert", LocalDateTime.now().plusDays(30), "NYC", 1000)
+            .assignComplimentaryTicket(1);
+        Event revoked = event.revokeComplimentaryTicket(1);
+        assertEquals(1000, revoked.availableTickets());
+        assertEquals(0, revoked.complimentaryTickets());
+        assertEquals(event.version() + 1, revoked.version());
+        assertThrows(IllegalArgumentException.class, () -> revoked.revokeComplimentaryTicket(1));
+    }
+}
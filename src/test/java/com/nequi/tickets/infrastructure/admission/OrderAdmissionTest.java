@@ -0,0 +1,128 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderAdmission Tests")
+class OrderAdmissionTest {
+    private static final String EVENT_ID = "hot-event";
+    private static final String SIGNING_KEY = "shared-waiting-room-key";
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderAdmission admission;
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        admission = new OrderAdmission(meterRegistry, true, 2, 2, 3, 600, SIGNING_KEY, 60000, 100, clock::get);
+    }
+    @Test
+    @DisplayName("Should admit the burst and queue the excess in arrival order")
+    void shouldQueueExcessInArrivalOrder() {
+        admit(null);
+        admit(null);
+        AdmissionRejectedException first = queued(null);
+        AdmissionRejectedException second = queued(null);
+        assertEquals(1, first.getPosition());
+        assertEquals(2, second.getPosition());
+        assertEquals(2, second.getWaitingAhead());
+        assertEquals(Duration.ofSeconds(1), second.getRetryAfter());
+        assertEquals(2.0, meterRegistry.get("orders.admission").tag("outcome", "admitted").counter().count());
+        assertEquals(2.0, meterRegistry.get("orders.admission").tag("outcome", "queued").counter().count());
+    }
+    @Test
+    @DisplayName("Should admit queued positions at the refill rate ahead of new arrivals")
+    void shouldAdmitQueuedPositionsBeforeNewArrivals() {
+        admit(null);
+        admit(null);
+        AdmissionRejectedException first = queued(null);
+        AdmissionRejectedException second = queued(null);
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        AdmissionRejectedException newcomer = queued(null);
+        assertEquals(3, newcomer.getPosition());
+        admit(first.getWaitingRoomToken());
+        AdmissionRejectedException stillWaiting = queued(second.getWaitingRoomToken());
+        assertEquals(2, stillWaiting.getPosition());
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        admit(second.getWaitingRoomToken());
+    }
+    @Test
+    @DisplayName("Should not let a waiting room token be used twice or tampered with")
+    void shouldRejectReusedOrForeignTokens() {
+        admit(null);
+        admit(null);
+        AdmissionRejectedException first = queued(null);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        admit(first.getWaitingRoomToken());
+        admit(null);
+        AdmissionRejectedException reused = queued(first.getWaitingRoomToken());
+        assertNotEquals(first.getPosition(), reused.getPosition());
+        AdmissionRejectedException forged = queued("forged." + first.getWaitingRoomToken());
+        assertEquals(reused.getPosition() + 1, forged.getPosition());
+    }
+    @Test
+    @DisplayName("Should turn requests away cheaply once the waiting room is full")
+    void shouldRejectWhenWaitingRoomFull() {
+        admit(null);
+        admit(null);
+        queued(null);
+        queued(null);
+        queued(null);
+        StepVerifier.create(admission.admit(EVENT_ID, null))
+            .expectErrorSatisfies(error -> {
+                AdmissionRejectedException rejected = assertInstanceOf(AdmissionRejectedException.class, error);
+                assertFalse(rejected.isQueued());
+                assertNull(rejected.getWaitingRoomToken());
+                assertEquals(3, rejected.getWaitingAhead());
+            })
+            .verify();
+    }
+    @Test
+    @DisplayName("Should pass everything through when admission control is disabled")
+    void shouldPassThroughWhenDisabled() {
+        OrderAdmission disabled = new OrderAdmission(meterRegistry, false, 1, 1, 0, 600, SIGNING_KEY, 60000, 100, clock::get);
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(disabled.admit(EVENT_ID, null)).verifyComplete();
+        }
+    }
+    @Test
+    @DisplayName("Should cap the number of waiting rooms and make room again after idle eviction")
+    void shouldCapWaitingRoomsUntilIdleEviction() {
+        OrderAdmission capped = new OrderAdmission(meterRegistry, true, 2, 2, 3, 600, SIGNING_KEY, 60000, 2, clock::get);
+        StepVerifier.create(capped.admit("event-1", null)).verifyComplete();
+        StepVerifier.create(capped.admit("event-2", null)).verifyComplete();
+        StepVerifier.create(capped.admit("event-3", null))
+            .expectErrorSatisfies(error -> {
+                AdmissionRejectedException rejected = assertInstanceOf(AdmissionRejectedException.class, error);
+                assertFalse(rejected.isQueued());
+                assertNull(rejected.getWaitingRoomToken());
+            })
+            .verify();
+        StepVerifier.create(capped.admit("event-1", null)).verifyComplete();
+        clock.addAndGet(Duration.ofSeconds(120).toNanos());
+        capped.evictIdleRooms();
+        StepVerifier.create(capped.admit("event-3", null)).verifyComplete();
+    }
+    private void admit(String token) {
+        StepVerifier.create(admission.admit(EVENT_ID, token))
+            .verifyComplete();
+    }
+    private AdmissionRejectedException queued(String token) {
+        AdmissionRejectedException[] rejected = new AdmissionRejectedException[1];
+        StepVerifier.create(admission.admit(EVENT_ID, token))
+            .expectErrorSatisfies(error -> {
+                rejected[0] = assertInstanceOf(AdmissionRejectedException.class, error);
+                assertTrue(rejected[0].isQueued());
+            })
+            .verify();
+        return rejected[0];
+    }
+}
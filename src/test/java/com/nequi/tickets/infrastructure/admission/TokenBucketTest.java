@@ -0,0 +1,33 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+    @Test
+    @DisplayName("Should allow a full burst and then refill at the configured rate")
+    void shouldRefillAtConfiguredRate() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(3, 10, clock::get);
+        assertEquals(3, bucket.tryAcquireUpTo(5));
+        assertFalse(bucket.tryAcquire());
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(bucket.isFull());
+        assertEquals(3, bucket.tryAcquireUpTo(10));
+    }
+    @Test
+    @DisplayName("Should reject invalid bucket settings")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0));
+    }
+}
@@ -0,0 +1,41 @@
+package com.nequi.tickets.infrastructure.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WaitingRoomTokens Tests")
+class WaitingRoomTokensTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    @Test
+    @DisplayName("Should honour tokens issued by another instance sharing the signing key")
+    void shouldVerifyTokensAcrossInstancesWithSharedKey() {
+        AtomicLong clock = new AtomicLong();
+        WaitingRoomTokens issuer = new WaitingRoomTokens("shared-key", TTL, clock::get);
+        WaitingRoomTokens verifier = new WaitingRoomTokens("shared-key", TTL, clock::get);
+        String token = issuer.issue("event-1", "room-1", 42);
+        assertEquals(42, verifier.position(token, "event-1", "room-1"));
+        assertEquals(0, verifier.position(token, "event-2", "room-1"));
+    }
+    @Test
+    @DisplayName("Should reject tokens signed with a different key")
+    void shouldRejectTokensFromDifferentKey() {
+        AtomicLong clock = new AtomicLong();
+        String token = new WaitingRoomTokens("key-a", TTL, clock::get).issue("event-1", "room-1", 7);
+        assertEquals(0, new WaitingRoomTokens("key-b", TTL, clock::get).position(token, "event-1", "room-1"));
+        assertEquals(0, new WaitingRoomTokens("", TTL, clock::get).position(token, "event-1", "room-1"));
+    }
+    @Test
+    @DisplayName("Should reject expired tokens")
+    void shouldRejectExpiredTokens() {
+        AtomicLong clock = new AtomicLong();
+        WaitingRoomTokens tokens = new WaitingRoomTokens("shared-key", TTL, clock::get);
+        String token = tokens.issue("event-1", "room-1", 3);
+        clock.addAndGet(TTL.toMillis() + 1);
+        assertEquals(0, tokens.position(token, "event-1", "room-1"));
+    }
+}
@@ -1,9 +1,11 @@
 package com.nequi.tickets.infrastructure.controller;
 
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
 import com.nequi.tickets.infrastructure.dto.CreateEventRequest;
 import com.nequi.tickets.infrastructure.dto.EventResponse;
 import com.nequi.tickets.usecase.CreateEventUseCase;
+import com.nequi.tickets.usecase.GetEventProvisioningUseCase;
 import com.nequi.tickets.usecase.GetEventUseCase;
 import com.nequi.tickets.usecase.ListEventsUseCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,13 +34,16 @@ class EventControllerTest {
     private GetEventUseCase getEventUseCase;
     @Mock
     private ListEventsUseCase listEventsUseCase;
+    @Mock
+    private GetEventProvisioningUseCase getEventProvisioningUseCase;
     private WebTestClient webTestClient;
     @BeforeEach
     void setUp() {
         EventController eventController = new EventController(
             createEventUseCase,
             getEventUseCase,
-            listEventsUseCase
+            listEventsUseCase,
+            getEventProvisioningUseCase
         );
         webTestClient = WebTestClient.bindToController(eventController)
             .controllerAdvice(new GlobalExceptionHandler())
@@ -99,6 +104,26 @@ class EventControllerTest {
         verify(getEventUseCase).execute(eventId);
     }
     @Test
+    @DisplayName("GET /events/{eventId}/provisioning - Should return provisioning progress")
+    void shouldGetProvisioningProgress() {
+        String eventId = "event-123";
+        EventProvisioning provisioning = EventProvisioning.start(eventId, 50000).advanceTo(12500);
+        when(getEventProvisioningUseCase.execute(eventId)).thenReturn(Mono.just(provisioning));
+        webTestClient.get()
+            .uri("/events/{eventId}/provisioning", eventId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.eventId").isEqualTo(eventId)
+            .jsonPath("$.status").isEqualTo("IN_PROGRESS")
+            .jsonPath("$.totalTickets").isEqualTo(50000)
+            .jsonPath("$.generatedTickets").isEqualTo(12500)
+            .jsonPath("$.percentComplete").isEqualTo(25.0)
+            .jsonPath("$.startedAt").exists();
+        verify(getEventProvisioningUseCase).execute(eventId);
+    }
+    @Test
     @DisplayName("GET /events - Should list all events successfully")
     void shouldListAllEventsSuccessfully() {
         LocalDateTime eventDate1 = LocalDateTime.now().plusDays(30);
@@ -1,17 +1,22 @@
 package com.nequi.tickets.infrastructure.controller;
 
+import com.nequi.tickets.domain.exception.EventNotFoundException;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.infrastructure.admission.OrderAdmission;
 import com.nequi.tickets.infrastructure.dto.CreateOrderRequest;
 import com.nequi.tickets.usecase.ConfirmOrderUseCase;
 import com.nequi.tickets.usecase.CreateOrderUseCase;
 import com.nequi.tickets.usecase.GetOrderStatusUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
@@ -21,6 +26,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,12 +42,16 @@ class OrderControllerTest {
     private WebTestClient webTestClient;
     @BeforeEach
     void setUp() {
+        webTestClient = clientWith(new OrderAdmission(new SimpleMeterRegistry(), false, 100, 100, 100, 600, "", 60000, 10000));
+    }
+    private WebTestClient clientWith(OrderAdmission orderAdmission) {
         OrderController orderController = new OrderController(
             createOrderUseCase,
             getOrderStatusUseCase,
-            confirmOrderUseCase
+            confirmOrderUseCase,
+            orderAdmission
         );
-        webTestClient = WebTestClient.bindToController(orderController)
+        return WebTestClient.bindToController(orderController)
             .controllerAdvice(new GlobalExceptionHandler())
             .build();
     }
@@ -292,4 +302,55 @@ class OrderControllerTest {
             .jsonPath("$.totalTickets").isEqualTo(5);
         verify(getOrderStatusUseCase).execute(orderId);
     }
-}
\ No newline at end of file
+    @Test
+    @DisplayName("POST /orders - Should queue excess demand with 429 and a waiting room token")
+    void shouldQueueExcessDemandInWaitingRoom() {
+        WebTestClient admissionClient = clientWith(new OrderAdmission(new SimpleMeterRegistry(), true, 1, 1, 100, 600, "", 60000, 10000));
+        LocalDateTime now = LocalDateTime.now();
+        Order createdOrder = new Order(
+            "order-1", "event-123", "customer-1", List.of("ticket-1"), OrderStatus.PENDING,
+            1, 0, 0, null, now, now, null
+        );
+        when(createOrderUseCase.execute(anyString(), anyString(), anyInt()))
+            .thenReturn(Mono.just(createdOrder));
+        admissionClient.post()
+            .uri("/orders")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateOrderRequest("event-123", "customer-1", 1))
+            .exchange()
+            .expectStatus().isAccepted();
+        admissionClient.post()
+            .uri("/orders")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateOrderRequest("event-123", "customer-2", 1))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+            .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+            .expectHeader().exists(OrderAdmission.WAITING_ROOM_TOKEN_HEADER)
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("QUEUED")
+            .jsonPath("$.position").isEqualTo(1)
+            .jsonPath("$.waitingAhead").isEqualTo(1);
+        verify(createOrderUseCase, times(1)).execute(anyString(), anyString(), anyInt());
+    }
+    @Test
+    @DisplayName("POST /orders - Should admit before any event lookup and let order creation reject unknown events")
+    void shouldAdmitBeforeRejectingUnknownEvent() {
+        WebTestClient admissionClient = clientWith(new OrderAdmission(new SimpleMeterRegistry(), true, 1, 1, 100, 600, "", 60000, 10000));
+        when(createOrderUseCase.execute(anyString(), anyString(), anyInt()))
+            .thenReturn(Mono.error(new EventNotFoundException("Event not found with ID: missing-event")));
+        admissionClient.post()
+            .uri("/orders")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateOrderRequest("missing-event", "customer-1", 1))
+            .exchange()
+            .expectStatus().isNotFound();
+        admissionClient.post()
+            .uri("/orders")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateOrderRequest("missing-event", "customer-2", 1))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        verify(createOrderUseCase, times(1)).execute(anyString(), anyString(), anyInt());
+    }
+}
@@ -1,6 +1,7 @@
 package com.nequi.tickets.infrastructure.dto;
 
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventStatus;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -74,7 +75,8 @@ class DtoMapperTest {
             Integer.valueOf(100),
             Integer.valueOf(0),
             now,
-            now
+            now,
+            EventStatus.ACTIVE
         );
         Event event = DtoMapper.toEntity(response);
         assertNotNull(event);
@@ -291,6 +293,15 @@ class DtoMapperTest {
         assertEquals("Arena", response.location());
     }
     @Test
+    @DisplayName("Should not show available while event is still provisioning")
+    void shouldNotShowAvailableWhileProvisioning() {
+        Event event = Event.createProvisioning("event-123", "Stadium Tour", LocalDateTime.now().plusDays(60), "Wembley", 50000);
+        AvailabilityResponse response = DtoMapper.toAvailabilityResponse(event);
+        assertNotNull(response);
+        assertEquals(50000, response.availableTickets());
+        assertFalse(response.isAvailable());
+    }
+    @Test
     @DisplayName("Should return null when mapping null Event to AvailabilityResponse")
     void shouldReturnNullWhenMappingNullEventToAvailabilityResponse() {
         AvailabilityResponse response = DtoMapper.toAvailabilityResponse(null);
@@ -1,5 +1,6 @@
 package com.nequi.tickets.infrastructure.dto;
 
+import com.nequi.tickets.domain.model.EventStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -23,7 +24,7 @@ class EventResponseTest {
         LocalDateTime updatedAt = LocalDateTime.now();
         EventResponse response = new EventResponse(
             eventId, name, date, location, totalCapacity,
-            availableTickets, reservedTickets, Integer.valueOf(0), createdAt, updatedAt
+            availableTickets, reservedTickets, Integer.valueOf(0), createdAt, updatedAt, EventStatus.ACTIVE
         );
         assertNotNull(response);
         assertEquals(eventId, response.eventId());
@@ -40,7 +41,7 @@ class EventResponseTest {
     @DisplayName("Should allow null values")
     void shouldAllowNullValues() {
         EventResponse response = new EventResponse(
-            null, null, null, null, null, null, null, null, null, null
+            null, null, null, null, null, null, null, null, null, null, null
         );
         assertNotNull(response);
         assertNull(response.eventId());
@@ -59,13 +60,13 @@ class EventResponseTest {
         LocalDateTime date = LocalDateTime.now().plusDays(30);
         LocalDateTime timestamp = LocalDateTime.now();
         EventResponse response1 = new EventResponse(
-            "event-1", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp
+            "event-1", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp, EventStatus.ACTIVE
         );
         EventResponse response2 = new EventResponse(
-            "event-1", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp
+            "event-1", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp, EventStatus.ACTIVE
         );
         EventResponse response3 = new EventResponse(
-            "event-2", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp
+            "event-2", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), timestamp, timestamp, EventStatus.ACTIVE
         );
         assertEquals(response1, response2);
         assertNotEquals(response1, response3);
@@ -77,7 +78,7 @@ class EventResponseTest {
         LocalDateTime date = LocalDateTime.now().plusDays(30);
         
         EventResponse response = new EventResponse(
-            "event-123", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), LocalDateTime.now(), LocalDateTime.now()
+            "event-123", "Concert", date, "NYC", Integer.valueOf(1000), Integer.valueOf(700), Integer.valueOf(200), Integer.valueOf(0), LocalDateTime.now(), LocalDateTime.now(), EventStatus.ACTIVE
         );
         String toString = response.toString();
         assertNotNull(toString);
@@ -94,7 +95,7 @@ class EventResponseTest {
         LocalDateTime timestamp = LocalDateTime.now();
         EventResponse response = new EventResponse(
             "event-sold-out", "Sold Out Concert", date, "Stadium", 
-            Integer.valueOf(5000), Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(0), timestamp, timestamp
+            Integer.valueOf(5000), Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(0), timestamp, timestamp, EventStatus.ACTIVE
         );
         assertNotNull(response);
         assertEquals(0, response.availableTickets());
@@ -108,7 +109,7 @@ class EventResponseTest {
         LocalDateTime timestamp = LocalDateTime.now();
         EventResponse response = new EventResponse(
             "event-123", "Popular Concert", date, "Arena", 
-            Integer.valueOf(2000), Integer.valueOf(500), Integer.valueOf(1500), Integer.valueOf(0), timestamp, timestamp
+            Integer.valueOf(2000), Integer.valueOf(500), Integer.valueOf(1500), Integer.valueOf(0), timestamp, timestamp, EventStatus.ACTIVE
         );
         assertNotNull(response);
         assertEquals(500, response.availableTickets());
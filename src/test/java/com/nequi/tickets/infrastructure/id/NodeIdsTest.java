@@ -0,0 +1,39 @@
+package com.nequi.tickets.infrastructure.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NodeIds Tests")
+class NodeIdsTest {
+    @Test
+    @DisplayName("Should derive the node ID from the host part of a private IPv4 address")
+    void shouldDeriveNodeIdFromPrivateAddress() throws UnknownHostException {
+        OptionalInt nodeId = NodeIds.fromAddresses(List.of(
+            InetAddress.getByName("::1"),
+            InetAddress.getByName("203.0.113.7"),
+            InetAddress.getByName("10.0.12.34")));
+        assertEquals(OptionalInt.of((12 << 8) | 34), nodeId);
+    }
+    @Test
+    @DisplayName("Should give distinct node IDs to distinct hosts of the same /16 network")
+    void shouldGiveDistinctNodeIdsWithinSameNetwork() throws UnknownHostException {
+        int first = NodeIds.fromAddresses(List.of(InetAddress.getByName("10.0.1.20"))).orElseThrow();
+        int second = NodeIds.fromAddresses(List.of(InetAddress.getByName("10.0.2.20"))).orElseThrow();
+        assertNotEquals(first, second);
+        assertTrue(first <= TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+    @Test
+    @DisplayName("Should not derive a node ID without a private IPv4 address")
+    void shouldBeEmptyWithoutPrivateAddress() throws UnknownHostException {
+        assertTrue(NodeIds.fromAddresses(List.of(
+            InetAddress.getByName("127.0.0.1"),
+            InetAddress.getByName("198.51.100.1"))).isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package com.nequi.tickets.infrastructure.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedIdGenerator Tests")
+class TimeOrderedIdGeneratorTest {
+    @Test
+    @DisplayName("Should generate fixed-length Crockford base32 identifiers")
+    void shouldGenerateCompactIdentifiers() {
+        String id = new TimeOrderedIdGenerator(42).nextId();
+        assertEquals(TimeOrderedIdGenerator.ID_LENGTH, id.length());
+        assertTrue(id.matches("[0-9A-HJKMNP-TV-Z]+"));
+    }
+    @Test
+    @DisplayName("Should keep identifiers sortable within the same millisecond")
+    void shouldBeMonotonicWithinSameMillisecond() {
+        Clock fixed = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(fixed, 7);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(generator.nextId());
+        }
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(String::compareTo);
+        assertEquals(sorted, ids);
+        assertEquals(1000, Set.copyOf(ids).size());
+        assertEquals(1_700_000_000_000L, TimeOrderedIdGenerator.timestampOf(ids.get(0)));
+    }
+    @Test
+    @DisplayName("Should sort identifiers by creation time")
+    void shouldSortByTimestamp() {
+        String earlier = TimeOrderedIdGenerator.encode(1_000L << 16, 9);
+        String later = TimeOrderedIdGenerator.encode(2_000L << 16, 1);
+        assertTrue(earlier.compareTo(later) < 0);
+        assertEquals(1_000L, TimeOrderedIdGenerator.timestampOf(earlier));
+    }
+    @Test
+    @DisplayName("Should not produce duplicates under concurrent generation")
+    void shouldBeUniqueUnderConcurrency() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 50_000).parallel().forEach(i -> ids.add(generator.nextId()));
+        assertEquals(50_000, ids.size());
+    }
+    @Test
+    @DisplayName("Should distinguish nodes generating in the same millisecond")
+    void shouldDistinguishNodes() {
+        Clock fixed = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+        assertNotEquals(
+            new TimeOrderedIdGenerator(fixed, 1).nextId(),
+            new TimeOrderedIdGenerator(fixed, 2).nextId());
+    }
+    @Test
+    @DisplayName("Should reject node IDs outside of the supported range")
+    void shouldRejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,121 @@
+package com.nequi.tickets.infrastructure.messaging;
+
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdaptiveOrderDispatcher Tests")
+class AdaptiveOrderDispatcherTest {
+    @Mock
+    private MessageQueueService messageQueueService;
+    @Mock
+    private ProcessOrderUseCase processOrderUseCase;
+    @Mock
+    private OrderIdempotencyGuard idempotencyGuard;
+    @Test
+    @DisplayName("Should process in-process and enqueue a delayed safety message when idle")
+    void shouldUseFastPathWhenIdle() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, true, 1, 60);
+        Order order = order("order-1");
+        Order processed = order.startProcessing();
+        when(messageQueueService.sendOrderForProcessing(order, 60)).thenReturn(Mono.empty());
+        when(processOrderUseCase.execute("order-1")).thenReturn(Mono.just(processed));
+        when(idempotencyGuard.markProcessed(null, processed)).thenReturn(Mono.empty());
+        StepVerifier.create(dispatcher.dispatch(order))
+            .verifyComplete();
+        verify(processOrderUseCase, times(1)).execute("order-1");
+        verify(idempotencyGuard, times(1)).markProcessed(null, processed);
+        verify(messageQueueService, never()).sendOrderForProcessing(any(Order.class));
+        assertEquals(0, dispatcher.inFlight());
+    }
+    @Test
+    @DisplayName("Should record the final state when in-process processing fails the order")
+    void shouldMarkProcessedForFinalState() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, true, 1, 60);
+        Order order = order("order-1");
+        Order failed = order.startProcessing().fail("Maximum retry attempts exceeded");
+        when(messageQueueService.sendOrderForProcessing(order, 60)).thenReturn(Mono.empty());
+        when(processOrderUseCase.execute("order-1")).thenReturn(Mono.just(failed));
+        when(idempotencyGuard.markProcessed(null, failed)).thenReturn(Mono.empty());
+        StepVerifier.create(dispatcher.dispatch(order))
+            .verifyComplete();
+        verify(idempotencyGuard, times(1)).markProcessed(null, failed);
+        assertEquals(0, dispatcher.inFlight());
+    }
+    @Test
+    @DisplayName("Should fall back to queue-only mode when fast path capacity is exhausted")
+    void shouldFallBackToQueueWhenBusy() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, true, 1, 60);
+        Order first = order("order-1");
+        Order second = order("order-2");
+        Sinks.One<Order> pendingProcessing = Sinks.one();
+        when(messageQueueService.sendOrderForProcessing(first, 60)).thenReturn(Mono.empty());
+        when(messageQueueService.sendOrderForProcessing(second)).thenReturn(Mono.empty());
+        when(processOrderUseCase.execute("order-1")).thenReturn(pendingProcessing.asMono());
+        when(idempotencyGuard.markProcessed(any(), any(Order.class))).thenReturn(Mono.empty());
+        StepVerifier.create(dispatcher.dispatch(first)).verifyComplete();
+        StepVerifier.create(dispatcher.dispatch(second)).verifyComplete();
+        assertEquals(1, dispatcher.inFlight());
+        verify(processOrderUseCase, never()).execute("order-2");
+        verify(messageQueueService, times(1)).sendOrderForProcessing(second);
+        pendingProcessing.tryEmitValue(first.startProcessing());
+        assertEquals(0, dispatcher.inFlight());
+    }
+    @Test
+    @DisplayName("Should only enqueue when fast path is disabled")
+    void shouldOnlyEnqueueWhenDisabled() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, false, 8, 60);
+        Order order = order("order-1");
+        when(messageQueueService.sendOrderForProcessing(order)).thenReturn(Mono.empty());
+        StepVerifier.create(dispatcher.dispatch(order))
+            .verifyComplete();
+        verifyNoInteractions(processOrderUseCase);
+    }
+    @Test
+    @DisplayName("Should not process in-process when the safety message cannot be enqueued")
+    void shouldNotProcessWhenSafetyMessageFails() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, true, 1, 60);
+        Order order = order("order-1");
+        when(messageQueueService.sendOrderForProcessing(eq(order), anyInt()))
+            .thenReturn(Mono.error(new RuntimeException("Queue unavailable")));
+        StepVerifier.create(dispatcher.dispatch(order))
+            .expectErrorMessage("Queue unavailable")
+            .verify();
+        verify(processOrderUseCase, never()).execute(anyString());
+        assertEquals(0, dispatcher.inFlight());
+    }
+    @Test
+    @DisplayName("Should take a fast path slot only on subscription and give it back when cancelled")
+    void shouldReleaseSlotWhenDispatchIsCancelled() {
+        AdaptiveOrderDispatcher dispatcher = new AdaptiveOrderDispatcher(messageQueueService, processOrderUseCase, idempotencyGuard, true, 1, 60);
+        Order order = order("order-1");
+        Sinks.Empty<Void> pendingSend = Sinks.empty();
+        when(messageQueueService.sendOrderForProcessing(order, 60)).thenReturn(pendingSend.asMono());
+        Mono<Void> dispatch = dispatcher.dispatch(order);
+        assertEquals(0, dispatcher.inFlight());
+        Disposable subscription = dispatch.subscribe();
+        assertEquals(1, dispatcher.inFlight());
+        subscription.dispose();
+        assertEquals(0, dispatcher.inFlight());
+        verify(processOrderUseCase, never()).execute(anyString());
+    }
+    private Order order(String orderId) {
+        return Order.createPending(orderId, "event-1", "customer-1", List.of("ticket-1"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.nequi.tickets.infrastructure.messaging;
+
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.repository.IdempotencyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIdempotencyGuard Tests")
+class OrderIdempotencyGuardTest {
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+    @Test
+    @DisplayName("Should answer from memory once an order is marked completed")
+    void shouldShortCircuitCompletedOrderFromMemory() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 100, 24);
+        when(idempotencyRepository.markProcessed("order#order-1", Duration.ofHours(24))).thenReturn(Mono.just(true));
+        StepVerifier.create(guard.markCompleted("msg-1", "order-1")).verifyComplete();
+        StepVerifier.create(guard.isCompleted("order-1"))
+            .expectNext(true)
+            .verifyComplete();
+        assertTrue(guard.isRecentMessage("msg-1"));
+        verify(idempotencyRepository, never()).exists(anyString());
+    }
+    @Test
+    @DisplayName("Should fall back to the idempotency record and cache positive answers")
+    void shouldCacheRecordFoundInRepository() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 100, 24);
+        when(idempotencyRepository.exists("order#order-1")).thenReturn(Mono.just(true));
+        when(idempotencyRepository.exists("order#order-1#PROCESSING")).thenReturn(Mono.just(false));
+        StepVerifier.create(guard.isCompleted("order-1")).expectNext(true).verifyComplete();
+        StepVerifier.create(guard.isCompleted("order-1")).expectNext(true).verifyComplete();
+        verify(idempotencyRepository, times(1)).exists("order#order-1");
+    }
+    @Test
+    @DisplayName("Should treat lookup failures as not completed")
+    void shouldTreatLookupFailureAsNotCompleted() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 100, 24);
+        when(idempotencyRepository.exists(anyString())).thenReturn(Mono.error(new RuntimeException("Throttled")));
+        StepVerifier.create(guard.isCompleted("order-1"))
+            .expectNext(false)
+            .verifyComplete();
+    }
+    @Test
+    @DisplayName("Should evict least recently used entries beyond capacity")
+    void shouldEvictLeastRecentlyUsedEntries() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 2, 24);
+        when(idempotencyRepository.markProcessed(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        guard.markCompleted("msg-1", "order-1").block();
+        guard.markCompleted("msg-2", "order-2").block();
+        assertEquals(2, guard.cachedEntries());
+        assertFalse(guard.isRecentMessage("msg-1"));
+        assertTrue(guard.isRecentMessage("msg-2"));
+    }
+    @Test
+    @DisplayName("Should record processed non-final orders under a status key and short-circuit their duplicates")
+    void shouldShortCircuitProcessedOrderByStatusKey() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 100, 24);
+        Order processing = Order.createPending("order-1", "event-1", "customer-1", List.of("ticket-1")).startProcessing();
+        when(idempotencyRepository.markProcessed("order#order-1#PROCESSING", Duration.ofHours(24))).thenReturn(Mono.just(true));
+        StepVerifier.create(guard.markProcessed("msg-1", processing)).verifyComplete();
+        StepVerifier.create(guard.isCompleted("order-1")).expectNext(true).verifyComplete();
+        verify(idempotencyRepository, never()).markProcessed(eq("order#order-1"), any(Duration.class));
+        verify(idempotencyRepository, never()).exists(anyString());
+    }
+    @Test
+    @DisplayName("Should find a processed record written by another instance")
+    void shouldFindProcessedRecordInRepository() {
+        OrderIdempotencyGuard guard = new OrderIdempotencyGuard(idempotencyRepository, 100, 24);
+        when(idempotencyRepository.exists("order#order-1")).thenReturn(Mono.just(false));
+        when(idempotencyRepository.exists("order#order-1#PROCESSING")).thenReturn(Mono.just(true));
+        StepVerifier.create(guard.isCompleted("order-1")).expectNext(true).verifyComplete();
+        StepVerifier.create(guard.isCompleted("order-1")).expectNext(true).verifyComplete();
+        verify(idempotencyRepository, times(1)).exists("order#order-1#PROCESSING");
+    }
+}
@@ -0,0 +1,33 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("MessageGroupStrategy Tests")
+class MessageGroupStrategyTest {
+    @Test
+    @DisplayName("Should use a single group for every order with GLOBAL strategy")
+    void shouldUseSingleGroupForGlobalStrategy() {
+        assertEquals("order-processing", MessageGroupStrategy.GLOBAL.groupIdFor("order-1", "event-1"));
+        assertEquals("order-processing", MessageGroupStrategy.GLOBAL.groupIdFor("order-2", "event-2"));
+    }
+    @Test
+    @DisplayName("Should derive group from event with EVENT strategy")
+    void shouldDeriveGroupFromEvent() {
+        assertEquals("event-event-1", MessageGroupStrategy.EVENT.groupIdFor("order-1", "event-1"));
+        assertEquals("event-event-1", MessageGroupStrategy.EVENT.groupIdFor("order-2", "event-1"));
+    }
+    @Test
+    @DisplayName("Should fall back to order group when event is unknown")
+    void shouldFallBackToOrderGroupWhenEventUnknown() {
+        assertEquals("order-order-1", MessageGroupStrategy.EVENT.groupIdFor("order-1", null));
+        assertEquals("order-order-1", MessageGroupStrategy.EVENT.groupIdFor("order-1", " "));
+    }
+    @Test
+    @DisplayName("Should derive group from order with ORDER strategy")
+    void shouldDeriveGroupFromOrder() {
+        assertEquals("order-order-1", MessageGroupStrategy.ORDER.groupIdFor("order-1", "event-1"));
+    }
+}
@@ -0,0 +1,172 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import com.nequi.tickets.infrastructure.sdk.ConcurrencyLimitExceededException;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SQSBatchingProducer Tests")
+class SQSBatchingProducerTest {
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/test-queue.fifo";
+    private static final SdkConcurrencyLimits LIMITS = new SdkConcurrencyLimits(true, 32, 8, 200, 500, 100);
+    @Mock
+    private SqsAsyncClient sqsClient;
+    private SQSBatchingProducer producer;
+    @AfterEach
+    void tearDown() {
+        if (producer != null) {
+            producer.stop();
+        }
+    }
+    @Test
+    @DisplayName("Should send messages one by one when batching is disabled")
+    void shouldSendIndividuallyWhenDisabled() {
+        producer = new SQSBatchingProducer(sqsClient, false, 10, 5, 16, LIMITS);
+        producer.start();
+        when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                SendMessageResponse.builder().messageId("msg-1").build()));
+        StepVerifier.create(producer.send(request("order-1")))
+            .expectNext("msg-1")
+            .verifyComplete();
+        verify(sqsClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+    @Test
+    @DisplayName("Should coalesce concurrent sends into a single batch call")
+    void shouldCoalesceSendsIntoBatch() {
+        producer = new SQSBatchingProducer(sqsClient, true, 10, 50, 16, LIMITS);
+        producer.start();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenAnswer(invocation -> {
+                SendMessageBatchRequest batch = invocation.getArgument(0);
+                List<SendMessageBatchResultEntry> successful = batch.entries().stream()
+                    .map(entry -> SendMessageBatchResultEntry.builder()
+                        .id(entry.id())
+                        .messageId("msg-" + entry.messageDeduplicationId())
+                        .build())
+                    .toList();
+                return CompletableFuture.completedFuture(
+                    SendMessageBatchResponse.builder().successful(successful).build());
+            });
+        List<String> messageIds = Flux.range(1, 10)
+            .flatMap(i -> producer.send(request("order-" + i)))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+        assertNotNull(messageIds);
+        assertEquals(10, messageIds.size());
+        assertTrue(messageIds.contains("msg-order-7"));
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(1)).sendMessageBatch(captor.capture());
+        assertEquals(10, captor.getValue().entries().size());
+        assertEquals(QUEUE_URL, captor.getValue().queueUrl());
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+    }
+    @Test
+    @DisplayName("Should retry entries that fail within a batch individually")
+    void shouldRetryFailedEntriesIndividually() {
+        producer = new SQSBatchingProducer(sqsClient, true, 2, 50, 16, LIMITS);
+        producer.start();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                .successful(SendMessageBatchResultEntry.builder().id("0").messageId("msg-batch").build())
+                .failed(BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build())
+                .build()));
+        when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                SendMessageResponse.builder().messageId("msg-single").build()));
+        List<String> messageIds = Mono.zip(
+                producer.send(request("order-1")),
+                producer.send(request("order-2")))
+            .map(tuple -> List.of(tuple.getT1(), tuple.getT2()))
+            .block(Duration.ofSeconds(5));
+        assertNotNull(messageIds);
+        assertTrue(messageIds.contains("msg-batch"));
+        assertTrue(messageIds.contains("msg-single"));
+        verify(sqsClient, times(1)).sendMessage(any(SendMessageRequest.class));
+    }
+    @Test
+    @DisplayName("Should fail sender fault entries without retrying them")
+    void shouldNotRetrySenderFaultEntries() {
+        producer = new SQSBatchingProducer(sqsClient, true, 2, 50, 16, LIMITS);
+        producer.start();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                .successful(SendMessageBatchResultEntry.builder().id("0").messageId("msg-batch").build())
+                .failed(BatchResultErrorEntry.builder().id("1").code("InvalidParameterValue").senderFault(true).build())
+                .build()));
+        Mono<String> rejected = producer.send(request("order-2"))
+            .onErrorResume(SqsException.class, error -> Mono.just(error.awsErrorDetails().errorCode()));
+        StepVerifier.create(Mono.zip(producer.send(request("order-1")), rejected))
+            .assertNext(tuple -> {
+                assertEquals("msg-batch", tuple.getT1());
+                assertEquals("InvalidParameterValue", tuple.getT2());
+            })
+            .verifyComplete();
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+    }
+    @Test
+    @DisplayName("Should shed a whole batch at the SQS concurrency limit without resending it one by one")
+    void shouldShedBatchAtConcurrencyLimit() {
+        producer = new SQSBatchingProducer(sqsClient, true, 2, 50, 16, new SdkConcurrencyLimits(true, 1, 1, 1, 0, 0));
+        producer.start();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(new CompletableFuture<>());
+        producer.send(request("order-1")).subscribe();
+        producer.send(request("order-2")).subscribe();
+        verify(sqsClient, timeout(5000)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        StepVerifier.create(Mono.zipDelayError(producer.send(request("order-3")), producer.send(request("order-4"))))
+            .expectErrorSatisfies(error -> {
+                List<Throwable> errors = Exceptions.unwrapMultiple(error);
+                assertEquals(2, errors.size());
+                assertTrue(errors.stream().allMatch(ConcurrencyLimitExceededException.class::isInstance));
+            })
+            .verify(Duration.ofSeconds(5));
+        verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+    }
+    @Test
+    @DisplayName("Should propagate individual failure to its own caller")
+    void shouldPropagateIndividualFailure() {
+        producer = new SQSBatchingProducer(sqsClient, true, 10, 1, 16, LIMITS);
+        producer.start();
+        when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(
+                SqsException.builder().message("Service Unavailable").statusCode(503).build()));
+        StepVerifier.create(producer.send(request("order-1")))
+            .expectError(SqsException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+    @Test
+    @DisplayName("Should reject batch size above the SQS limit")
+    void shouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new SQSBatchingProducer(sqsClient, true, 11, 5, 16, LIMITS));
+    }
+    private SendMessageRequest request(String orderId) {
+        return SendMessageRequest.builder()
+            .queueUrl(QUEUE_URL)
+            .messageBody("{\"orderId\":\"" + orderId + "\"}")
+            .messageGroupId("order-processing")
+            .messageDeduplicationId(orderId)
+            .build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.nequi.tickets.infrastructure.messaging.sqs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
 import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,7 +38,11 @@ class SQSErrorSimulationTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         queueUrl = "http://localhost:9324/000000000000/test-queue.fifo";
-        messageQueueService = new SQSMessageQueueService(sqsClient, queueUrl, objectMapper);
+        SQSBatchingProducer producer = new SQSBatchingProducer(sqsClient, false, 10, 5, 16,
+            new SdkConcurrencyLimits(true, 32, 8, 200, 500, 100));
+        messageQueueService = new SQSMessageQueueService(producer, queueUrl, "", MessageGroupStrategy.EVENT, 10, 120, objectMapper,
+            new OrderLatencyMetrics(new SimpleMeterRegistry()),
+            new SQSObservations(ObservationRegistry.NOOP));
     }
     @Test
     @DisplayName("Should handle SQS service unavailable error")
@@ -111,7 +119,7 @@ class SQSErrorSimulationTest {
     @Test
     @DisplayName("Should reject null orderId")
     void shouldRejectNullOrderId() {
-        StepVerifier.create(messageQueueService.sendOrderForProcessing(null))
+        StepVerifier.create(messageQueueService.sendOrderForProcessing((String) null))
             .expectError(IllegalArgumentException.class)
             .verify();
         verifyNoInteractions(sqsClient);
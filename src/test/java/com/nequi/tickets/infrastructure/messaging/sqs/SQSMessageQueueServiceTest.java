@@ -0,0 +1,177 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.OrderStatus;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.SenderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SQSMessageQueueService Tests")
+class SQSMessageQueueServiceTest {
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/order-processing-queue.fifo";
+    private static final String PRIORITY_QUEUE_URL = "http://localhost:4566/000000000000/order-processing-priority.fifo";
+    @Mock
+    private SQSBatchingProducer producer;
+    private SQSMessageQueueService messageQueueService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderLatencyMetrics latencyMetrics;
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyMetrics = new OrderLatencyMetrics(meterRegistry);
+        messageQueueService = new SQSMessageQueueService(
+            producer, QUEUE_URL, PRIORITY_QUEUE_URL, MessageGroupStrategy.EVENT, 10, 120, new ObjectMapper(), latencyMetrics,
+            new SQSObservations(ObservationRegistry.NOOP));
+    }
+    @Test
+    @DisplayName("Should route orders whose reservation expires soon to the high priority queue")
+    void shouldRouteExpiringOrderToHighPriorityQueue() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(messageQueueService.sendOrderForProcessing(order(LocalDateTime.now().minusMinutes(9))))
+            .verifyComplete();
+        assertEquals(PRIORITY_QUEUE_URL, sentRequest().queueUrl());
+    }
+    @Test
+    @DisplayName("Should route fresh orders to the normal queue")
+    void shouldRouteFreshOrderToNormalQueue() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(messageQueueService.sendOrderForProcessing(order(LocalDateTime.now())))
+            .verifyComplete();
+        assertEquals(QUEUE_URL, sentRequest().queueUrl());
+    }
+    @Test
+    @DisplayName("Should pick the lane from the creation time carried by the message without reading the order")
+    void shouldPickLaneFromMessageCreationTime() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        long createdAt = System.currentTimeMillis() - 9 * 60_000L;
+        StepVerifier.create(messageQueueService.sendOrderForProcessing(
+                new OrderProcessingMessage("order-1", createdAt, null, createdAt)))
+            .verifyComplete();
+        SendMessageRequest request = sentRequest();
+        assertEquals(PRIORITY_QUEUE_URL, request.queueUrl());
+        assertEquals("order-order-1", request.messageGroupId());
+    }
+    @Test
+    @DisplayName("Should send by ID on the normal lane")
+    void shouldUseNormalLaneWhenSendingById() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(messageQueueService.sendOrderForProcessing("order-1"))
+            .verifyComplete();
+        assertEquals(QUEUE_URL, sentRequest().queueUrl());
+    }
+    @Test
+    @DisplayName("Should place retries on the high lane once the reservation is about to expire")
+    void shouldPlaceRetriesOnHighLaneNearExpiry() {
+        long now = System.currentTimeMillis();
+        assertEquals(OrderLane.HIGH, messageQueueService.laneFor(now - 9 * 60_000L));
+        assertEquals(OrderLane.NORMAL, messageQueueService.laneFor(now - 60_000L));
+        assertEquals(OrderLane.NORMAL, messageQueueService.laneFor((Long) null));
+    }
+    @Test
+    @DisplayName("Should keep every order on the normal lane when no high priority queue is configured")
+    void shouldUseNormalLaneWithoutPriorityQueue() {
+        SQSMessageQueueService singleLane = new SQSMessageQueueService(
+            producer, QUEUE_URL, "", MessageGroupStrategy.EVENT, 10, 120, new ObjectMapper(), latencyMetrics,
+            new SQSObservations(ObservationRegistry.NOOP));
+        assertEquals(OrderLane.NORMAL, singleLane.laneFor(order(LocalDateTime.now().minusMinutes(30))));
+    }
+    @Test
+    @DisplayName("Should carry delays in the body and isolate the group on FIFO queues")
+    void shouldCarryDelayInBodyOnFifoQueue() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(messageQueueService.sendOrderForProcessing(order(LocalDateTime.now()), 60))
+            .verifyComplete();
+        SendMessageRequest request = sentRequest();
+        assertEquals(0, request.delaySeconds());
+        assertEquals("order-order-1", request.messageGroupId());
+        assertTrue(request.messageBody().contains("\"notBefore\""));
+    }
+    @Test
+    @DisplayName("Should re-send a postponed message as due under a new deduplication ID")
+    void shouldResendPostponedMessageAsDue() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-2"));
+        OrderProcessingMessage postponed = new OrderProcessingMessage("order-1", 1_000L, 61_000L, 500L);
+        StepVerifier.create(messageQueueService.resendDue(QUEUE_URL, postponed, "order-1-msg-1"))
+            .verifyComplete();
+        SendMessageRequest request = sentRequest();
+        assertEquals(QUEUE_URL, request.queueUrl());
+        assertEquals("order-order-1", request.messageGroupId());
+        assertEquals("order-1-msg-1", request.messageDeduplicationId());
+        assertFalse(request.messageBody().contains("\"notBefore\""));
+        assertTrue(request.messageBody().contains("\"timestamp\":61000"));
+    }
+    @Test
+    @DisplayName("Should carry the order creation time and record enqueue lag")
+    void shouldCarryCreationTimeAndRecordEnqueueLag() {
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(messageQueueService.sendOrderForProcessing(order(LocalDateTime.now().minusSeconds(2))))
+            .verifyComplete();
+        assertTrue(sentRequest().messageBody().contains("\"createdAt\""));
+        assertEquals(1, meterRegistry.get("orders.latency.enqueue").timer().count());
+    }
+    @Test
+    @DisplayName("Should propagate the trace context through message attributes")
+    void shouldPropagateTraceContextThroughMessageAttributes() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<SenderContext<Map<String, MessageAttributeValue>>>() {
+            @Override
+            public void onStart(SenderContext<Map<String, MessageAttributeValue>> context) {
+                context.getSetter().set(context.getCarrier(), "traceparent", "00-trace-span-01");
+            }
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof SenderContext<?>;
+            }
+        });
+        SQSMessageQueueService traced = new SQSMessageQueueService(
+            producer, QUEUE_URL, PRIORITY_QUEUE_URL, MessageGroupStrategy.EVENT, 10, 120, new ObjectMapper(), latencyMetrics,
+            new SQSObservations(observationRegistry));
+        when(producer.send(any(SendMessageRequest.class))).thenReturn(Mono.just("msg-1"));
+        StepVerifier.create(traced.sendOrderForProcessing(order(LocalDateTime.now())))
+            .verifyComplete();
+        assertEquals("00-trace-span-01", sentRequest().messageAttributes().get("traceparent").stringValue());
+    }
+    private SendMessageRequest sentRequest() {
+        ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+        verify(producer).send(captor.capture());
+        return captor.getValue();
+    }
+    private Order order(LocalDateTime createdAt) {
+        return new Order(
+            "order-1", "event-1", "customer-1",
+            List.of("ticket-1"),
+            OrderStatus.PENDING,
+            1,
+            0,
+            0,
+            null,
+            createdAt,
+            createdAt,
+            null
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import com.nequi.tickets.infrastructure.messaging.OrderIdempotencyGuard;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SQSOrderConsumer Tests")
+class SQSOrderConsumerTest {
+    @Test
+    @DisplayName("Should group messages by message group preserving order within each group")
+    void shouldGroupMessagesByMessageGroup() {
+        List<Message> messages = List.of(
+            message("m1", "event-a"),
+            message("m2", "event-b"),
+            message("m3", "event-a"),
+            message("m4", "event-c"),
+            message("m5", "event-b")
+        );
+        List<List<Message>> groups = new ArrayList<>(SQSOrderConsumer.groupByMessageGroup(messages));
+        assertEquals(3, groups.size());
+        assertEquals(List.of("m1", "m3"), groups.get(0).stream().map(Message::messageId).toList());
+        assertEquals(List.of("m2", "m5"), groups.get(1).stream().map(Message::messageId).toList());
+        assertEquals(List.of("m4"), groups.get(2).stream().map(Message::messageId).toList());
+    }
+    @Test
+    @DisplayName("Should treat messages without group attribute as the global group")
+    void shouldUseGlobalGroupWhenAttributeMissing() {
+        Message message = Message.builder().messageId("m1").body("{}").build();
+        assertEquals("order-processing", SQSOrderConsumer.messageGroupId(message));
+    }
+    @Test
+    @DisplayName("Should round postpone delay up to whole seconds within SQS visibility limits")
+    void shouldClampPostponeSeconds() {
+        assertEquals(1, SQSOrderConsumer.postponeSeconds(1));
+        assertEquals(2, SQSOrderConsumer.postponeSeconds(1001));
+        assertEquals(60, SQSOrderConsumer.postponeSeconds(60_000));
+        assertEquals(43200, SQSOrderConsumer.postponeSeconds(Long.MAX_VALUE / 2));
+    }
+    @Test
+    @DisplayName("Should read the approximate receive count and default to a first delivery")
+    void shouldReadReceiveCount() {
+        Message redelivered = Message.builder()
+            .messageId("m1")
+            .body("{}")
+            .attributes(Map.of(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT, "2"))
+            .build();
+        assertEquals(2, SQSOrderConsumer.receiveCount(redelivered));
+        assertEquals(1, SQSOrderConsumer.receiveCount(message("m2", "event-a")));
+    }
+    @Test
+    @DisplayName("Should not poll a lane again while its received batches are still buffered")
+    void shouldPausePollingWhileLaneBufferIsNonEmpty() {
+        SqsAsyncClient sqsClient = mock(SqsAsyncClient.class);
+        OrderIdempotencyGuard idempotencyGuard = mock(OrderIdempotencyGuard.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                .messages(order("m1", "order-1", "event-a"), order("m2", "order-2", "event-b"))
+                .build()));
+        when(idempotencyGuard.isCompleted(anyString())).thenReturn(Mono.never());
+        SQSOrderConsumer consumer = new SQSOrderConsumer(sqsClient, "normal-queue", "", true, 10, 20, 30, 1, 3, 1,
+            mock(ProcessOrderUseCase.class), idempotencyGuard, mock(SQSMessageQueueService.class), new ObjectMapper(),
+            new OrderLatencyMetrics(new SimpleMeterRegistry()), new SQSObservations(ObservationRegistry.NOOP));
+        try {
+            consumer.start();
+            verify(sqsClient, after(2500).times(1)).receiveMessage(any(ReceiveMessageRequest.class));
+            assertEquals(1, consumer.bufferedBatchCount());
+        } finally {
+            consumer.stop();
+        }
+    }
+    private Message order(String messageId, String orderId, String groupId) {
+        return Message.builder()
+            .messageId(messageId)
+            .body("{\"orderId\":\"" + orderId + "\"}")
+            .attributes(Map.of(MessageSystemAttributeName.MESSAGE_GROUP_ID, groupId))
+            .build();
+    }
+    private Message message(String messageId, String groupId) {
+        return Message.builder()
+            .messageId(messageId)
+            .body("{}")
+            .attributes(Map.of(MessageSystemAttributeName.MESSAGE_GROUP_ID, groupId))
+            .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.nequi.tickets.infrastructure.messaging.sqs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WeightedFairScheduler Tests")
+class WeightedFairSchedulerTest {
+    @Test
+    @DisplayName("Should interleave lanes according to their weights")
+    void shouldInterleaveByWeight() {
+        WeightedFairScheduler<OrderLane, String> scheduler = new WeightedFairScheduler<OrderLane, String>()
+            .lane(OrderLane.HIGH, 3)
+            .lane(OrderLane.NORMAL, 1);
+        for (int i = 0; i < 6; i++) {
+            scheduler.offer(OrderLane.HIGH, "h" + i);
+            scheduler.offer(OrderLane.NORMAL, "n" + i);
+        }
+        List<String> firstEight = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            firstEight.add(scheduler.poll());
+        }
+        assertEquals(6, firstEight.stream().filter(item -> item.startsWith("h")).count());
+        assertEquals(2, firstEight.stream().filter(item -> item.startsWith("n")).count());
+        assertEquals(List.of("h0", "h1", "n0", "h2"), firstEight.subList(0, 4));
+    }
+    @Test
+    @DisplayName("Should give full capacity to the only non-empty lane")
+    void shouldDrainSingleNonEmptyLane() {
+        WeightedFairScheduler<OrderLane, String> scheduler = new WeightedFairScheduler<OrderLane, String>()
+            .lane(OrderLane.HIGH, 3)
+            .lane(OrderLane.NORMAL, 1);
+        scheduler.offer(OrderLane.NORMAL, "n0");
+        scheduler.offer(OrderLane.NORMAL, "n1");
+        assertEquals("n0", scheduler.poll());
+        assertEquals("n1", scheduler.poll());
+        assertNull(scheduler.poll());
+        assertEquals(0, scheduler.size());
+    }
+    @Test
+    @DisplayName("Should reject offers to unknown lanes")
+    void shouldRejectUnknownLane() {
+        WeightedFairScheduler<OrderLane, String> scheduler = new WeightedFairScheduler<OrderLane, String>()
+            .lane(OrderLane.NORMAL, 1);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.offer(OrderLane.HIGH, "h0"));
+    }
+}
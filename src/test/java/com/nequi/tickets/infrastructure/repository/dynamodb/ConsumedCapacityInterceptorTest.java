@@ -0,0 +1,87 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConsumedCapacityInterceptor Tests")
+class ConsumedCapacityInterceptorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private ConsumedCapacityInterceptor interceptor;
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ConsumedCapacityInterceptor(meterRegistry);
+    }
+    @Test
+    @DisplayName("Should request per-index consumed capacity on reads and writes")
+    void shouldRequestConsumedCapacity() {
+        Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+        when(context.request()).thenReturn(GetItemRequest.builder().tableName("events").build());
+        GetItemRequest modified = (GetItemRequest) interceptor.modifyRequest(context, new ExecutionAttributes());
+        assertEquals(ReturnConsumedCapacity.INDEXES, modified.returnConsumedCapacity());
+        when(context.request()).thenReturn(PutItemRequest.builder().tableName("orders").build());
+        PutItemRequest put = (PutItemRequest) interceptor.modifyRequest(context, new ExecutionAttributes());
+        assertEquals(ReturnConsumedCapacity.INDEXES, put.returnConsumedCapacity());
+    }
+    @Test
+    @DisplayName("Should record consumed capacity tagged by operation, table and consistency")
+    void shouldRecordConsumedCapacity() {
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.request()).thenReturn(GetItemRequest.builder().tableName("events").consistentRead(true).build());
+        when(context.response()).thenReturn(GetItemResponse.builder()
+            .consumedCapacity(ConsumedCapacity.builder().tableName("events").capacityUnits(1.0).build())
+            .build());
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetItem");
+        interceptor.afterExecution(context, attributes);
+        interceptor.afterExecution(context, attributes);
+        double recorded = meterRegistry.get(ConsumedCapacityInterceptor.METRIC_NAME)
+            .tag("operation", "GetItem")
+            .tag("table", "events")
+            .tag("consistency", "strong")
+            .counter()
+            .count();
+        assertEquals(2.0, recorded);
+    }
+    @Test
+    @DisplayName("Should break consumed capacity down by global secondary index")
+    void shouldRecordCapacityPerIndex() {
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.request()).thenReturn(QueryRequest.builder().tableName("tickets").indexName("orderId-index").build());
+        when(context.response()).thenReturn(QueryResponse.builder()
+            .consumedCapacity(ConsumedCapacity.builder()
+                .tableName("tickets")
+                .capacityUnits(1.5)
+                .table(Capacity.builder().capacityUnits(0.0).build())
+                .globalSecondaryIndexes(Map.of("orderId-index", Capacity.builder().capacityUnits(1.5).build()))
+                .build())
+            .build());
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "Query");
+        interceptor.afterExecution(context, attributes);
+        double indexUnits = meterRegistry.get(ConsumedCapacityInterceptor.METRIC_NAME)
+            .tag("table", "tickets")
+            .tag("index", "orderId-index")
+            .counter()
+            .count();
+        assertEquals(1.5, indexUnits);
+    }
+    @Test
+    @DisplayName("Should classify reads without an explicit flag as eventually consistent")
+    void shouldClassifyConsistency() {
+        assertEquals("eventual", ConsumedCapacityInterceptor.consistencyOf(QueryRequest.builder().build()));
+        assertEquals("eventual", ConsumedCapacityInterceptor.consistencyOf(ScanRequest.builder().consistentRead(false).build()));
+        assertEquals("none", ConsumedCapacityInterceptor.consistencyOf(PutItemRequest.builder().build()));
+    }
+}
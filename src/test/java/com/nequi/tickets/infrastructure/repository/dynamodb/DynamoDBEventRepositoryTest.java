@@ -0,0 +1,122 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.ItemMapper;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DynamoDBEventRepository Tests")
+@ExtendWith(MockitoExtension.class)
+class DynamoDBEventRepositoryTest {
+    @Mock
+    private DynamoDbAsyncClient dynamoDbClient;
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDBEventRepository repository;
+    @BeforeEach
+    void setUp() {
+        DynamoDBFastPathClient fastPath = new DynamoDBFastPathClient(
+            dynamoDbClient, "events", "tickets", "orders", true, true, true, true);
+        DynamoDBRepositoryMetrics metrics = new DynamoDBRepositoryMetrics(new SimpleMeterRegistry(),
+            ObservationRegistry.NOOP, new SdkConcurrencyLimits(true, 32, 8, 200, 500, 100));
+        repository = new DynamoDBEventRepository(enhancedClient, fastPath, metrics, "events");
+    }
+    @Test
+    @DisplayName("Should decrement inventory with a single conditional update of the inventory attributes")
+    void shouldDecrementWithSingleConditionalUpdate() {
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder()
+                .attributes(eventItem(7, 3, 1))
+                .build()));
+        StepVerifier.create(repository.decrementAvailableTickets("event-1", 0, 3, 7, 3))
+            .assertNext(event -> {
+                assertEquals(7, event.availableTickets());
+                assertEquals(3, event.reservedTickets());
+                assertEquals(1, event.version());
+            })
+            .verifyComplete();
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertEquals("#version = :expectedVersion AND #availableTickets >= :quantity", request.conditionExpression());
+        assertEquals("SET #availableTickets = :available, #reservedTickets = :reserved, #version = :newVersion, #updatedAt = :updatedAt",
+            request.updateExpression());
+        assertEquals("0", request.expressionAttributeValues().get(":expectedVersion").n());
+        assertEquals("3", request.expressionAttributeValues().get(":quantity").n());
+        assertEquals("1", request.expressionAttributeValues().get(":newVersion").n());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+        verify(dynamoDbClient, never()).putItem(any(PutItemRequest.class));
+    }
+    @Test
+    @DisplayName("Should update inventory under the version condition only")
+    void shouldUpdateInventoryUnderVersionCondition() {
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder()
+                .attributes(eventItem(10, 0, 5))
+                .build()));
+        StepVerifier.create(repository.updateInventory("event-1", 4, 10, 0))
+            .assertNext(event -> assertEquals(5, event.version()))
+            .verifyComplete();
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertEquals("#version = :expectedVersion", captor.getValue().conditionExpression());
+        assertFalse(captor.getValue().expressionAttributeValues().containsKey(":quantity"));
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+    @Test
+    @DisplayName("Should map a failed condition on an existing event to a concurrent modification")
+    void shouldMapConditionFailureToConcurrentModification() {
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder()
+                .item(eventItem(9, 1, 2))
+                .build()));
+        StepVerifier.create(repository.decrementAvailableTickets("event-1", 0, 3, 7, 3))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+    }
+    @Test
+    @DisplayName("Should report a missing event when the condition fails without an item")
+    void shouldReportMissingEvent() {
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().build()));
+        StepVerifier.create(repository.updateInventory("missing", 0, 10, 0))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+    private static Map<String, AttributeValue> eventItem(int available, int reserved, int version) {
+        return Map.of(
+            ItemMapper.EVENT_ID, AttributeValue.builder().s("event-1").build(),
+            ItemMapper.NAME, AttributeValue.builder().s("Concert").build(),
+            ItemMapper.DATE, AttributeValue.builder().s("2030-01-01T20:00").build(),
+            ItemMapper.LOCATION, AttributeValue.builder().s("Arena").build(),
+            ItemMapper.TOTAL_CAPACITY, AttributeValue.builder().n("10").build(),
+            ItemMapper.AVAILABLE_TICKETS, AttributeValue.builder().n(Integer.toString(available)).build(),
+            ItemMapper.RESERVED_TICKETS, AttributeValue.builder().n(Integer.toString(reserved)).build(),
+            ItemMapper.VERSION, AttributeValue.builder().n(Integer.toString(version)).build(),
+            ItemMapper.STATUS, AttributeValue.builder().s("ACTIVE").build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DynamoDBRepositoryMetrics Tests")
+class DynamoDBRepositoryMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DynamoDBRepositoryMetrics.TableMetrics metrics;
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new DynamoDBRepositoryMetrics(meterRegistry, ObservationRegistry.NOOP,
+            new SdkConcurrencyLimits(true, 32, 8, 200, 500, 100)).forTable("tickets");
+    }
+    @Test
+    @DisplayName("Should time calls and count items per operation and index")
+    void shouldRecordTimerAndItems() {
+        StepVerifier.create(Flux.just("a", "b", "c").transform(metrics.flux("findByOrderId", "orderId-index")))
+            .expectNextCount(3)
+            .verifyComplete();
+        assertEquals(1, meterRegistry.get(DynamoDBRepositoryMetrics.CALLS)
+            .tag("table", "tickets")
+            .tag("index", "orderId-index")
+            .tag("operation", "findByOrderId")
+            .tag("outcome", DynamoDBRepositoryMetrics.OUTCOME_SUCCESS)
+            .timer()
+            .count());
+        assertEquals(3.0, meterRegistry.get(DynamoDBRepositoryMetrics.ITEMS)
+            .tag("operation", "findByOrderId")
+            .summary()
+            .totalAmount());
+    }
+    @Test
+    @DisplayName("Should count conditional check failures")
+    void shouldCountConditionalCheckFailures() {
+        StepVerifier.create(Mono.error(new ConcurrentModificationException("Ticket", "t-1"))
+                .transform(metrics.mono("save")))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+        assertEquals(1.0, meterRegistry.get(DynamoDBRepositoryMetrics.CONDITIONAL_CHECK_FAILURES)
+            .tag("operation", "save")
+            .counter()
+            .count());
+        assertEquals(1, meterRegistry.get(DynamoDBRepositoryMetrics.CALLS)
+            .tag("outcome", DynamoDBRepositoryMetrics.OUTCOME_CONDITIONAL_CHECK_FAILED)
+            .timer()
+            .count());
+    }
+    @Test
+    @DisplayName("Should count throttled calls")
+    void shouldCountThrottles() {
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+            .build();
+        StepVerifier.create(Mono.error(throttled).transform(metrics.mono("findById")))
+            .expectError(ProvisionedThroughputExceededException.class)
+            .verify();
+        assertEquals(1.0, meterRegistry.get(DynamoDBRepositoryMetrics.THROTTLES)
+            .tag("operation", "findById")
+            .counter()
+            .count());
+    }
+    @Test
+    @DisplayName("Should record fixed item counts for batch writes")
+    void shouldRecordBatchWriteItems() {
+        StepVerifier.create(Mono.just(25).transform(metrics.write("batchWrite", 25)))
+            .expectNext(25)
+            .verifyComplete();
+        assertEquals(25.0, meterRegistry.get(DynamoDBRepositoryMetrics.ITEMS)
+            .tag("operation", "batchWrite")
+            .summary()
+            .totalAmount());
+    }
+}
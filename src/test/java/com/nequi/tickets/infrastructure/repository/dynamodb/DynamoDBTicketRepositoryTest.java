@@ -0,0 +1,83 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.mapper.EntityTableSchemas;
+import com.nequi.tickets.infrastructure.sdk.SdkConcurrencyLimits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DynamoDBTicketRepository Tests")
+@ExtendWith(MockitoExtension.class)
+class DynamoDBTicketRepositoryTest {
+    @Mock
+    private DynamoDbAsyncClient dynamoDbClient;
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    @Mock
+    private DynamoDbAsyncTable<TicketEntity> ticketTable;
+    private DynamoDBTicketRepository repository;
+    @BeforeEach
+    void setUp() {
+        when(enhancedClient.table("tickets", EntityTableSchemas.TICKET)).thenReturn(ticketTable);
+        DynamoDBFastPathClient fastPath = new DynamoDBFastPathClient(
+            dynamoDbClient, "events", "tickets", "orders", true, true, true, true);
+        DynamoDBRepositoryMetrics metrics = new DynamoDBRepositoryMetrics(new SimpleMeterRegistry(),
+            ObservationRegistry.NOOP, new SdkConcurrencyLimits(true, 32, 8, 200, 500, 100));
+        repository = new DynamoDBTicketRepository(enhancedClient, fastPath, metrics, "tickets", 8);
+    }
+    @Test
+    @DisplayName("Should write a versioned ticket through the fast path with the version condition")
+    void shouldSaveIfVersionThroughFastPath() {
+        Ticket claimed = ticket().reserveTicket("customer-1", "order-1", 10);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        StepVerifier.create(repository.saveIfVersion(claimed, 0))
+            .expectNext(claimed)
+            .verifyComplete();
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertEquals("tickets", captor.getValue().tableName());
+        assertEquals("#version = :expectedVersion", captor.getValue().conditionExpression());
+        assertEquals("0", captor.getValue().expressionAttributeValues().get(":expectedVersion").n());
+        assertEquals("RESERVED", captor.getValue().item().get("status").s());
+        verify(ticketTable, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+    @Test
+    @DisplayName("Should map a failed version condition on the fast path to a concurrent modification")
+    void shouldMapFastPathConditionFailure() {
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().build()));
+        StepVerifier.create(repository.saveIfVersion(ticket().reserveTicket("customer-1", "order-1", 10), 0))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+    }
+    private static Ticket ticket() {
+        return new Ticket("ticket-1", "event-1", TicketStatus.AVAILABLE, null, null, null, null, 0,
+            LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,62 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.EventEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.OrderEntity;
+import com.nequi.tickets.infrastructure.repository.dynamodb.entity.TicketEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityTableSchemas Tests")
+class EntityTableSchemasTest {
+    @Test
+    @DisplayName("Event schema should produce the same item as the bean schema")
+    void eventSchemaShouldMatchBeanSchema() {
+        EventEntity entity = EntityMapper.toEventEntity(
+            Event.create("event-1", "Rock Concert", LocalDateTime.now().plusDays(30), "Arena", 1000));
+        assertSameItem(TableSchema.fromBean(EventEntity.class), EntityTableSchemas.EVENT, entity);
+        assertEquals(
+            TableSchema.fromBean(EventEntity.class).tableMetadata().primaryPartitionKey(),
+            EntityTableSchemas.EVENT.tableMetadata().primaryPartitionKey());
+    }
+    @Test
+    @DisplayName("Ticket schema should produce the same item and indices as the bean schema")
+    void ticketSchemaShouldMatchBeanSchema() {
+        TicketEntity entity = EntityMapper.toTicketEntity(
+            Ticket.createAvailableTicket("ticket-1", "event-1").reserveTicket("customer-1", "order-1", 10));
+        TableSchema<TicketEntity> beanSchema = TableSchema.fromBean(TicketEntity.class);
+        assertSameItem(beanSchema, EntityTableSchemas.TICKET, entity);
+        assertEquals(
+            beanSchema.tableMetadata().indices().size(),
+            EntityTableSchemas.TICKET.tableMetadata().indices().size());
+        assertEquals(
+            beanSchema.tableMetadata().indexSortKey("eventId-status-index"),
+            EntityTableSchemas.TICKET.tableMetadata().indexSortKey("eventId-status-index"));
+    }
+    @Test
+    @DisplayName("Order schema should produce the same item as the bean schema")
+    void orderSchemaShouldMatchBeanSchema() {
+        OrderEntity entity = EntityMapper.toOrderEntity(
+            Order.createPending("order-1", "event-1", "customer-1", List.of("ticket-1", "ticket-2")));
+        assertSameItem(TableSchema.fromBean(OrderEntity.class), EntityTableSchemas.ORDER, entity);
+        assertEquals(
+            TableSchema.fromBean(OrderEntity.class).tableMetadata().indices().size(),
+            EntityTableSchemas.ORDER.tableMetadata().indices().size());
+    }
+    private static <T> void assertSameItem(TableSchema<T> beanSchema, TableSchema<T> staticSchema, T entity) {
+        Map<String, AttributeValue> expected = beanSchema.itemToMap(entity, true);
+        Map<String, AttributeValue> actual = staticSchema.itemToMap(entity, true);
+        assertEquals(expected, actual);
+        assertEquals(expected, beanSchema.itemToMap(staticSchema.mapToItem(actual), true));
+    }
+}
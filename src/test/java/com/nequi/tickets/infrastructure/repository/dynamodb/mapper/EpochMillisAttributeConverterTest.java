@@ -0,0 +1,42 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EpochMillisAttributeConverter Tests")
+class EpochMillisAttributeConverterTest {
+    private final EpochMillisAttributeConverter converter = new EpochMillisAttributeConverter();
+    @Test
+    @DisplayName("Should write timestamps as numeric epoch millis")
+    void shouldWriteNumericAttribute() {
+        AttributeValue value = converter.transformFrom(1_700_000_000_123L);
+        assertEquals("1700000000123", value.n());
+        assertNull(value.s());
+    }
+    @Test
+    @DisplayName("Should read numeric epoch millis")
+    void shouldReadNumericAttribute() {
+        assertEquals(1_700_000_000_123L, converter.transformTo(AttributeValue.builder().n("1700000000123").build()));
+    }
+    @Test
+    @DisplayName("Should read legacy ISO string timestamps")
+    void shouldReadLegacyIsoString() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_000_000);
+        Long millis = converter.transformTo(AttributeValue.builder().s(dateTime.toString()).build());
+        assertEquals(EpochMillisAttributeConverter.toEpochMillis(dateTime), millis);
+        assertEquals(dateTime, EpochMillisAttributeConverter.fromEpochMillis(millis));
+    }
+    @Test
+    @DisplayName("Should map missing values to null")
+    void shouldHandleNulls() {
+        assertTrue(converter.transformFrom(null).nul());
+        assertNull(converter.transformTo(AttributeValue.builder().nul(true).build()));
+        assertNull(EpochMillisAttributeConverter.toEpochMillis(null));
+        assertNull(EpochMillisAttributeConverter.fromEpochMillis(null));
+    }
+}
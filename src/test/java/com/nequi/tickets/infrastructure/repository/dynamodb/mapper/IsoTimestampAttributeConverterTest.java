@@ -0,0 +1,36 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IsoTimestampAttributeConverter Tests")
+class IsoTimestampAttributeConverterTest {
+    private final IsoTimestampAttributeConverter converter = new IsoTimestampAttributeConverter();
+    @Test
+    @DisplayName("Should write timestamps as ISO strings so they match string key attributes")
+    void shouldWriteStringAttribute() {
+        AttributeValue value = converter.transformFrom("2025-03-14T15:09:26.535");
+        assertEquals("2025-03-14T15:09:26.535", value.s());
+        assertNull(value.n());
+    }
+    @Test
+    @DisplayName("Should read numeric epoch millis written by earlier versions")
+    void shouldReadNumericAttribute() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_000_000);
+        String millis = Long.toString(EpochMillisAttributeConverter.toEpochMillis(dateTime));
+        assertEquals(dateTime.toString(), converter.transformTo(AttributeValue.builder().n(millis).build()));
+    }
+    @Test
+    @DisplayName("Should map missing values to null")
+    void shouldHandleNulls() {
+        assertTrue(converter.transformFrom(null).nul());
+        assertNull(converter.transformTo(AttributeValue.builder().nul(true).build()));
+        assertNull(IsoTimestampAttributeConverter.fromIsoString(null));
+        assertNull(IsoTimestampAttributeConverter.toIsoString(null));
+    }
+}
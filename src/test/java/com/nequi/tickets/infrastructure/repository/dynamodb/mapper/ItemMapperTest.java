@@ -0,0 +1,60 @@
+package com.nequi.tickets.infrastructure.repository.dynamodb.mapper;
+
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ItemMapper Tests")
+class ItemMapperTest {
+    @Test
+    @DisplayName("Should write the same event item as the table schema")
+    void shouldWriteSameEventItemAsSchema() {
+        Event event = Event.createProvisioning("event-1", "Rock Concert", LocalDateTime.now().plusDays(30), "Arena", 1000);
+        assertEquals(
+            EntityTableSchemas.EVENT.itemToMap(EntityMapper.toEventEntity(event), true),
+            ItemMapper.toEventItem(event));
+    }
+    @Test
+    @DisplayName("Should write the same ticket item as the table schema and read it back")
+    void shouldRoundTripTicket() {
+        Ticket ticket = Ticket.createAvailableTicket("ticket-1", "event-1", LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+            .reserveTicket("customer-1", "order-1", 10);
+        Map<String, AttributeValue> item = ItemMapper.toTicketItem(ticket);
+        assertEquals(EntityTableSchemas.TICKET.itemToMap(EntityMapper.toTicketEntity(ticket), true), item);
+        assertEquals(EntityMapper.toTicket(EntityTableSchemas.TICKET.mapToItem(item)), ItemMapper.toTicket(item));
+    }
+    @Test
+    @DisplayName("Should write the same order item as the table schema and read it back")
+    void shouldRoundTripOrder() {
+        Order order = Order.createPending("order-1", "event-1", "customer-1", List.of("ticket-1", "ticket-2"));
+        Map<String, AttributeValue> item = ItemMapper.toOrderItem(order);
+        assertEquals(EntityTableSchemas.ORDER.itemToMap(EntityMapper.toOrderEntity(order), true), item);
+        assertEquals(List.of("ticket-1", "ticket-2"), ItemMapper.toOrder(item).ticketIds());
+        assertEquals(order.orderId(), ItemMapper.toOrder(item).orderId());
+        assertEquals(order.createdAt().toString(), item.get(ItemMapper.CREATED_AT).s());
+        assertEquals(order.createdAt(), ItemMapper.toOrder(item).createdAt());
+    }
+    @Test
+    @DisplayName("Should read legacy ISO timestamps and default missing event status to active")
+    void shouldReadLegacyEventItem() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        Map<String, AttributeValue> item = new HashMap<>(ItemMapper.toEventItem(
+            Event.create("event-1", "Rock Concert", LocalDateTime.now().plusDays(30), "Arena", 1000)));
+        item.remove(ItemMapper.STATUS);
+        item.put(ItemMapper.CREATED_AT, AttributeValue.builder().s(createdAt.toString()).build());
+        Event event = ItemMapper.toEvent(item);
+        assertTrue(event.isActive());
+        assertEquals(createdAt, event.createdAt());
+    }
+}
@@ -0,0 +1,86 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryEventRepository Tests")
+class InMemoryEventRepositoryTest {
+    private InMemoryEventRepository repository;
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryEventRepository();
+    }
+    @Test
+    @DisplayName("Should decrement inventory and bump the version when the expected version matches")
+    void shouldDecrementWhenVersionMatches() {
+        repository.save(Event.create("event-1", "Concert", LocalDateTime.now().plusDays(1), "Arena", 10)).block();
+        StepVerifier.create(repository.decrementAvailableTickets("event-1", 0, 3, 7, 3))
+            .assertNext(event -> {
+                assertEquals(7, event.availableTickets());
+                assertEquals(3, event.reservedTickets());
+                assertEquals(1, event.version());
+            })
+            .verifyComplete();
+    }
+    @Test
+    @DisplayName("Should reject a decrement with a stale version")
+    void shouldRejectStaleVersion() {
+        repository.save(Event.create("event-1", "Concert", LocalDateTime.now().plusDays(1), "Arena", 10)).block();
+        repository.decrementAvailableTickets("event-1", 0, 1, 9, 1).block();
+        StepVerifier.create(repository.decrementAvailableTickets("event-1", 0, 1, 9, 1))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+        assertEquals(9, repository.findById("event-1").block().availableTickets());
+    }
+    @Test
+    @DisplayName("Should reject a decrement larger than the available tickets")
+    void shouldRejectInsufficientInventory() {
+        repository.save(Event.create("event-1", "Concert", LocalDateTime.now().plusDays(1), "Arena", 2)).block();
+        StepVerifier.create(repository.decrementAvailableTickets("event-1", 0, 3, 0, 3))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+    }
+    @Test
+    @DisplayName("Should fail when the event does not exist")
+    void shouldFailWhenEventMissing() {
+        StepVerifier.create(repository.decrementAvailableTickets("missing", 0, 1, 0, 1))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+    @Test
+    @DisplayName("Should let exactly one of many concurrent decrements on the same version win")
+    void shouldAllowSingleWinnerUnderContention() {
+        repository.save(Event.create("event-1", "Concert", LocalDateTime.now().plusDays(1), "Arena", 100)).block();
+        Long winners = Flux.range(0, 50)
+            .parallel()
+            .runOn(Schedulers.parallel())
+            .flatMap(i -> repository.decrementAvailableTickets("event-1", 0, 1, 99, 1)
+                .map(event -> 1L)
+                .onErrorReturn(ConcurrentModificationException.class, 0L))
+            .sequential()
+            .reduce(0L, Long::sum)
+            .block();
+        assertEquals(1L, winners);
+        assertEquals(1, repository.findById("event-1").block().version());
+    }
+    @Test
+    @DisplayName("Should return upcoming events from the date index")
+    void shouldFindUpcomingEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(Event.create("past", "Past", now.minusDays(1), "Arena", 10)).block();
+        repository.save(Event.create("future", "Future", now.plusDays(1), "Arena", 10)).block();
+        StepVerifier.create(repository.findUpcomingEvents(now).map(Event::eventId))
+            .expectNext("future")
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,105 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("stress")
+@DisplayName("In-memory repository race Tests")
+class InMemoryRepositoryRaceTest {
+    private static final int ROUNDS = 5_000;
+    private ExecutorService actors;
+    @BeforeEach
+    void setUp() {
+        actors = Executors.newFixedThreadPool(2);
+    }
+    @AfterEach
+    void tearDown() {
+        actors.shutdownNow();
+    }
+    @Test
+    @DisplayName("Exactly one of two racing decrements on the same version wins")
+    void shouldLetOneDecrementWin() {
+        Map<String, Integer> outcomes = race(() -> {
+            InMemoryEventRepository repository = new InMemoryEventRepository();
+            repository.save(Event.create("event-1", "Concert", LocalDateTime.now().plusDays(1), "Arena", 10)).block();
+            return new Actors(
+                outcome(repository.decrementAvailableTickets("event-1", 0, 2, 8, 2)),
+                outcome(repository.decrementAvailableTickets("event-1", 0, 2, 8, 2)),
+                () -> {
+                    Event event = repository.findById("event-1").block();
+                    return event.availableTickets() + "/" + event.reservedTickets() + "@" + event.version();
+                });
+        });
+        assertTrue(Set.of("ok, conflict, 8/2@1", "conflict, ok, 8/2@1").containsAll(outcomes.keySet()), outcomes::toString);
+    }
+    @Test
+    @DisplayName("Exactly one of two orders racing for the same ticket claims it")
+    void shouldLetOneTicketClaimWin() {
+        Map<String, Integer> outcomes = race(() -> {
+            InMemoryTicketRepository repository = new InMemoryTicketRepository();
+            Ticket ticket = Ticket.createAvailableTicket("ticket-1", "event-1");
+            repository.save(ticket).block();
+            return new Actors(
+                outcome(repository.saveIfVersion(ticket.reserveTicket("customer-1", "order-1"), 0)),
+                outcome(repository.saveIfVersion(ticket.reserveTicket("customer-2", "order-2"), 0)),
+                () -> {
+                    Ticket claimed = repository.findById("ticket-1").block();
+                    return claimed.orderId() + "@" + repository.countByEventIdAndStatus("event-1", TicketStatus.RESERVED).block();
+                });
+        });
+        assertTrue(Set.of("ok, conflict, order-1@1", "conflict, ok, order-2@1").containsAll(outcomes.keySet()), outcomes::toString);
+    }
+    private Map<String, Integer> race(Supplier<Actors> setup) {
+        Map<String, Integer> outcomes = new TreeMap<>();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        for (int round = 0; round < ROUNDS; round++) {
+            Actors contenders = setup.get();
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> act(barrier, contenders.first()), actors);
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> act(barrier, contenders.second()), actors);
+            String outcome = first.join() + ", " + second.join() + ", " + contenders.state().get();
+            outcomes.merge(outcome, 1, Integer::sum);
+        }
+        System.out.println("Race outcomes over " + ROUNDS + " rounds: " + outcomes);
+        return outcomes;
+    }
+    private static String act(CyclicBarrier barrier, Supplier<String> actor) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return actor.get();
+    }
+    private static Supplier<String> outcome(Mono<?> operation) {
+        return () -> {
+            try {
+                operation.block();
+                return "ok";
+            } catch (ConcurrentModificationException e) {
+                return "conflict";
+            }
+        };
+    }
+    private record Actors(Supplier<String> first, Supplier<String> second, Supplier<String> state) {
+    }
+}
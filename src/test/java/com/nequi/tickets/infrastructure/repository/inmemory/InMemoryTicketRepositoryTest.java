@@ -0,0 +1,64 @@
+package com.nequi.tickets.infrastructure.repository.inmemory;
+
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryTicketRepository Tests")
+class InMemoryTicketRepositoryTest {
+    private InMemoryTicketRepository repository;
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryTicketRepository();
+    }
+    @Test
+    @DisplayName("Should keep the event and status index in sync when a ticket changes status")
+    void shouldReindexOnStatusChange() {
+        StepVerifier.create(repository.saveStream(Flux.range(0, 5)
+                .map(i -> Ticket.createAvailableTicket("ticket-" + i, "event-1"))))
+            .expectNext(5L)
+            .verifyComplete();
+        repository.save(pending("ticket-0", "event-1", LocalDateTime.now().plusMinutes(5))).block();
+        assertEquals(4L, repository.countAvailableByEventId("event-1").block());
+        assertEquals(1L, repository.countByEventIdAndStatus("event-1", TicketStatus.PENDING_CONFIRMATION).block());
+        assertEquals(List.of("ticket-0"), repository.findByOrderId("order-ticket-0").map(Ticket::ticketId).collectList().block());
+        assertEquals(0L, repository.findByEventId("event-2").count().block());
+    }
+    @Test
+    @DisplayName("Should only return pending confirmations that expired before the cutoff")
+    void shouldFindExpiredReservations() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        repository.save(pending("expired", "event-1", cutoff.minusMinutes(1))).block();
+        repository.save(pending("boundary", "event-1", cutoff)).block();
+        repository.save(pending("active", "event-1", cutoff.plusMinutes(1))).block();
+        repository.save(pending("confirmed", "event-1", cutoff.minusMinutes(2))).block();
+        repository.save(Ticket.createAvailableTicket("confirmed", "event-1")).block();
+        StepVerifier.create(repository.findExpiredReservations(cutoff).map(Ticket::ticketId))
+            .expectNext("expired")
+            .verifyComplete();
+    }
+    @Test
+    @DisplayName("Should remove deleted tickets from every index")
+    void shouldDeleteByEventId() {
+        repository.save(pending("ticket-1", "event-1", LocalDateTime.now().minusMinutes(1))).block();
+        repository.save(Ticket.createAvailableTicket("ticket-2", "event-1")).block();
+        repository.deleteByEventId("event-1").block();
+        assertEquals(0L, repository.findByEventId("event-1").count().block());
+        assertEquals(0L, repository.findByCustomerId("customer-1").count().block());
+        assertEquals(0L, repository.findExpiredReservations(LocalDateTime.now()).count().block());
+    }
+    private Ticket pending(String ticketId, String eventId, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Ticket(ticketId, eventId, TicketStatus.PENDING_CONFIRMATION, "customer-1", "order-" + ticketId,
+            now, expiresAt, 1, now, now);
+    }
+}
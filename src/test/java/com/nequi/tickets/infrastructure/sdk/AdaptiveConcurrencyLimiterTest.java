@@ -0,0 +1,136 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+    @Test
+    @DisplayName("Should queue calls above the limit and shed once the queue is full")
+    void shouldQueueThenShed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("dynamodb", true, 2, 1, 10, 1, Duration.ofSeconds(5));
+        List<Sinks.One<String>> held = hold(limiter, 2);
+        AtomicReference<String> queued = new AtomicReference<>();
+        limiter.mono(Mono.just("queued")).subscribe(queued::set);
+        assertEquals(2, limiter.inFlight());
+        assertEquals(1, limiter.queueDepth());
+        StepVerifier.create(limiter.mono(Mono.just("shed")))
+            .expectError(ConcurrencyLimitExceededException.class)
+            .verify(Duration.ofSeconds(1));
+        held.get(0).tryEmitValue("done");
+        assertEquals("queued", queued.get());
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queueDepth());
+        assertEquals(1, limiter.shedQueueFull());
+    }
+    @Test
+    @DisplayName("Should shed a queued call that waits longer than the max wait")
+    void shouldShedAfterMaxWait() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("sqs", true, 1, 1, 10, 5, Duration.ofMillis(50));
+        hold(limiter, 1);
+        StepVerifier.create(limiter.mono(Mono.just("late")))
+            .expectError(ConcurrencyLimitExceededException.class)
+            .verify(Duration.ofSeconds(2));
+        assertEquals(0, limiter.queueDepth());
+        assertEquals(1, limiter.inFlight());
+        assertEquals(1, limiter.shedTimedOut());
+    }
+    @Test
+    @DisplayName("Should free the queue slot of a caller that cancels while waiting")
+    void shouldDropCancelledWaiters() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("dynamodb", true, 1, 1, 10, 5, Duration.ofSeconds(5));
+        List<Sinks.One<String>> held = hold(limiter, 1);
+        Disposable waiting = limiter.mono(Mono.just("cancelled")).subscribe();
+        assertEquals(1, limiter.queueDepth());
+        waiting.dispose();
+        assertEquals(0, limiter.queueDepth());
+        held.get(0).tryEmitValue("done");
+        assertEquals(0, limiter.inFlight());
+    }
+    @Test
+    @DisplayName("Should raise the limit while latency stays at its baseline")
+    void shouldGrowLimitWhileLatencyIsStable() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("dynamodb", true, 10, 1, 100, 0, Duration.ZERO, clock::get);
+        for (int i = 0; i < 5; i++) {
+            round(limiter, clock, 10);
+        }
+        assertTrue(limiter.limit() > 10);
+        assertTrue(limiter.limit() <= 100);
+    }
+    @Test
+    @DisplayName("Should lower the limit when latency inflates above the long term baseline")
+    void shouldShrinkLimitWhenLatencyInflates() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("dynamodb", true, 20, 1, 100, 0, Duration.ZERO, clock::get);
+        for (int i = 0; i < 3; i++) {
+            round(limiter, clock, 10);
+        }
+        int baseline = limiter.limit();
+        for (int i = 0; i < 3; i++) {
+            round(limiter, clock, 60);
+        }
+        assertTrue(limiter.limit() < baseline);
+        assertEquals(0, limiter.inFlight());
+    }
+    @Test
+    @DisplayName("Should back off multiplicatively when the service throttles")
+    void shouldBackOffOnThrottling() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("dynamodb", true, 20, 1, 100, 0, Duration.ZERO);
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+            .build();
+        StepVerifier.create(limiter.mono(Mono.error(throttled)))
+            .expectError(ProvisionedThroughputExceededException.class)
+            .verify(Duration.ofSeconds(1));
+        assertEquals(18, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+    @Test
+    @DisplayName("Should pass calls straight through when disabled")
+    void shouldPassThroughWhenDisabled() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("sqs", false, 1, 1, 1, 0, Duration.ZERO);
+        hold(limiter, 3);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.shedQueueFull());
+    }
+    @Test
+    @DisplayName("Should reject invalid limiter settings")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveConcurrencyLimiter("sqs", true, 10, 0, 10, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveConcurrencyLimiter("sqs", true, 10, 20, 10, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveConcurrencyLimiter("sqs", true, 10, 1, 10, -1, Duration.ZERO));
+    }
+    private List<Sinks.One<String>> hold(AdaptiveConcurrencyLimiter limiter, int calls) {
+        List<Sinks.One<String>> held = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            Sinks.One<String> sink = Sinks.one();
+            limiter.mono(sink.asMono()).subscribe();
+            held.add(sink);
+        }
+        return held;
+    }
+    private void round(AdaptiveConcurrencyLimiter limiter, AtomicLong clock, long latencyMillis) {
+        List<Sinks.One<String>> held = hold(limiter, limiter.limit());
+        clock.addAndGet(Duration.ofMillis(latencyMillis).toNanos());
+        held.forEach(sink -> sink.tryEmitValue("done"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.nequi.tickets.infrastructure.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SdkCalls Tests")
+class SdkCallsTest {
+    @Test
+    @DisplayName("Should not count a hop when the future is already complete")
+    void shouldNotCountHopForCompletedFuture() {
+        ThreadHops hops = new ThreadHops();
+        StepVerifier.create(SdkCalls.mono(() -> CompletableFuture.completedFuture("value"))
+                .contextWrite(context -> context.put(ThreadHops.CONTEXT_KEY, hops)))
+            .expectNext("value")
+            .verifyComplete();
+        assertEquals(1, hops.calls());
+        assertEquals(0, hops.hops());
+    }
+    @Test
+    @DisplayName("Should count a hop when the future completes on another thread")
+    void shouldCountHopForFutureCompletedElsewhere() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ThreadHops hops = new ThreadHops();
+            long totalHopsBefore = ThreadHops.totalHops();
+            CompletableFuture<String> future = new CompletableFuture<>();
+            StepVerifier.create(SdkCalls.mono(() -> future)
+                    .contextWrite(context -> context.put(ThreadHops.CONTEXT_KEY, hops)))
+                .then(() -> executor.execute(() -> future.complete("value")))
+                .expectNext("value")
+                .verifyComplete();
+            assertEquals(1, hops.calls());
+            assertEquals(1, hops.hops());
+            assertTrue(ThreadHops.totalHops() > totalHopsBefore);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    @Test
+    @DisplayName("Should record failed calls without a request context")
+    void shouldRecordFailuresWithoutContext() {
+        long totalCallsBefore = ThreadHops.totalCalls();
+        StepVerifier.create(SdkCalls.mono(() -> CompletableFuture.failedFuture(new IllegalStateException("boom"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+        assertTrue(ThreadHops.totalCalls() > totalCallsBefore);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nequi.tickets.infrastructure.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReactorObservations Tests")
+class ReactorObservationsTest {
+    private ObservationRegistry registry;
+    private List<Observation.Context> stopped;
+    @BeforeEach
+    void setUp() {
+        stopped = new CopyOnWriteArrayList<>();
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+    @Test
+    @DisplayName("Should parent inner observations on the one from the subscriber context")
+    void shouldParentInnerObservation() {
+        Mono<String> inner = ReactorObservations.mono(() -> Observation.createNotStarted("inner", registry), Mono.just("value"));
+        StepVerifier.create(ReactorObservations.mono(() -> Observation.createNotStarted("outer", registry), inner))
+            .expectNext("value")
+            .verifyComplete();
+        assertEquals(2, stopped.size());
+        Observation.Context innerContext = stopped("inner");
+        Observation.Context outerContext = stopped("outer");
+        assertNotNull(innerContext.getParentObservation());
+        assertSame(outerContext, innerContext.getParentObservation().getContextView());
+    }
+    @Test
+    @DisplayName("Should record the error and stop the observation once for a failing flux")
+    void shouldRecordErrorOnFlux() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        StepVerifier.create(ReactorObservations.flux(() -> Observation.createNotStarted("failing", registry),
+                Flux.concat(Flux.just(1), Flux.error(failure))))
+            .expectNext(1)
+            .expectErrorMatches(error -> error == failure)
+            .verify();
+        assertEquals(1, stopped.size());
+        assertSame(failure, stopped.get(0).getError());
+    }
+    private Observation.Context stopped(String name) {
+        return stopped.stream()
+            .filter(context -> name.equals(context.getName()))
+            .findFirst()
+            .orElseThrow();
+    }
+}
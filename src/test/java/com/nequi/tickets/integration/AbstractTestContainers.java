@@ -77,6 +77,10 @@ public abstract class AbstractTestContainers {
             System.out.println("✅ Tickets table created");
             createOrdersTable(dynamoDbClient).join();
             System.out.println("✅ Orders table created");
+            createIdempotencyTable(dynamoDbClient).join();
+            System.out.println("✅ Idempotency table created");
+            createEventProvisioningTable(dynamoDbClient).join();
+            System.out.println("✅ Event provisioning table created");
         } finally {
             dynamoDbClient.close();
         }
@@ -322,6 +326,64 @@ public abstract class AbstractTestContainers {
                 return null;
             });
     }
+    private static CompletableFuture<Void> createIdempotencyTable(DynamoDbAsyncClient client) {
+        CreateTableRequest request = CreateTableRequest.builder()
+            .tableName("idempotency")
+            .keySchema(
+                KeySchemaElement.builder()
+                    .attributeName("idempotencyKey")
+                    .keyType(KeyType.HASH)
+                    .build()
+            )
+            .attributeDefinitions(
+                AttributeDefinition.builder()
+                    .attributeName("idempotencyKey")
+                    .attributeType(ScalarAttributeType.S)
+                    .build()
+            )
+            .provisionedThroughput(ProvisionedThroughput.builder()
+                .readCapacityUnits(5L)
+                .writeCapacityUnits(5L)
+                .build())
+            .build();
+        return client.createTable(request)
+            .thenApply(response -> (Void) null)
+            .exceptionally(ex -> {
+                if (!ex.getMessage().contains("Table already exists")) {
+                    throw new RuntimeException("Failed to create idempotency table", ex);
+                }
+                return null;
+            });
+    }
+    private static CompletableFuture<Void> createEventProvisioningTable(DynamoDbAsyncClient client) {
+        CreateTableRequest request = CreateTableRequest.builder()
+            .tableName("event-provisioning")
+            .keySchema(
+                KeySchemaElement.builder()
+                    .attributeName("eventId")
+                    .keyType(KeyType.HASH)
+                    .build()
+            )
+            .attributeDefinitions(
+                AttributeDefinition.builder()
+                    .attributeName("eventId")
+                    .attributeType(ScalarAttributeType.S)
+                    .build()
+            )
+            .provisionedThroughput(ProvisionedThroughput.builder()
+                .readCapacityUnits(5L)
+                .writeCapacityUnits(5L)
+                .build())
+            .build();
+        return client.createTable(request)
+            .thenApply(response -> (Void) null)
+            .exceptionally(ex -> {
+                if (!ex.getMessage().contains("Table already exists")) {
+                    throw new RuntimeException("Failed to create event provisioning table", ex);
+                }
+                return null;
+            });
+    }
     private static void createSqsQueues() {
         System.out.println("📬 Creating SQS queues...");
         SqsAsyncClient sqsClient = SqsAsyncClient.builder()
@@ -67,7 +67,7 @@ class SQSMessageQueueServiceIntegrationTest extends BaseIntegrationTest {
     }
     @Test
     void shouldRejectNullOrderId() {
-        StepVerifier.create(messageQueueService.sendOrderForProcessing(null))
+        StepVerifier.create(messageQueueService.sendOrderForProcessing((String) null))
             .expectError(IllegalArgumentException.class)
             .verify();
     }
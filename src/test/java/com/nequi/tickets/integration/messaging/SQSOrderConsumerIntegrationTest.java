@@ -3,10 +3,16 @@ package com.nequi.tickets.integration.messaging;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nequi.tickets.domain.model.Order;
 import com.nequi.tickets.domain.model.OrderStatus;
-import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.domain.repository.IdempotencyRepository;
+import com.nequi.tickets.infrastructure.messaging.OrderIdempotencyGuard;
+import com.nequi.tickets.infrastructure.messaging.OrderLatencyMetrics;
+import com.nequi.tickets.infrastructure.messaging.sqs.SQSMessageQueueService;
+import com.nequi.tickets.infrastructure.messaging.sqs.SQSObservations;
 import com.nequi.tickets.infrastructure.messaging.sqs.SQSOrderConsumer;
 import com.nequi.tickets.integration.BaseIntegrationTest;
 import com.nequi.tickets.usecase.ProcessOrderUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,9 +43,11 @@ class SQSOrderConsumerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
     @Autowired
-    private MessageQueueService messageQueueService;
+    private SQSMessageQueueService messageQueueService;
     @Mock
     private ProcessOrderUseCase processOrderUseCase;
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
     @Value("${aws.sqs.order-processing-queue-url}")
     private String queueUrl;
     private SQSOrderConsumer consumer;
@@ -58,15 +66,25 @@ class SQSOrderConsumerIntegrationTest extends BaseIntegrationTest {
                 Thread.currentThread().interrupt();
             }
         }
+        when(idempotencyRepository.exists(anyString())).thenReturn(Mono.just(false));
+        when(idempotencyRepository.markProcessed(anyString(), any())).thenReturn(Mono.just(true));
         consumer = new SQSOrderConsumer(
             sqsClient,
             queueUrl,
+            "",
             false,
             10,
             20,
             30,
+            10,
+            3,
+            1,
             processOrderUseCase,
-            objectMapper
+            new OrderIdempotencyGuard(idempotencyRepository, 1000, 24),
+            messageQueueService,
+            objectMapper,
+            new OrderLatencyMetrics(new SimpleMeterRegistry()),
+            new SQSObservations(ObservationRegistry.NOOP)
         );
     }
     @Test
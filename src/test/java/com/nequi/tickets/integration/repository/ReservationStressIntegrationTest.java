@@ -0,0 +1,126 @@
+package com.nequi.tickets.integration.repository;
+
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.InsufficientTicketsException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import com.nequi.tickets.domain.repository.EventRepository;
+import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.integration.BaseIntegrationTest;
+import com.nequi.tickets.usecase.ReserveTicketsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("stress")
+@DisplayName("Reservation Stress Tests against DynamoDB")
+class ReservationStressIntegrationTest extends BaseIntegrationTest {
+    private static final int CAPACITY = 200;
+    private static final int RESERVATIONS = 1_000;
+    private static final int THREADS = 32;
+    private static final int MAX_TICKETS_PER_ORDER = 4;
+    @Autowired
+    private ReserveTicketsUseCase reserveTicketsUseCase;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TicketRepository ticketRepository;
+    private String eventId;
+    @BeforeEach
+    void setUp() {
+        eventId = "stress-" + UUID.randomUUID();
+        eventRepository.save(Event.create(eventId, "Flash sale", LocalDateTime.now().plusDays(30), "Arena", CAPACITY)).block();
+        ticketRepository.saveStream(Flux.range(0, CAPACITY)
+            .map(i -> Ticket.createAvailableTicket(eventId + "-ticket-" + i, eventId))).block();
+    }
+    @Test
+    @DisplayName("Should never oversell or double-assign tickets through the DynamoDB repositories")
+    void shouldKeepInventoryInvariantsUnderContention() throws InterruptedException {
+        Map<String, List<Ticket>> reservedByOrder = new ConcurrentHashMap<>();
+        LongAdder soldOut = new LongAdder();
+        LongAdder conflicts = new LongAdder();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(RESERVATIONS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            int quantity = 1 + i % MAX_TICKETS_PER_ORDER;
+            String customerId = "customer-" + i;
+            String orderId = "order-" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    reservedByOrder.put(orderId, reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId).block());
+                } catch (InsufficientTicketsException e) {
+                    soldOut.increment();
+                } catch (ConcurrentModificationException e) {
+                    conflicts.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        assertTrue(done.await(5, TimeUnit.MINUTES), "Stress run did not finish in time");
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        executor.shutdownNow();
+        System.out.printf("DynamoDB reservation stress: %d reservations on %d threads in %.2fs (%.0f/s), "
+                + "accepted=%d, sold-out=%d, version conflicts=%d, unexpected=%d%n",
+            RESERVATIONS, THREADS, elapsedSeconds, RESERVATIONS / elapsedSeconds,
+            reservedByOrder.size(), soldOut.sum(), conflicts.sum(), unexpected.size());
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertFalse(reservedByOrder.isEmpty());
+        assertInventoryMatchesTickets(reservedByOrder);
+    }
+    private void assertInventoryMatchesTickets(Map<String, List<Ticket>> reservedByOrder) {
+        Event event = eventRepository.findById(eventId, ReadConsistency.STRONG).block();
+        List<Ticket> tickets = Flux.range(0, CAPACITY)
+            .flatMap(i -> ticketRepository.findById(eventId + "-ticket-" + i))
+            .collectList()
+            .block();
+        assertNotNull(event);
+        assertNotNull(tickets);
+        assertEquals(CAPACITY, tickets.size());
+        assertEquals(CAPACITY, event.availableTickets() + event.reservedTickets()
+            + event.getSoldTickets() + event.complimentaryTickets());
+        Map<TicketStatus, Long> ticketsByStatus = tickets.stream()
+            .collect(Collectors.groupingBy(Ticket::status, Collectors.counting()));
+        assertEquals(event.availableTickets(), ticketsByStatus.getOrDefault(TicketStatus.AVAILABLE, 0L).intValue());
+        assertEquals(event.reservedTickets(), ticketsByStatus.getOrDefault(TicketStatus.RESERVED, 0L).intValue());
+        int acceptedTickets = reservedByOrder.values().stream().mapToInt(List::size).sum();
+        assertEquals(event.reservedTickets(), acceptedTickets);
+        Set<String> assigned = new HashSet<>();
+        Map<String, Ticket> ticketsById = tickets.stream().collect(Collectors.toMap(Ticket::ticketId, ticket -> ticket));
+        reservedByOrder.forEach((orderId, reserved) -> reserved.forEach(ticket -> {
+            assertTrue(assigned.add(ticket.ticketId()), () -> "Ticket " + ticket.ticketId() + " assigned to more than one order");
+            assertEquals(orderId, ticketsById.get(ticket.ticketId()).orderId());
+        }));
+    }
+}
@@ -1,11 +1,13 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.exception.EventNotFoundException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.infrastructure.id.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +20,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +46,8 @@ class AssignComplimentaryTicketUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new AssignComplimentaryTicketUseCase(eventRepository, ticketRepository, orderRepository);
+        useCase = new AssignComplimentaryTicketUseCase(
+            eventRepository, ticketRepository, orderRepository, new TimeOrderedIdGenerator(1));
     }
 
     @Test
@@ -79,15 +85,15 @@ class AssignComplimentaryTicketUseCaseTest {
             java.util.List.of("ticket-789")
         );
 
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.just(availableTicket));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(savedOrder));
-        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
+        when(ticketRepository.saveIfVersion(any(Ticket.class), eq(0))).thenAnswer(invocation -> {
             Ticket ticket = invocation.getArgument(0);
             return Mono.just(ticket);
         });
-        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+        when(eventRepository.saveIfVersion(any(Event.class), eq(0))).thenAnswer(invocation -> {
             Event e = invocation.getArgument(0);
             return Mono.just(e);
         });
@@ -106,21 +112,21 @@ class AssignComplimentaryTicketUseCaseTest {
             .verifyComplete();
 
         // Verify interactions
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findById(eventId, ReadConsistency.STRONG);
         verify(ticketRepository).findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
         verify(orderRepository).save(argThat(order -> 
             order.eventId().equals(eventId) &&
             order.customerId().equals(customerId) &&
             order.status() == OrderStatus.CONFIRMED
         ));
-        verify(ticketRepository).save(argThat(ticket -> 
+        verify(ticketRepository).saveIfVersion(argThat(ticket -> 
             ticket.ticketId().equals("ticket-789") &&
             ticket.status() == TicketStatus.COMPLIMENTARY
-        ));
+        ), eq(0));
         
         // Capture and verify the event that was saved
         ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
-        verify(eventRepository).save(eventCaptor.capture());
+        verify(eventRepository).saveIfVersion(eventCaptor.capture(), eq(0));
         Event savedEvent = eventCaptor.getValue();
         assertEquals(eventId, savedEvent.eventId());
         assertEquals(999, savedEvent.availableTickets());
@@ -135,7 +141,7 @@ class AssignComplimentaryTicketUseCaseTest {
         String customerId = "customer-456";
         String reason = "VIP guest";
 
-        when(eventRepository.findById(eventId)).thenReturn(Mono.empty());
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.empty());
 
         // When
         Mono<Ticket> result = useCase.execute(eventId, customerId, reason);
@@ -145,7 +151,7 @@ class AssignComplimentaryTicketUseCaseTest {
             .expectError(EventNotFoundException.class)
             .verify();
 
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findById(eventId, ReadConsistency.STRONG);
         verifyNoInteractions(ticketRepository, orderRepository);
     }
 
@@ -164,7 +170,14 @@ class AssignComplimentaryTicketUseCaseTest {
             "Arena", 
             1000);
 
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
+        Event assignedEvent = event.assignComplimentaryTicket(1);
+
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG))
+            .thenReturn(Mono.just(event), Mono.just(assignedEvent));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt())).thenAnswer(invocation -> {
+            Event e = invocation.getArgument(0);
+            return Mono.just(e);
+        });
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.empty());
 
@@ -176,11 +189,75 @@ class AssignComplimentaryTicketUseCaseTest {
             .expectError(InsufficientTicketsException.class)
             .verify();
 
-        verify(eventRepository, atLeast(1)).findById(eventId);
-        verify(ticketRepository, atLeast(1)).findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
+        verify(ticketRepository).findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
+        verify(eventRepository).saveIfVersion(argThat(e -> 
+            e.availableTickets() == 1000 && e.complimentaryTickets() == 0
+        ), eq(assignedEvent.version()));
         verifyNoInteractions(orderRepository);
     }
 
+    @Test
+    @DisplayName("Should skip tickets claimed concurrently and assign the next available one")
+    void shouldSkipConflictingTicketClaims() {
+        // Given
+        String eventId = "event-123";
+        Event event = Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Arena", 1000);
+        Ticket taken = new Ticket("ticket-1", eventId, TicketStatus.AVAILABLE, null, null, null, null, 0,
+            LocalDateTime.now(), LocalDateTime.now());
+        Ticket free = new Ticket("ticket-2", eventId, TicketStatus.AVAILABLE, null, null, null, null, 0,
+            LocalDateTime.now(), LocalDateTime.now());
+
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(0))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
+            .thenReturn(Flux.just(taken, free));
+        when(ticketRepository.saveIfVersion(argThat(ticket -> ticket != null && ticket.ticketId().equals("ticket-1")), eq(0)))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Ticket", "ticket-1", 0, 1)));
+        when(ticketRepository.saveIfVersion(argThat(ticket -> ticket != null && ticket.ticketId().equals("ticket-2")), eq(0)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(eventId, "customer-456", "VIP guest"))
+            .assertNext(ticket -> {
+                assertEquals("ticket-2", ticket.ticketId());
+                assertEquals(TicketStatus.COMPLIMENTARY, ticket.status());
+            })
+            .verifyComplete();
+
+        verify(orderRepository).save(argThat(order -> order.ticketIds().equals(List.of("ticket-2"))));
+    }
+
+    @Test
+    @DisplayName("Should re-read the event and retry the inventory write on a version conflict")
+    void shouldRetryEventWriteOnVersionConflict() {
+        // Given
+        String eventId = "event-123";
+        Event event = Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Arena", 1000);
+        Event concurrentlyUpdated = event.reserveTickets(2);
+        Ticket availableTicket = new Ticket("ticket-1", eventId, TicketStatus.AVAILABLE, null, null, null, null, 0,
+            LocalDateTime.now(), LocalDateTime.now());
+
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG))
+            .thenReturn(Mono.just(event), Mono.just(concurrentlyUpdated));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(0)))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Event", eventId, 0, 1)));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(1))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
+            .thenReturn(Flux.just(availableTicket));
+        when(ticketRepository.saveIfVersion(any(Ticket.class), eq(0))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When / Then
+        StepVerifier.create(useCase.execute(eventId, "customer-456", "VIP guest"))
+            .assertNext(ticket -> assertEquals(TicketStatus.COMPLIMENTARY, ticket.status()))
+            .verifyComplete();
+
+        verify(eventRepository).saveIfVersion(argThat(e -> 
+            e.availableTickets() == 997 && e.reservedTickets() == 2 && e.complimentaryTickets() == 1
+        ), eq(1));
+    }
+
     @Test
     @DisplayName("Should validate required parameters")
     void shouldValidateRequiredParameters() {
@@ -1,11 +1,13 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.exception.InvalidStateTransitionException;
 import com.nequi.tickets.domain.exception.OrderNotFoundException;
 import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,6 +19,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +37,9 @@ class ConfirmOrderUseCaseTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private OrderMetrics orderMetrics;
+
     @InjectMocks
     private ConfirmOrderUseCase useCase;
 
@@ -87,13 +93,13 @@ class ConfirmOrderUseCaseTest {
         );
 
         // When
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1, ticket2));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket1Sold, ticket2Sold));
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class)))
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
             .thenReturn(Mono.just(updatedEvent));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(confirmedOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(confirmedOrder));
 
         // Then
         StepVerifier.create(useCase.execute(orderId))
@@ -103,12 +109,13 @@ class ConfirmOrderUseCaseTest {
             })
             .verifyComplete();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
         verify(ticketRepository).findByOrderId(orderId);
         verify(ticketRepository).saveAll(anyList());
-        verify(eventRepository).findById(eventId);
-        verify(eventRepository).save(any(Event.class));
-        verify(orderRepository).save(any(Order.class));
+        verify(eventRepository).findById(eventId, ReadConsistency.STRONG);
+        verify(eventRepository).saveIfVersion(any(Event.class), anyInt());
+        verify(orderRepository).saveIfVersion(any(Order.class), anyInt());
+        verify(orderMetrics).recordCompleted(confirmedOrder);
     }
 
     @Test
@@ -119,7 +126,7 @@ class ConfirmOrderUseCaseTest {
                 error.getMessage().equals("Order ID is required"))
             .verify();
 
-        verify(orderRepository, never()).findById(anyString());
+        verify(orderRepository, never()).findById(anyString(), any(ReadConsistency.class));
     }
 
     @Test
@@ -130,20 +137,20 @@ class ConfirmOrderUseCaseTest {
                 error.getMessage().equals("Order ID is required"))
             .verify();
 
-        verify(orderRepository, never()).findById(anyString());
+        verify(orderRepository, never()).findById(anyString(), any(ReadConsistency.class));
     }
 
     @Test
     void execute_withNonExistentOrder_shouldReturnOrderNotFoundError() {
         String orderId = "non-existent";
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.empty());
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.execute(orderId))
             .expectError(OrderNotFoundException.class)
             .verify();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
     }
 
     @Test
@@ -164,7 +171,7 @@ class ConfirmOrderUseCaseTest {
             now
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(confirmedOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(confirmedOrder));
 
         StepVerifier.create(useCase.execute(orderId))
             .assertNext(result -> {
@@ -172,9 +179,9 @@ class ConfirmOrderUseCaseTest {
             })
             .verifyComplete();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
         verify(ticketRepository, never()).findByOrderId(anyString());
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository, never()).saveIfVersion(any(Order.class), anyInt());
     }
 
     @Test
@@ -195,13 +202,13 @@ class ConfirmOrderUseCaseTest {
             null
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(pendingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(pendingOrder));
 
         StepVerifier.create(useCase.execute(orderId))
             .expectError(InvalidStateTransitionException.class)
             .verify();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
         verify(ticketRepository, never()).findByOrderId(anyString());
     }
 
@@ -223,7 +230,7 @@ class ConfirmOrderUseCaseTest {
             null
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.empty());
 
         StepVerifier.create(useCase.execute(orderId))
@@ -232,7 +239,7 @@ class ConfirmOrderUseCaseTest {
                 error.getMessage().contains("has no associated tickets"))
             .verify();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
         verify(ticketRepository).findByOrderId(orderId);
     }
 
@@ -275,12 +282,12 @@ class ConfirmOrderUseCaseTest {
             Integer.valueOf(100), Integer.valueOf(48), Integer.valueOf(2), Integer.valueOf(0), Integer.valueOf(1), now, now
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1, ticket2));
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class)))
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
             .thenReturn(Mono.just(event.confirmSale(2)));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(confirmedOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(confirmedOrder));
 
         StepVerifier.create(useCase.execute(orderId))
             .assertNext(result -> {
@@ -321,14 +328,14 @@ class ConfirmOrderUseCaseTest {
             1, now, now
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1, ticket2));
 
         StepVerifier.create(useCase.execute(orderId))
             .expectError(InvalidStateTransitionException.class)
             .verify();
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findById(orderId, ReadConsistency.STRONG);
         verify(ticketRepository).findByOrderId(orderId);
         verify(ticketRepository, never()).saveAll(anyList());
     }
@@ -374,13 +381,13 @@ class ConfirmOrderUseCaseTest {
             "Description", Integer.valueOf(100), Integer.valueOf(49), Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(2), now, now
         );
 
-        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket1Sold));
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class)))
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
             .thenReturn(Mono.just(updatedEvent));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(confirmedOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(confirmedOrder));
 
         StepVerifier.create(useCase.execute(orderId))
             .assertNext(result -> {
@@ -389,6 +396,113 @@ class ConfirmOrderUseCaseTest {
             })
             .verifyComplete();
 
-        verify(eventRepository).save(any(Event.class));
+        verify(eventRepository).saveIfVersion(any(Event.class), anyInt());
+    }
+
+    @Test
+    void execute_withConcurrentInventoryUpdate_shouldRetryAgainstFreshVersion() {
+        String orderId = "order-123";
+        String eventId = "event-456";
+        String customerId = "customer-789";
+        LocalDateTime now = LocalDateTime.now();
+
+        Order processingOrder = new Order(
+            orderId, eventId, customerId,
+            List.of("ticket-1"),
+            OrderStatus.PROCESSING,
+            1,
+            0,
+            1,
+            null,
+            now,
+            now,
+            null
+        );
+
+        Ticket ticket1 = new Ticket(
+            "ticket-1", eventId, TicketStatus.PENDING_CONFIRMATION,
+            customerId, orderId, now, now.plusMinutes(10),
+            1, now, now
+        );
+
+        Event staleEvent = new Event(
+            eventId, "Test Event", LocalDateTime.now().plusDays(1),
+            "Description",
+            Integer.valueOf(100), Integer.valueOf(49), Integer.valueOf(1), Integer.valueOf(0), Integer.valueOf(1), now, now
+        );
+
+        Event freshEvent = new Event(
+            eventId, "Test Event", staleEvent.date(),
+            "Description",
+            Integer.valueOf(100), Integer.valueOf(49), Integer.valueOf(1), Integer.valueOf(0), Integer.valueOf(2), now, now
+        );
+
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG)).thenReturn(Mono.just(processingOrder));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1));
+        when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket1.confirmTicketSale()));
+        AtomicInteger reads = new AtomicInteger();
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG))
+            .thenReturn(Mono.fromSupplier(() -> reads.getAndIncrement() == 0 ? staleEvent : freshEvent));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(1)))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Event", eventId, 1, 2)));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(2)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.execute(orderId))
+            .assertNext(result -> assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED))
+            .verifyComplete();
+
+        verify(eventRepository).saveIfVersion(argThat(event -> event.version() == 3 && event.reservedTickets() == 0), eq(2));
+    }
+
+    @Test
+    void execute_withConcurrentConfirmation_shouldReturnConfirmedOrderWithoutRecordingTwice() {
+        String orderId = "order-123";
+        String eventId = "event-456";
+        String customerId = "customer-789";
+        LocalDateTime now = LocalDateTime.now();
+
+        Order processingOrder = new Order(
+            orderId, eventId, customerId,
+            List.of("ticket-1"),
+            OrderStatus.PROCESSING,
+            1,
+            0,
+            1,
+            null,
+            now,
+            now,
+            null
+        );
+        Order confirmedElsewhere = processingOrder.confirm();
+
+        Ticket ticket1 = new Ticket(
+            "ticket-1", eventId, TicketStatus.SOLD,
+            customerId, orderId, now, now.plusMinutes(10),
+            1, now, now
+        );
+
+        Event event = new Event(
+            eventId, "Test Event", now.plusDays(1),
+            "Description",
+            Integer.valueOf(100), Integer.valueOf(49), Integer.valueOf(1), Integer.valueOf(0), Integer.valueOf(1), now, now
+        );
+
+        when(orderRepository.findById(orderId, ReadConsistency.STRONG))
+            .thenReturn(Mono.just(processingOrder))
+            .thenReturn(Mono.just(confirmedElsewhere));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(ticket1));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.saveIfVersion(any(Order.class), eq(1)))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Order", orderId, 1, 2)));
+
+        StepVerifier.create(useCase.execute(orderId))
+            .assertNext(result -> assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED))
+            .verifyComplete();
+
+        verify(orderMetrics, never()).recordCompleted(any(Order.class));
     }
 }
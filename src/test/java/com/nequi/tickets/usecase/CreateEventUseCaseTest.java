@@ -1,9 +1,16 @@
 package com.nequi.tickets.usecase;
 
+import com.nequi.tickets.config.BusinessProperties;
 import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.EventStatus;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
 import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.infrastructure.id.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +24,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,10 +40,21 @@ class CreateEventUseCaseTest {
     private EventRepository eventRepository;
     @Mock
     private TicketRepository ticketRepository;
+    @Mock
+    private EventProvisioningRepository provisioningRepository;
+    @Mock
+    private ProvisionEventTicketsUseCase provisionEventTicketsUseCase;
+    @Mock
+    private BusinessProperties businessProperties;
     private CreateEventUseCase createEventUseCase;
     @BeforeEach
     void setUp() {
-        createEventUseCase = new CreateEventUseCase(eventRepository, ticketRepository);
+        BusinessProperties.Event event = new BusinessProperties.Event();
+        event.setAsyncProvisioningThreshold(5000);
+        lenient().when(businessProperties.getEvent()).thenReturn(event);
+        createEventUseCase = new CreateEventUseCase(
+            eventRepository, ticketRepository, provisioningRepository, provisionEventTicketsUseCase, businessProperties,
+            new TimeOrderedIdGenerator(1));
     }
     @Test
     @DisplayName("Should create event successfully with valid input")
@@ -46,9 +65,9 @@ class CreateEventUseCaseTest {
         Integer totalCapacity = 1000;
         Event expectedEvent = Event.create("event-123", name, date, location, totalCapacity);
         when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(expectedEvent));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
+        when(ticketRepository.saveStream(any())).thenAnswer(invocation -> {
+            Flux<Ticket> tickets = invocation.getArgument(0);
+            return tickets.count();
         });
         Mono<Event> result = createEventUseCase.execute(name, date, location, totalCapacity);
         StepVerifier.create(result)
@@ -64,7 +83,7 @@ class CreateEventUseCaseTest {
             })
             .verifyComplete();
         verify(eventRepository, times(1)).save(any(Event.class));
-        verify(ticketRepository, times(1)).saveAll(anyList());
+        verify(ticketRepository, times(1)).saveStream(any());
     }
     @ParameterizedTest
     @NullAndEmptySource
@@ -80,7 +99,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Event name is required"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should throw exception when event date is null")
@@ -95,7 +114,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Event date is required"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should throw exception when event date is in the past")
@@ -111,7 +130,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Event date must be in the future"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @ParameterizedTest
     @NullAndEmptySource
@@ -127,7 +146,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Event location is required"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should throw exception when total capacity is null")
@@ -142,7 +161,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Total capacity must be positive"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should throw exception when total capacity is zero")
@@ -158,7 +177,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Total capacity must be positive"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should throw exception when total capacity is negative")
@@ -174,7 +193,7 @@ class CreateEventUseCaseTest {
                 throwable.getMessage().equals("Total capacity must be positive"))
             .verify();
         verify(eventRepository, never()).save(any(Event.class));
-        verify(ticketRepository, never()).saveAll(anyList());
+        verify(ticketRepository, never()).saveStream(any());
     }
     @Test
     @DisplayName("Should initialize event with all tickets available")
@@ -185,9 +204,9 @@ class CreateEventUseCaseTest {
         Integer totalCapacity = 1000;
         Event savedEvent = Event.create("event-123", name, date, location, totalCapacity);
         when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(savedEvent));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
+        when(ticketRepository.saveStream(any())).thenAnswer(invocation -> {
+            Flux<Ticket> tickets = invocation.getArgument(0);
+            return tickets.count();
         });
         Mono<Event> result = createEventUseCase.execute(name, date, location, totalCapacity);
         StepVerifier.create(result)
@@ -196,7 +215,7 @@ class CreateEventUseCaseTest {
                 assertEquals(0, event.reservedTickets());
             })
             .verifyComplete();
-        verify(ticketRepository, times(1)).saveAll(anyList());
+        verify(ticketRepository, times(1)).saveStream(any());
     }
     @Test
     @DisplayName("Should initialize event with version 0")
@@ -207,15 +226,36 @@ class CreateEventUseCaseTest {
         Integer totalCapacity = 1000;
         Event savedEvent = Event.create("event-123", name, date, location, totalCapacity);
         when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(savedEvent));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
+        when(ticketRepository.saveStream(any())).thenAnswer(invocation -> {
+            Flux<Ticket> tickets = invocation.getArgument(0);
+            return tickets.count();
         });
         Mono<Event> result = createEventUseCase.execute(name, date, location, totalCapacity);
         StepVerifier.create(result)
             .assertNext(event -> assertEquals(0, event.version()))
             .verifyComplete();
-        verify(ticketRepository, times(1)).saveAll(anyList());
+        verify(ticketRepository, times(1)).saveStream(any());
+    }
+    @Test
+    @DisplayName("Should stream one available ticket per unit of capacity")
+    void shouldStreamOneAvailableTicketPerCapacityUnit() {
+        String name = "Rock Concert";
+        LocalDateTime date = LocalDateTime.now().plusDays(30);
+        String location = "Madison Square Garden";
+        Integer totalCapacity = 1000;
+        Event savedEvent = Event.create("event-123", name, date, location, totalCapacity);
+        List<Ticket> streamedTickets = new ArrayList<>();
+        when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(savedEvent));
+        when(ticketRepository.saveStream(any())).thenAnswer(invocation -> {
+            Flux<Ticket> tickets = invocation.getArgument(0);
+            return tickets.doOnNext(streamedTickets::add).count();
+        });
+        StepVerifier.create(createEventUseCase.execute(name, date, location, totalCapacity))
+            .expectNextCount(1)
+            .verifyComplete();
+        assertEquals(totalCapacity, streamedTickets.size());
+        assertEquals(totalCapacity.longValue(), streamedTickets.stream().map(Ticket::ticketId).distinct().count());
+        assertTrue(streamedTickets.stream().allMatch(ticket -> ticket.status() == TicketStatus.AVAILABLE));
     }
     @Test
     @DisplayName("Should handle repository error")
@@ -247,4 +287,30 @@ class CreateEventUseCaseTest {
         verifyNoInteractions(eventRepository);
         verifyNoInteractions(ticketRepository);
     }
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should create event in provisioning state and generate tickets in background for large capacity")
+    void shouldCreateProvisioningEventForLargeCapacity() {
+        String name = "Stadium Tour";
+        LocalDateTime date = LocalDateTime.now().plusDays(60);
+        String location = "Wembley";
+        Integer totalCapacity = 50000;
+        when(provisioningRepository.save(any(EventProvisioning.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(eventRepository.save(any(Event.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(provisionEventTicketsUseCase.execute(anyString())).thenReturn(Mono.empty());
+        StepVerifier.create(createEventUseCase.execute(name, date, location, totalCapacity))
+            .assertNext(event -> {
+                assertEquals(EventStatus.PROVISIONING, event.status());
+                assertEquals(totalCapacity, event.availableTickets());
+                verify(provisioningRepository).save(argThat(provisioning ->
+                    provisioning.eventId().equals(event.eventId())
+                        && provisioning.status() == ProvisioningStatus.IN_PROGRESS
+                        && provisioning.generatedTickets() == 0
+                        && provisioning.totalTickets().equals(totalCapacity)));
+                verify(provisionEventTicketsUseCase).execute(event.eventId());
+            })
+            .verifyComplete();
+        verify(ticketRepository, never()).saveStream(any());
+    }
+}
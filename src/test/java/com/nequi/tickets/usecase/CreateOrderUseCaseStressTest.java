@@ -0,0 +1,133 @@
+package com.nequi.tickets.usecase;
+
+import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.InsufficientTicketsException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.model.TicketStatus;
+import com.nequi.tickets.infrastructure.id.UuidIdGenerator;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryEventRepository;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryOrderRepository;
+import com.nequi.tickets.infrastructure.repository.inmemory.InMemoryTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("stress")
+@DisplayName("CreateOrderUseCase Stress Tests")
+class CreateOrderUseCaseStressTest {
+    private static final String EVENT_ID = "flash-sale";
+    private static final int CAPACITY = 1_000;
+    private static final int ORDERS = 5_000;
+    private static final int THREADS = 64;
+    private static final int MAX_TICKETS_PER_ORDER = 4;
+    private InMemoryEventRepository eventRepository;
+    private InMemoryTicketRepository ticketRepository;
+    private InMemoryOrderRepository orderRepository;
+    private CreateOrderUseCase createOrderUseCase;
+    @BeforeEach
+    void setUp() {
+        eventRepository = new InMemoryEventRepository();
+        ticketRepository = new InMemoryTicketRepository();
+        orderRepository = new InMemoryOrderRepository();
+        BusinessProperties businessProperties = new BusinessProperties();
+        ReserveTicketsUseCase reserveTicketsUseCase = new ReserveTicketsUseCase(eventRepository, ticketRepository, businessProperties);
+        createOrderUseCase = new CreateOrderUseCase(eventRepository, orderRepository, ticketRepository,
+            reserveTicketsUseCase, order -> Mono.empty(), new UuidIdGenerator());
+        eventRepository.save(Event.create(EVENT_ID, "Flash sale", LocalDateTime.now().plusDays(30), "Arena", CAPACITY)).block();
+        ticketRepository.saveStream(Flux.range(0, CAPACITY)
+            .map(i -> Ticket.createAvailableTicket("ticket-" + i, EVENT_ID))).block();
+    }
+    @Test
+    @DisplayName("Should never oversell or double-assign tickets under thousands of concurrent orders")
+    void shouldKeepInventoryInvariantsUnderContention() throws InterruptedException {
+        ConcurrentLinkedQueue<Order> accepted = new ConcurrentLinkedQueue<>();
+        LongAdder soldOut = new LongAdder();
+        LongAdder conflicts = new LongAdder();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ORDERS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < ORDERS; i++) {
+            int quantity = 1 + i % MAX_TICKETS_PER_ORDER;
+            String customerId = "customer-" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    accepted.add(createOrderUseCase.execute(EVENT_ID, customerId, quantity).block());
+                } catch (InsufficientTicketsException e) {
+                    soldOut.increment();
+                } catch (ConcurrentModificationException e) {
+                    conflicts.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES), "Stress run did not finish in time");
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        executor.shutdownNow();
+        System.out.printf("Reservation stress: %d orders on %d threads in %.2fs (%.0f orders/s), "
+                + "accepted=%d, sold-out=%d, version conflicts=%d, unexpected=%d%n",
+            ORDERS, THREADS, elapsedSeconds, ORDERS / elapsedSeconds,
+            accepted.size(), soldOut.sum(), conflicts.sum(), unexpected.size());
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertFalse(accepted.isEmpty());
+        assertInventoryMatchesTickets(List.copyOf(accepted));
+    }
+    private void assertInventoryMatchesTickets(List<Order> accepted) {
+        Event event = eventRepository.findById(EVENT_ID).block();
+        List<Ticket> tickets = ticketRepository.findByEventId(EVENT_ID).collectList().block();
+        assertNotNull(event);
+        assertNotNull(tickets);
+        assertEquals(CAPACITY, tickets.size());
+        assertEquals(CAPACITY, event.availableTickets() + event.reservedTickets()
+            + event.getSoldTickets() + event.complimentaryTickets());
+        assertEquals(0, event.getSoldTickets());
+        Map<TicketStatus, Long> ticketsByStatus = tickets.stream()
+            .collect(Collectors.groupingBy(Ticket::status, Collectors.counting()));
+        assertEquals(event.availableTickets(), ticketsByStatus.getOrDefault(TicketStatus.AVAILABLE, 0L).intValue());
+        assertEquals(event.reservedTickets(), ticketsByStatus.getOrDefault(TicketStatus.RESERVED, 0L).intValue());
+        int acceptedTickets = accepted.stream().mapToInt(order -> order.ticketIds().size()).sum();
+        assertEquals(event.reservedTickets(), acceptedTickets);
+        Set<String> assigned = new HashSet<>();
+        for (Order order : accepted) {
+            for (String ticketId : order.ticketIds()) {
+                assertTrue(assigned.add(ticketId), () -> "Ticket " + ticketId + " assigned to more than one order");
+            }
+        }
+        Map<String, Ticket> ticketsById = tickets.stream().collect(Collectors.toMap(Ticket::ticketId, Function.identity()));
+        for (Order order : accepted) {
+            for (String ticketId : order.ticketIds()) {
+                assertEquals(order.orderId(), ticketsById.get(ticketId).orderId());
+            }
+        }
+    }
+}
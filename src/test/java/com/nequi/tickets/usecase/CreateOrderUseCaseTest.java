@@ -8,7 +8,8 @@ import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
-import com.nequi.tickets.domain.service.MessageQueueService;
+import com.nequi.tickets.domain.service.OrderDispatcher;
+import com.nequi.tickets.infrastructure.id.UuidIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,7 @@ class CreateOrderUseCaseTest {
     @Mock
     private ReserveTicketsUseCase reserveTicketsUseCase;
     @Mock
-    private MessageQueueService messageQueueService;
+    private OrderDispatcher orderDispatcher;
     private CreateOrderUseCase createOrderUseCase;
     @BeforeEach
     void setUp() {
@@ -50,7 +51,8 @@ class CreateOrderUseCaseTest {
             orderRepository,
             ticketRepository,
             reserveTicketsUseCase,
-            messageQueueService
+            orderDispatcher,
+            new UuidIdGenerator()
         );
     }
     @Test
@@ -68,7 +70,7 @@ class CreateOrderUseCaseTest {
         when(reserveTicketsUseCase.execute(eq(eventId), eq(customerId), eq(quantity), anyString())).thenReturn(Mono.just(reservedTickets));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(pendingOrder));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.fromIterable(reservedTickets));
-        when(messageQueueService.sendOrderForProcessing(anyString())).thenReturn(Mono.empty());
+        when(orderDispatcher.dispatch(any(Order.class))).thenReturn(Mono.empty());
         Mono<Order> result = createOrderUseCase.execute(eventId, customerId, quantity);
         StepVerifier.create(result)
             .assertNext(order -> {
@@ -83,7 +85,7 @@ class CreateOrderUseCaseTest {
         verify(reserveTicketsUseCase, times(1)).execute(eq(eventId), eq(customerId), eq(quantity), anyString());
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(ticketRepository, times(1)).saveAll(anyList());
-        verify(messageQueueService, times(1)).sendOrderForProcessing(anyString());
+        verify(orderDispatcher, times(1)).dispatch(any(Order.class));
     }
     @Test
     @DisplayName("Should throw EventNotFoundException when event does not exist")
@@ -100,7 +102,7 @@ class CreateOrderUseCaseTest {
         verifyNoInteractions(reserveTicketsUseCase);
         verifyNoInteractions(orderRepository);
         verifyNoInteractions(ticketRepository);
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @ParameterizedTest
     @NullAndEmptySource
@@ -116,7 +118,7 @@ class CreateOrderUseCaseTest {
         verifyNoInteractions(reserveTicketsUseCase);
         verifyNoInteractions(orderRepository);
         verifyNoInteractions(ticketRepository);
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @ParameterizedTest
     @NullAndEmptySource
@@ -132,7 +134,7 @@ class CreateOrderUseCaseTest {
         verifyNoInteractions(reserveTicketsUseCase);
         verifyNoInteractions(orderRepository);
         verifyNoInteractions(ticketRepository);
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @ParameterizedTest
     @ValueSource(ints = {0, -1, -10})
@@ -148,7 +150,7 @@ class CreateOrderUseCaseTest {
         verifyNoInteractions(reserveTicketsUseCase);
         verifyNoInteractions(orderRepository);
         verifyNoInteractions(ticketRepository);
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @Test
     @DisplayName("Should throw exception when quantity is null")
@@ -176,7 +178,7 @@ class CreateOrderUseCaseTest {
         verify(eventRepository, times(1)).findById(eventId);
         verify(reserveTicketsUseCase, times(1)).execute(eq(eventId), eq(customerId), eq(quantity), anyString());
         verifyNoInteractions(orderRepository);
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @Test
     @DisplayName("Should handle order repository save failure")
@@ -195,7 +197,7 @@ class CreateOrderUseCaseTest {
             .expectError(RuntimeException.class)
             .verify();
         verify(orderRepository, times(1)).save(any(Order.class));
-        verifyNoInteractions(messageQueueService);
+        verifyNoInteractions(orderDispatcher);
     }
     @Test
     @DisplayName("Should handle message queue service failure")
@@ -211,12 +213,12 @@ class CreateOrderUseCaseTest {
         when(reserveTicketsUseCase.execute(eq(eventId), eq(customerId), eq(quantity), anyString())).thenReturn(Mono.just(List.of(ticket)));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(pendingOrder));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket));
-        when(messageQueueService.sendOrderForProcessing(anyString())).thenReturn(Mono.error(queueError));
+        when(orderDispatcher.dispatch(any(Order.class))).thenReturn(Mono.error(queueError));
         Mono<Order> result = createOrderUseCase.execute(eventId, customerId, quantity);
         StepVerifier.create(result)
             .expectError(RuntimeException.class)
             .verify();
-        verify(messageQueueService, times(1)).sendOrderForProcessing(anyString());
+        verify(orderDispatcher, times(1)).dispatch(any(Order.class));
     }
     @Test
     @DisplayName("Should create order with single ticket")
@@ -231,7 +233,7 @@ class CreateOrderUseCaseTest {
         when(reserveTicketsUseCase.execute(eq(eventId), eq(customerId), eq(quantity), anyString())).thenReturn(Mono.just(List.of(ticket)));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(pendingOrder));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket));
-        when(messageQueueService.sendOrderForProcessing(anyString())).thenReturn(Mono.empty());
+        when(orderDispatcher.dispatch(any(Order.class))).thenReturn(Mono.empty());
         Mono<Order> result = createOrderUseCase.execute(eventId, customerId, quantity);
         StepVerifier.create(result)
             .assertNext(order -> {
@@ -254,7 +256,7 @@ class CreateOrderUseCaseTest {
         when(reserveTicketsUseCase.execute(eq(eventId), eq(customerId), eq(quantity), anyString())).thenReturn(Mono.just(tickets));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(pendingOrder));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.fromIterable(tickets));
-        when(messageQueueService.sendOrderForProcessing(anyString())).thenReturn(Mono.empty());
+        when(orderDispatcher.dispatch(any(Order.class))).thenReturn(Mono.empty());
         Mono<Order> result = createOrderUseCase.execute(eventId, customerId, quantity);
         StepVerifier.create(result)
             .assertNext(order -> {
@@ -277,7 +279,7 @@ class CreateOrderUseCaseTest {
         when(reserveTicketsUseCase.execute(eq(eventId), eq(customerId), eq(quantity), anyString())).thenReturn(Mono.just(tickets));
         when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(pendingOrder));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.fromIterable(tickets));
-        when(messageQueueService.sendOrderForProcessing(anyString())).thenReturn(Mono.empty());
+        when(orderDispatcher.dispatch(any(Order.class))).thenReturn(Mono.empty());
         Mono<Order> result = createOrderUseCase.execute(eventId, customerId, quantity);
         StepVerifier.create(result)
             .assertNext(order -> {
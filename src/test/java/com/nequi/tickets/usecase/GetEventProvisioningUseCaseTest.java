@@ -0,0 +1,71 @@
+package com.nequi.tickets.usecase;
+
+import com.nequi.tickets.domain.exception.EventNotFoundException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.domain.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetEventProvisioningUseCase Tests")
+class GetEventProvisioningUseCaseTest {
+    @Mock
+    private EventProvisioningRepository provisioningRepository;
+    @Mock
+    private EventRepository eventRepository;
+    private GetEventProvisioningUseCase getEventProvisioningUseCase;
+    @BeforeEach
+    void setUp() {
+        getEventProvisioningUseCase = new GetEventProvisioningUseCase(provisioningRepository, eventRepository);
+    }
+    @Test
+    @DisplayName("Should return stored provisioning progress")
+    void shouldReturnStoredProgress() {
+        EventProvisioning provisioning = EventProvisioning.start("event-123", 50000).advanceTo(10000);
+        when(provisioningRepository.findById("event-123")).thenReturn(Mono.just(provisioning));
+        StepVerifier.create(getEventProvisioningUseCase.execute("event-123"))
+            .assertNext(result -> {
+                assertEquals(10000, result.generatedTickets());
+                assertEquals(20.0, result.percentComplete());
+            })
+            .verifyComplete();
+        verifyNoInteractions(eventRepository);
+    }
+    @Test
+    @DisplayName("Should report completed provisioning for events created synchronously")
+    void shouldReportCompletedForSynchronousEvents() {
+        Event event = Event.create("event-123", "Rock Concert", LocalDateTime.now().plusDays(30), "Arena", 1000);
+        when(provisioningRepository.findById("event-123")).thenReturn(Mono.empty());
+        when(eventRepository.findById("event-123")).thenReturn(Mono.just(event));
+        StepVerifier.create(getEventProvisioningUseCase.execute("event-123"))
+            .assertNext(result -> {
+                assertEquals(ProvisioningStatus.COMPLETED, result.status());
+                assertEquals(1000, result.generatedTickets());
+                assertEquals(100.0, result.percentComplete());
+            })
+            .verifyComplete();
+    }
+    @Test
+    @DisplayName("Should throw EventNotFoundException when event does not exist")
+    void shouldThrowWhenEventDoesNotExist() {
+        when(provisioningRepository.findById("missing")).thenReturn(Mono.empty());
+        when(eventRepository.findById("missing")).thenReturn(Mono.empty());
+        StepVerifier.create(getEventProvisioningUseCase.execute("missing"))
+            .expectError(EventNotFoundException.class)
+            .verify();
+    }
+}
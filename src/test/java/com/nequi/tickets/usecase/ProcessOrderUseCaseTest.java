@@ -1,6 +1,7 @@
 package com.nequi.tickets.usecase;
 
 import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.exception.InvalidStateTransitionException;
 import com.nequi.tickets.domain.exception.OrderNotFoundException;
@@ -8,6 +9,7 @@ import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,8 @@ class ProcessOrderUseCaseTest {
     private EventRepository eventRepository;
     @Mock
     private BusinessProperties businessProperties;
+    @Mock
+    private OrderMetrics orderMetrics;
     
     @InjectMocks
     private ProcessOrderUseCase useCase;
@@ -78,7 +82,7 @@ class ProcessOrderUseCaseTest {
         Ticket ticket1Pending = ticket1.startConfirmation();
         Ticket ticket2Pending = ticket2.startConfirmation();
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(pendingOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.just(ticket1, ticket2));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticket1Pending, ticket2Pending));
         StepVerifier.create(useCase.execute(orderId))
@@ -87,7 +91,7 @@ class ProcessOrderUseCaseTest {
                 assertThat(result.status()).isEqualTo(OrderStatus.PROCESSING);
             })
             .verifyComplete();
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository).saveIfVersion(any(Order.class), eq(0));
         verify(ticketRepository).findByOrderId(anyString());
         verify(ticketRepository).saveAll(anyList());
     }
@@ -208,15 +212,135 @@ class ProcessOrderUseCaseTest {
             null
         );
         Order failedOrder = order.fail("Maximum retry attempts exceeded");
+        Ticket reservedTicket = new Ticket(
+            "ticket-1", "event-456", TicketStatus.RESERVED,
+            "customer-123", orderId, now, now.plusMinutes(10),
+            1, now, now
+        );
+        Event event = new Event(
+            "event-456", "Concert", now.plusDays(30), "Arena",
+            100, 99, 1, 0, 4, now, now, EventStatus.ACTIVE
+        );
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(failedOrder));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(reservedTicket));
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+        when(eventRepository.findById("event-456", ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(4))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.saveIfVersion(any(Order.class), eq(1))).thenReturn(Mono.just(failedOrder));
         StepVerifier.create(useCase.execute(orderId))
             .assertNext(result -> {
                 assertThat(result.status()).isEqualTo(OrderStatus.FAILED);
                 assertThat(result.failureReason()).contains("Maximum retry attempts exceeded");
             })
             .verifyComplete();
-        verify(orderRepository).save(any(Order.class));
+        verify(ticketRepository).saveAll(argThat(released -> released.stream()
+            .allMatch(ticket -> ticket.status() == TicketStatus.AVAILABLE)));
+        verify(eventRepository).saveIfVersion(argThat(released -> released.reservedTickets() == 0
+            && released.availableTickets() == 100), eq(4));
+        verify(orderRepository).saveIfVersion(any(Order.class), eq(1));
+        verify(orderMetrics).recordCompleted(failedOrder);
+    }
+    @Test
+    void execute_withProcessingOrderAlreadyProcessed_shouldReturnOrderWithoutUsingARetry() {
+        String orderId = "order-123";
+        String eventId = "event-456";
+        LocalDateTime now = LocalDateTime.now();
+        Order processingOrder = new Order(
+            orderId, eventId, "customer-789",
+            List.of("ticket-1"),
+            OrderStatus.PROCESSING,
+            1,
+            3,
+            1,
+            null,
+            now,
+            now,
+            null
+        );
+        Ticket pendingTicket = new Ticket(
+            "ticket-1", eventId, TicketStatus.RESERVED,
+            "customer-789", orderId, now, now.plusMinutes(10),
+            1, now, now
+        ).startConfirmation();
+        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(pendingTicket));
+        StepVerifier.create(useCase.execute(orderId))
+            .expectNext(processingOrder)
+            .verifyComplete();
+        verify(orderRepository, never()).saveIfVersion(any(Order.class), anyInt());
+        verify(ticketRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventRepository, orderMetrics);
+    }
+    @Test
+    void execute_withProcessingOrder_shouldResumeWithoutRestartingProcessing() {
+        String orderId = "order-123";
+        String eventId = "event-456";
+        String customerId = "customer-789";
+        LocalDateTime now = LocalDateTime.now();
+        Order processingOrder = new Order(
+            orderId, eventId, customerId,
+            List.of("ticket-1"),
+            OrderStatus.PROCESSING,
+            1,
+            1,
+            1,
+            null,
+            now,
+            now,
+            null
+        );
+        Ticket reservedTicket = new Ticket(
+            "ticket-1", eventId, TicketStatus.RESERVED,
+            customerId, orderId, now, now.plusMinutes(10),
+            1, now, now
+        );
+        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), eq(1)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(reservedTicket));
+        when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(reservedTicket.startConfirmation()));
+        StepVerifier.create(useCase.execute(orderId))
+            .assertNext(result -> {
+                assertThat(result.status()).isEqualTo(OrderStatus.PROCESSING);
+                assertThat(result.retryCount()).isEqualTo(2);
+            })
+            .verifyComplete();
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository).saveIfVersion(argThat(claimed -> 
+            claimed.status() == OrderStatus.PROCESSING && claimed.retryCount() == 2), eq(1));
+        verify(ticketRepository).saveAll(anyList());
+    }
+    @Test
+    void execute_withProcessingOrderClaimedConcurrently_shouldLeaveItToTheOtherWorker() {
+        String orderId = "order-123";
+        LocalDateTime now = LocalDateTime.now();
+        Order processingOrder = new Order(
+            orderId, "event-456", "customer-789",
+            List.of("ticket-1"),
+            OrderStatus.PROCESSING,
+            1,
+            2,
+            1,
+            null,
+            now,
+            now,
+            null
+        );
+        Ticket reservedTicket = new Ticket(
+            "ticket-1", "event-456", TicketStatus.RESERVED,
+            "customer-789", orderId, now, now.plusMinutes(10),
+            1, now, now
+        );
+        when(orderRepository.findById(orderId)).thenReturn(Mono.just(processingOrder));
+        when(ticketRepository.findByOrderId(orderId)).thenReturn(Flux.just(reservedTicket));
+        when(orderRepository.saveIfVersion(any(Order.class), eq(1)))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Order", orderId, 1, 2)));
+        StepVerifier.create(useCase.execute(orderId))
+            .expectError(ConcurrentModificationException.class)
+            .verify();
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(ticketRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventRepository);
     }
     @Test
     void execute_withInsufficientTicketsFound_shouldFailWithError() {
@@ -242,7 +366,7 @@ class ProcessOrderUseCaseTest {
             1, now, now
         );
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.just(ticket1)); 
         StepVerifier.create(useCase.execute(orderId))
             .expectError(InsufficientTicketsException.class)
@@ -272,7 +396,7 @@ class ProcessOrderUseCaseTest {
             1, now, now
         );
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.just(soldTicket));
         StepVerifier.create(useCase.execute(orderId))
             .assertNext(result -> {
@@ -299,7 +423,7 @@ class ProcessOrderUseCaseTest {
         );
         Order processingOrder = order.startProcessing();
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.error(new RuntimeException("Database error")));
         StepVerifier.create(useCase.execute(orderId))
             .expectErrorMatches(error -> 
@@ -327,7 +451,7 @@ class ProcessOrderUseCaseTest {
         Order processingOrder = order.startProcessing(); 
         Order failedOrder = processingOrder.fail("Processing failed after max retries: Database error");
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class)))
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt()))
             .thenReturn(Mono.just(processingOrder))
             .thenReturn(Mono.just(failedOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.error(new RuntimeException("Database error")));
@@ -363,7 +487,7 @@ class ProcessOrderUseCaseTest {
         );
         Ticket ticketPending = ticket.startConfirmation();
         when(orderRepository.findById(orderId)).thenReturn(Mono.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(processingOrder));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(processingOrder));
         when(ticketRepository.findByOrderId(anyString())).thenReturn(Flux.just(ticket));
         when(ticketRepository.saveAll(anyList())).thenReturn(Flux.just(ticketPending));
         StepVerifier.create(useCase.execute(orderId))
@@ -0,0 +1,182 @@
+package com.nequi.tickets.usecase;
+
+import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.EventNotFoundException;
+import com.nequi.tickets.domain.model.Event;
+import com.nequi.tickets.domain.model.EventProvisioning;
+import com.nequi.tickets.domain.model.EventStatus;
+import com.nequi.tickets.domain.model.ProvisioningStatus;
+import com.nequi.tickets.domain.model.ReadConsistency;
+import com.nequi.tickets.domain.model.Ticket;
+import com.nequi.tickets.domain.repository.EventProvisioningRepository;
+import com.nequi.tickets.domain.repository.EventRepository;
+import com.nequi.tickets.domain.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProvisionEventTicketsUseCase Tests")
+class ProvisionEventTicketsUseCaseTest {
+    private static final String EVENT_ID = "event-123";
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private EventProvisioningRepository provisioningRepository;
+    @Mock
+    private BusinessProperties businessProperties;
+    private ProvisionEventTicketsUseCase provisionEventTicketsUseCase;
+    @BeforeEach
+    void setUp() {
+        BusinessProperties.Event event = new BusinessProperties.Event();
+        event.setProvisioningCheckpointSize(2);
+        lenient().when(businessProperties.getEvent()).thenReturn(event);
+        lenient().when(provisioningRepository.saveIfVersion(any(EventProvisioning.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        provisionEventTicketsUseCase = new ProvisionEventTicketsUseCase(
+            eventRepository, ticketRepository, provisioningRepository, businessProperties);
+    }
+    @Test
+    @DisplayName("Should resume from the last checkpoint and activate the event when done")
+    void shouldResumeFromCheckpointAndActivateEvent() {
+        Event event = Event.createProvisioning(EVENT_ID, "Stadium Tour", LocalDateTime.now().plusDays(60), "Wembley", 5);
+        List<String> writtenTicketIds = new ArrayList<>();
+        when(provisioningRepository.findById(EVENT_ID))
+            .thenReturn(Mono.just(EventProvisioning.start(EVENT_ID, 5).advanceTo(2)));
+        when(ticketRepository.saveStream(any())).thenAnswer(invocation -> {
+            Flux<Ticket> tickets = invocation.getArgument(0);
+            return tickets.doOnNext(ticket -> writtenTicketIds.add(ticket.ticketId())).count();
+        });
+        when(eventRepository.findById(EVENT_ID, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        StepVerifier.create(provisionEventTicketsUseCase.execute(EVENT_ID))
+            .assertNext(provisioning -> {
+                assertEquals(ProvisioningStatus.COMPLETED, provisioning.status());
+                assertEquals(5, provisioning.generatedTickets());
+                assertNotNull(provisioning.completedAt());
+            })
+            .verifyComplete();
+        assertEquals(List.of("event-123-2", "event-123-3", "event-123-4"), writtenTicketIds);
+        verify(ticketRepository, times(2)).saveStream(any());
+        verify(eventRepository).saveIfVersion(argThat(saved -> saved.status() == EventStatus.ACTIVE), eq(event.version()));
+        verify(provisioningRepository).saveIfVersion(argThat(saved -> saved.generatedTickets() == 4
+            && saved.status() == ProvisioningStatus.IN_PROGRESS), eq(1));
+        assertFalse(provisionEventTicketsUseCase.isRunning(EVENT_ID));
+    }
+    @Test
+    @DisplayName("Should re-read the event and retry activation when its version changed")
+    void shouldRetryActivationOnVersionConflict() {
+        Event event = Event.createProvisioning(EVENT_ID, "Stadium Tour", LocalDateTime.now().plusDays(60), "Wembley", 2);
+        Event concurrentlyUpdated = event.reserveTickets(1);
+        when(provisioningRepository.findById(EVENT_ID)).thenReturn(Mono.just(EventProvisioning.start(EVENT_ID, 2)));
+        when(ticketRepository.saveStream(any())).thenReturn(Mono.just(2L));
+        when(eventRepository.findById(EVENT_ID, ReadConsistency.STRONG))
+            .thenReturn(Mono.just(event), Mono.just(concurrentlyUpdated));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(event.version())))
+            .thenReturn(Mono.error(new ConcurrentModificationException("Event", EVENT_ID, event.version(), concurrentlyUpdated.version())));
+        when(eventRepository.saveIfVersion(any(Event.class), eq(concurrentlyUpdated.version())))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        StepVerifier.create(provisionEventTicketsUseCase.execute(EVENT_ID))
+            .assertNext(provisioning -> assertEquals(ProvisioningStatus.COMPLETED, provisioning.status()))
+            .verifyComplete();
+        verify(eventRepository).saveIfVersion(argThat(saved -> saved.status() == EventStatus.ACTIVE
+            && saved.reservedTickets() == 1), eq(concurrentlyUpdated.version()));
+    }
+    @Test
+    @DisplayName("Should skip ticket generation when provisioning is already completed")
+    void shouldSkipCompletedProvisioning() {
+        EventProvisioning completed = EventProvisioning.start(EVENT_ID, 5).complete();
+        when(provisioningRepository.findById(EVENT_ID)).thenReturn(Mono.just(completed));
+        StepVerifier.create(provisionEventTicketsUseCase.execute(EVENT_ID))
+            .expectNext(completed)
+            .verifyComplete();
+        verifyNoInteractions(ticketRepository, eventRepository);
+    }
+    @Test
+    @DisplayName("Should record failure and keep checkpoint when a chunk cannot be written")
+    void shouldMarkProvisioningFailedOnWriteError() {
+        EventProvisioning checkpoint = EventProvisioning.start(EVENT_ID, 5).advanceTo(2);
+        when(provisioningRepository.findById(EVENT_ID)).thenReturn(Mono.just(checkpoint));
+        when(ticketRepository.saveStream(any())).thenReturn(Mono.error(new RuntimeException("Throttled")));
+        StepVerifier.create(provisionEventTicketsUseCase.execute(EVENT_ID))
+            .assertNext(provisioning -> {
+                assertEquals(ProvisioningStatus.FAILED, provisioning.status());
+                assertEquals(2, provisioning.generatedTickets());
+                assertEquals("Throttled", provisioning.failureReason());
+            })
+            .verifyComplete();
+        verify(eventRepository, never()).saveIfVersion(any(Event.class), anyInt());
+    }
+    @Test
+    @DisplayName("Should fail with EventNotFoundException when no provisioning job exists")
+    void shouldFailWhenProvisioningDoesNotExist() {
+        when(provisioningRepository.findById(EVENT_ID)).thenReturn(Mono.empty());
+        StepVerifier.create(provisionEventTicketsUseCase.execute(EVENT_ID))
+            .expectError(EventNotFoundException.class)
+            .verify();
+        verify(provisioningRepository, never()).saveIfVersion(any(EventProvisioning.class), anyInt());
+    }
+    @Test
+    @DisplayName("Should claim a stale job with a conditional write and count the attempt")
+    void shouldClaimStaleProvisioningBeforeResuming() {
+        EventProvisioning stale = EventProvisioning.start(EVENT_ID, 2).fail("Throttled");
+        when(ticketRepository.saveStream(any())).thenReturn(Mono.just(2L));
+        when(eventRepository.findById(EVENT_ID, ReadConsistency.STRONG)).thenReturn(Mono.just(
+            Event.createProvisioning(EVENT_ID, "Stadium Tour", LocalDateTime.now().plusDays(60), "Wembley", 2)));
+        when(eventRepository.saveIfVersion(any(Event.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        StepVerifier.create(provisionEventTicketsUseCase.resumeStale(stale))
+            .assertNext(provisioning -> {
+                assertEquals(ProvisioningStatus.COMPLETED, provisioning.status());
+                assertEquals(1, provisioning.attempts());
+            })
+            .verifyComplete();
+        verify(provisioningRepository).saveIfVersion(argThat(claimed -> claimed.status() == ProvisioningStatus.IN_PROGRESS
+            && claimed.attempts() == 1), eq(stale.version()));
+        verify(provisioningRepository, never()).findById(EVENT_ID);
+    }
+    @Test
+    @DisplayName("Should skip a stale job another instance claimed first")
+    void shouldSkipProvisioningClaimedElsewhere() {
+        EventProvisioning stale = EventProvisioning.start(EVENT_ID, 2).fail("Throttled");
+        when(provisioningRepository.saveIfVersion(any(EventProvisioning.class), eq(stale.version())))
+            .thenReturn(Mono.error(new ConcurrentModificationException("EventProvisioning", EVENT_ID, stale.version(), stale.version() + 1)));
+        StepVerifier.create(provisionEventTicketsUseCase.resumeStale(stale))
+            .verifyComplete();
+        verifyNoInteractions(ticketRepository, eventRepository);
+        assertFalse(provisionEventTicketsUseCase.isRunning(EVENT_ID));
+    }
+    @Test
+    @DisplayName("Should abandon a job once it has used up its resume attempts")
+    void shouldAbandonAfterMaxAttempts() {
+        EventProvisioning exhausted = EventProvisioning.start(EVENT_ID, 2);
+        for (int i = 0; i < 5; i++) {
+            exhausted = exhausted.claim().fail("Throttled");
+        }
+        StepVerifier.create(provisionEventTicketsUseCase.resumeStale(exhausted))
+            .assertNext(provisioning -> {
+                assertEquals(ProvisioningStatus.ABANDONED, provisioning.status());
+                assertEquals("Throttled", provisioning.failureReason());
+            })
+            .verifyComplete();
+        verifyNoInteractions(ticketRepository, eventRepository);
+    }
+}
@@ -4,6 +4,7 @@ import com.nequi.tickets.domain.model.*;
 import com.nequi.tickets.domain.repository.EventRepository;
 import com.nequi.tickets.domain.repository.OrderRepository;
 import com.nequi.tickets.domain.repository.TicketRepository;
+import com.nequi.tickets.domain.service.OrderMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -29,6 +30,8 @@ class ReleaseExpiredReservationsUseCaseTest {
     private EventRepository eventRepository;
     @Mock
     private OrderRepository orderRepository;
+    @Mock
+    private OrderMetrics orderMetrics;
     @InjectMocks
     private ReleaseExpiredReservationsUseCase useCase;
     @Test
@@ -79,7 +82,7 @@ class ReleaseExpiredReservationsUseCaseTest {
         when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
         when(eventRepository.updateInventory(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(Mono.just(event));
         when(orderRepository.findByIds(anyList())).thenReturn(Flux.just(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(order));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(order));
         StepVerifier.create(useCase.execute())
             .expectNext(2)
             .verifyComplete();
@@ -217,12 +220,13 @@ class ReleaseExpiredReservationsUseCaseTest {
         when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
         when(eventRepository.updateInventory(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(Mono.just(event));
         when(orderRepository.findByIds(List.of(order1Id, order2Id))).thenReturn(Flux.just(order1, order2));
-        when(orderRepository.save(any(Order.class))).thenReturn(Mono.just(order1), Mono.just(order2));
+        when(orderRepository.saveIfVersion(any(Order.class), anyInt())).thenReturn(Mono.just(order1), Mono.just(order2));
         StepVerifier.create(useCase.execute())
             .expectNext(2)
             .verifyComplete();
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
-        verify(orderRepository, times(2)).save(orderCaptor.capture());
+        verify(orderRepository, times(2)).saveIfVersion(orderCaptor.capture(), eq(1));
+        verify(orderMetrics, times(2)).recordCompleted(any(Order.class));
         List<Order> savedOrders = orderCaptor.getAllValues();
         assertThat(savedOrders).allMatch(order -> order.status() == OrderStatus.CANCELLED);
     }
@@ -260,7 +264,7 @@ class ReleaseExpiredReservationsUseCaseTest {
         StepVerifier.create(useCase.execute())
             .expectNext(1)
             .verifyComplete();
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository, never()).saveIfVersion(any(Order.class), anyInt());
     }
     @Test
     void execute_shouldNotCancelAlreadyCancelledOrders() {
@@ -296,7 +300,7 @@ class ReleaseExpiredReservationsUseCaseTest {
         StepVerifier.create(useCase.execute())
             .expectNext(1)
             .verifyComplete();
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRepository, never()).saveIfVersion(any(Order.class), anyInt());
     }
     @Test
     void execute_withEventUpdateError_shouldContinueDelayingError() {
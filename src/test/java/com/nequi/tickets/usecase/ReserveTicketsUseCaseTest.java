@@ -1,11 +1,14 @@
 package com.nequi.tickets.usecase;
 
 import com.nequi.tickets.config.BusinessProperties;
+import com.nequi.tickets.domain.exception.ConcurrentModificationException;
+import com.nequi.tickets.domain.exception.EventNotActiveException;
 import com.nequi.tickets.domain.exception.EventNotFoundException;
 import com.nequi.tickets.domain.exception.InsufficientTicketsException;
 import com.nequi.tickets.domain.exception.MaxTicketsExceededException;
 import com.nequi.tickets.domain.model.Event;
 import com.nequi.tickets.domain.model.Order;
+import com.nequi.tickets.domain.model.ReadConsistency;
 import com.nequi.tickets.domain.model.Ticket;
 import com.nequi.tickets.domain.model.TicketStatus;
 import com.nequi.tickets.domain.repository.EventRepository;
@@ -25,10 +28,12 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +53,7 @@ class ReserveTicketsUseCaseTest {
         BusinessProperties.Order order = new BusinessProperties.Order();
         order.setMaxTicketsPerOrder(10);
         lenient().when(businessProperties.getOrder()).thenReturn(order);
+        lenient().when(businessProperties.getReservation()).thenReturn(new BusinessProperties.Reservation());
         
         reserveTicketsUseCase = new ReserveTicketsUseCase(eventRepository, ticketRepository, businessProperties);
     }
@@ -72,14 +78,13 @@ class ReserveTicketsUseCaseTest {
             Ticket.createAvailableTicket("ticket-1", eventId),
             Ticket.createAvailableTicket("ticket-2", eventId)
         );
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(updatedEvent));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(event.version()), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.fromIterable(availableTickets));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
-        });
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .assertNext(tickets -> {
@@ -93,10 +98,10 @@ class ReserveTicketsUseCaseTest {
                 });
             })
             .verifyComplete();
-        verify(eventRepository, times(1)).findById(eventId);
-        verify(eventRepository, times(1)).save(any(Event.class));
+        verify(eventRepository, times(1)).findById(eventId, ReadConsistency.STRONG);
+        verify(eventRepository, times(1)).decrementAvailableTickets(eventId, 0, quantity, 798, 202);
         verify(ticketRepository, times(1)).findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
-        verify(ticketRepository, times(1)).saveAll(anyList());
+        verify(ticketRepository, times(2)).saveIfVersion(any(Ticket.class), eq(0));
     }
     @Test
     @DisplayName("Should throw EventNotFoundException when event does not exist")
@@ -105,16 +110,29 @@ class ReserveTicketsUseCaseTest {
         String customerId = "customer-789";
         Integer quantity = 2;
         String orderId = "order-456";
-        when(eventRepository.findById(eventId)).thenReturn(Mono.empty());
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.empty());
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .expectError(EventNotFoundException.class)
             .verify();
-        verify(eventRepository, times(1)).findById(eventId);
+        verify(eventRepository, times(1)).findById(eventId, ReadConsistency.STRONG);
         verifyNoMoreInteractions(eventRepository);
         verifyNoInteractions(ticketRepository);
     }
     @Test
+    @DisplayName("Should throw EventNotActiveException while event is still provisioning")
+    void shouldThrowEventNotActiveExceptionWhileProvisioning() {
+        String eventId = "event-123";
+        Event event = Event.createProvisioning(eventId, "Stadium Tour", LocalDateTime.now().plusDays(30), "Wembley", 50000);
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, "customer-789", 2, "order-456");
+        StepVerifier.create(result)
+            .expectError(EventNotActiveException.class)
+            .verify();
+        verify(eventRepository, never()).decrementAvailableTickets(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+        verifyNoInteractions(ticketRepository);
+    }
+    @Test
     @DisplayName("Should throw InsufficientTicketsException when not enough tickets available")
     void shouldThrowInsufficientTicketsExceptionWhenNotEnoughTickets() {
         String eventId = "event-123";
@@ -126,13 +144,13 @@ class ReserveTicketsUseCaseTest {
             "Venue", Integer.valueOf(1000), Integer.valueOf(2), Integer.valueOf(998), Integer.valueOf(0), Integer.valueOf(0),  
             LocalDateTime.now(), LocalDateTime.now()
         );
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .expectError(InsufficientTicketsException.class)
             .verify();
-        verify(eventRepository, times(1)).findById(eventId);
-        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventRepository, times(1)).findById(eventId, ReadConsistency.STRONG);
+        verify(eventRepository, never()).decrementAvailableTickets(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
         verifyNoInteractions(ticketRepository);
     }
     @Test
@@ -227,14 +245,13 @@ class ReserveTicketsUseCaseTest {
         List<Ticket> availableTickets = List.of(
             Ticket.createAvailableTicket("ticket-1", eventId)
         );
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(updatedEvent));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(event.version()), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.fromIterable(availableTickets));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
-        });
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .assertNext(tickets -> {
@@ -259,14 +276,13 @@ class ReserveTicketsUseCaseTest {
         List<Ticket> availableTickets = java.util.stream.IntStream.range(0, quantity)
             .mapToObj(i -> Ticket.createAvailableTicket("ticket-" + i, eventId))
             .toList();
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(updatedEvent));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(event.version()), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.fromIterable(availableTickets));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
-        });
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .assertNext(tickets -> {
@@ -291,14 +307,13 @@ class ReserveTicketsUseCaseTest {
         List<Ticket> availableTickets = List.of(
             Ticket.createAvailableTicket("ticket-1", eventId)
         );
-        when(eventRepository.findById(eventId)).thenReturn(Mono.just(event));
-        when(eventRepository.save(any(Event.class))).thenReturn(Mono.just(updatedEvent));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(event.version()), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
         when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
             .thenReturn(Flux.fromIterable(availableTickets));
-        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Ticket> tickets = invocation.getArgument(0);
-            return Flux.fromIterable(tickets);
-        });
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .assertNext(tickets -> {
@@ -310,6 +325,78 @@ class ReserveTicketsUseCaseTest {
             .verifyComplete();
     }
     @Test
+    @DisplayName("Should skip tickets already claimed by a concurrent order")
+    void shouldSkipTicketsClaimedConcurrently() {
+        String eventId = "event-123";
+        Integer quantity = 2;
+        Event event = Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Venue", 100);
+        Event updatedEvent = event.reserveTickets(quantity);
+        List<Ticket> availableTickets = List.of(
+            Ticket.createAvailableTicket("ticket-1", eventId),
+            Ticket.createAvailableTicket("ticket-2", eventId),
+            Ticket.createAvailableTicket("ticket-3", eventId)
+        );
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(0), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
+        when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
+            .thenReturn(Flux.fromIterable(availableTickets));
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt())).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            return "ticket-1".equals(ticket.ticketId())
+                ? Mono.error(new ConcurrentModificationException("Ticket", ticket.ticketId(), 0, 1))
+                : Mono.just(ticket);
+        });
+        StepVerifier.create(reserveTicketsUseCase.execute(eventId, "customer-789", quantity, "order-456"))
+            .assertNext(tickets -> assertEquals(Set.of("ticket-2", "ticket-3"),
+                tickets.stream().map(Ticket::ticketId).collect(Collectors.toSet())))
+            .verifyComplete();
+    }
+    @Test
+    @DisplayName("Should retry the inventory decrement on a version conflict")
+    void shouldRetryInventoryDecrementOnVersionConflict() {
+        String eventId = "event-123";
+        Event event = Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Venue", 100);
+        Event updatedEvent = event.reserveTickets(1);
+        AtomicInteger attempts = new AtomicInteger();
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.just(event));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(0), eq(1), anyInt(), anyInt()))
+            .thenReturn(Mono.defer(() -> attempts.getAndIncrement() == 0
+                ? Mono.error(new ConcurrentModificationException("Event", eventId, 0, 1))
+                : Mono.just(updatedEvent)));
+        when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
+            .thenReturn(Flux.just(Ticket.createAvailableTicket("ticket-1", eventId)));
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        StepVerifier.create(reserveTicketsUseCase.execute(eventId, "customer-789", 1, "order-456"))
+            .assertNext(tickets -> assertEquals(1, tickets.size()))
+            .verifyComplete();
+        assertEquals(2, attempts.get());
+    }
+    @Test
+    @DisplayName("Should roll back inventory and claimed tickets when not enough tickets can be claimed")
+    void shouldRollBackWhenTicketsCannotBeClaimed() {
+        String eventId = "event-123";
+        Integer quantity = 2;
+        Event event = Event.create(eventId, "Concert", LocalDateTime.now().plusDays(30), "Venue", 100);
+        Event updatedEvent = event.reserveTickets(quantity);
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG))
+            .thenReturn(Mono.just(event), Mono.just(updatedEvent));
+        when(eventRepository.decrementAvailableTickets(eq(eventId), eq(0), eq(quantity), anyInt(), anyInt()))
+            .thenReturn(Mono.just(updatedEvent));
+        when(eventRepository.updateInventory(eventId, updatedEvent.version(), 100, 0))
+            .thenReturn(Mono.just(event));
+        when(ticketRepository.findByEventIdAndStatus(eventId, TicketStatus.AVAILABLE))
+            .thenReturn(Flux.just(Ticket.createAvailableTicket("ticket-1", eventId)));
+        when(ticketRepository.saveIfVersion(any(Ticket.class), anyInt()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        StepVerifier.create(reserveTicketsUseCase.execute(eventId, "customer-789", quantity, "order-456"))
+            .expectError(InsufficientTicketsException.class)
+            .verify();
+        verify(eventRepository).updateInventory(eventId, updatedEvent.version(), 100, 0);
+        verify(ticketRepository).saveIfVersion(argThat(ticket -> ticket.status() == TicketStatus.AVAILABLE), eq(1));
+    }
+    @Test
     @DisplayName("Should handle repository error gracefully")
     void shouldHandleRepositoryErrorGracefully() {
         String eventId = "event-123";
@@ -317,7 +404,7 @@ class ReserveTicketsUseCaseTest {
         Integer quantity = 2;
         String orderId = "order-456";
         RuntimeException repositoryError = new RuntimeException("Database connection failed");
-        when(eventRepository.findById(eventId)).thenReturn(Mono.error(repositoryError));
+        when(eventRepository.findById(eventId, ReadConsistency.STRONG)).thenReturn(Mono.error(repositoryError));
         Mono<List<Ticket>> result = reserveTicketsUseCase.execute(eventId, customerId, quantity, orderId);
         StepVerifier.create(result)
             .expectError(RuntimeException.class)